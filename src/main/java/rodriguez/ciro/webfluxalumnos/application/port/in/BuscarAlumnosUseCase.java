@@ -0,0 +1,8 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+public interface BuscarAlumnosUseCase {
+  Flux<SugerenciaAlumno> buscarPorPrefijo(String texto, int limite);
+}
@@ -0,0 +1,9 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+public interface CargarAlumnosUseCase {
+  Flux<ResultadoCargaAlumno> cargarAlumnos(Flux<Alumno> alumnos);
+}
@@ -0,0 +1,14 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.FilaImportacion;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+
+public interface ImportarAlumnosUseCase {
+  ImportacionAlumnos iniciarImportacion(Flux<FilaImportacion> filas, long totalFilas);
+
+  Mono<ImportacionAlumnos> consultarImportacion(String id);
+
+  Mono<ImportacionAlumnos> cancelarImportacion(String id);
+}
@@ -0,0 +1,16 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import java.util.Set;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+public interface ListarAlumnosUseCase {
+  /**
+   * Hasta {@code size} alumnos que cumplen el filtro, por ID, después de {@code ultimoId}. Los
+   * campos no pedidos quedan en {@code null}, salvo el ID.
+   */
+  Flux<Alumno> listarAlumnos(
+      FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size);
+}
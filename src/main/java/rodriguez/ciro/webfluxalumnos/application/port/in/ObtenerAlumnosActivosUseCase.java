@@ -1,8 +1,22 @@
 package rodriguez.ciro.webfluxalumnos.application.port.in;
 
+import java.util.Set;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
 
 public interface ObtenerAlumnosActivosUseCase {
-  Flux<Alumno> obtenerAlumnosActivos(int page, int size);
+  /** Página de alumnos activos; los campos no pedidos quedan en {@code null}, salvo el ID. */
+  Flux<Alumno> obtenerAlumnosActivos(int page, int size, Set<CampoAlumno> campos);
+
+  /** Como {@link #obtenerAlumnosActivos}, pero por cursor a partir de ultimoId. */
+  Flux<Alumno> obtenerAlumnosActivosDespuesDe(Long ultimoId, int size, Set<CampoAlumno> campos);
+
+  /** Todos los alumnos activos; los campos no pedidos quedan en {@code null}, salvo el ID. */
+  Flux<Alumno> exportarAlumnosActivos(Set<CampoAlumno> campos);
+
+  Mono<Long> contarAlumnosActivos();
+
+  long obtenerVersionAlumnos();
 }
@@ -0,0 +1,13 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+public interface ObtenerAlumnosPorIdUseCase {
+  Mono<Alumno> obtenerAlumno(Long id);
+
+  /** Alumnos en el orden de los IDs pedidos, sin repetidos; los IDs inexistentes se omiten. */
+  Flux<Alumno> obtenerAlumnos(List<Long> ids);
+}
@@ -0,0 +1,8 @@
+package rodriguez.ciro.webfluxalumnos.application.port.in;
+
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+public interface ObtenerEstadisticasAlumnosUseCase {
+  Mono<EstadisticasAlumnos> obtenerEstadisticas();
+}
@@ -1,13 +1,49 @@
 package rodriguez.ciro.webfluxalumnos.application.port.out;
 
+import java.util.Collection;
+import java.util.Set;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
 
 public interface AlumnoRepositoryPort {
   Mono<Void> save(Alumno alumno);
 
+  Flux<ResultadoCargaAlumno> saveAll(Flux<Alumno> alumnos);
+
   Mono<Boolean> existsById(Long id);
 
-  Flux<Alumno> findAlumnosActivosPaginados(int page, int size);
+  /** Alumnos con los IDs indicados, en el orden pedido y sin repetidos. */
+  Flux<Alumno> findAllById(Collection<Long> ids);
+
+  /**
+   * Alumnos cuyo nombre, apellido o nombre completo empieza con el texto, sin distinguir mayúsculas
+   * ni acentos.
+   */
+  Flux<SugerenciaAlumno> buscarPorPrefijo(String texto, int limite);
+
+  /** Página de alumnos activos con solo los campos pedidos (y siempre el ID). */
+  Flux<Alumno> findAlumnosActivosPaginados(int page, int size, Set<CampoAlumno> campos);
+
+  /** Alumnos activos después de ultimoId con solo los campos pedidos (y siempre el ID). */
+  Flux<Alumno> findAlumnosActivosDespuesDe(Long ultimoId, int size, Set<CampoAlumno> campos);
+
+  /**
+   * Hasta {@code size} alumnos que cumplen el filtro, ordenados por ID y después de ultimoId, con
+   * solo los campos pedidos (y siempre el ID).
+   */
+  Flux<Alumno> findAlumnos(FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size);
+
+  /** Todos los alumnos activos con solo los campos pedidos (y siempre el ID). */
+  Flux<Alumno> streamAlumnosActivos(Set<CampoAlumno> campos);
+
+  Mono<Long> contarAlumnosActivos();
+
+  /** Cantidades por estado y rango de edad, sin consultar la base de datos por cada lectura. */
+  Mono<EstadisticasAlumnos> obtenerEstadisticas();
 }
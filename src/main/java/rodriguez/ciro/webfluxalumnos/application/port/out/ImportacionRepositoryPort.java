@@ -0,0 +1,15 @@
+package rodriguez.ciro.webfluxalumnos.application.port.out;
+
+import java.util.Optional;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+
+/**
+ * Importaciones consultables por ID. Las que están en curso se conservan siempre; las terminadas,
+ * durante el tiempo de retención que defina la implementación.
+ */
+public interface ImportacionRepositoryPort {
+  /** Guarda la importación. Volver a guardarla al terminar inicia su retención. */
+  void save(ImportacionAlumnos importacion);
+
+  Optional<ImportacionAlumnos> findById(String id);
+}
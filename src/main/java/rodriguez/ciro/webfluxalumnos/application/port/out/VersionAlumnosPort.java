@@ -0,0 +1,10 @@
+package rodriguez.ciro.webfluxalumnos.application.port.out;
+
+/** Versión de los datos de alumnos, para validar respuestas ya enviadas sin volver a leerlas. */
+public interface VersionAlumnosPort {
+  /**
+   * Versión de los datos, que aumenta con cada alumno guardado por esta instancia una vez que las
+   * lecturas ya lo incluyen.
+   */
+  long obtenerVersion();
+}
@@ -0,0 +1,36 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.in.BuscarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+@Service
+public class BuscarAlumnosService implements BuscarAlumnosUseCase {
+
+  static final int LONGITUD_MAXIMA = 100;
+  static final int LIMITE_MAXIMO = 50;
+
+  private final AlumnoRepositoryPort alumnoRepository;
+
+  public BuscarAlumnosService(AlumnoRepositoryPort alumnoRepository) {
+    this.alumnoRepository = alumnoRepository;
+  }
+
+  @Override
+  public Flux<SugerenciaAlumno> buscarPorPrefijo(String texto, int limite) {
+    return Flux.defer(
+        () -> {
+          if (texto == null || texto.isBlank() || texto.length() > LONGITUD_MAXIMA) {
+            throw new IllegalArgumentException(
+                "El texto de búsqueda debe tener entre 1 y " + LONGITUD_MAXIMA + " caracteres");
+          }
+          if (limite <= 0 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException(
+                "La cantidad de sugerencias debe ser entre 1 y " + LIMITE_MAXIMO);
+          }
+          return alumnoRepository.buscarPorPrefijo(texto, limite);
+        });
+  }
+}
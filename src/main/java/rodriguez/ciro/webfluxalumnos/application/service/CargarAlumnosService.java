@@ -0,0 +1,49 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CargarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+@Service
+public class CargarAlumnosService implements CargarAlumnosUseCase {
+
+  private final AlumnoRepositoryPort alumnoRepository;
+
+  public CargarAlumnosService(AlumnoRepositoryPort alumnoRepository) {
+    this.alumnoRepository = alumnoRepository;
+  }
+
+  @Override
+  public Flux<ResultadoCargaAlumno> cargarAlumnos(Flux<Alumno> alumnos) {
+    return alumnos
+        .map(this::validar)
+        .publish(
+            validados ->
+                Flux.merge(
+                    validados
+                        .filter(validado -> validado.error() != null)
+                        .map(
+                            validado ->
+                                ResultadoCargaAlumno.invalido(
+                                    validado.alumno().getId(), validado.error())),
+                    alumnoRepository.saveAll(
+                        validados
+                            .filter(validado -> validado.error() == null)
+                            .map(AlumnoValidado::alumno))));
+  }
+
+  private AlumnoValidado validar(Alumno alumno) {
+    try {
+      alumno.validar();
+      return new AlumnoValidado(alumno, null);
+    } catch (AlumnoInvalidoException ex) {
+      return new AlumnoValidado(alumno, ex.getMessage());
+    }
+  }
+
+  private record AlumnoValidado(Alumno alumno, String error) {}
+}
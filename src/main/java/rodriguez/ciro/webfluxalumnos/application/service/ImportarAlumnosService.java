@@ -0,0 +1,97 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CargarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ImportarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.ImportacionRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.FilaImportacion;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+/**
+ * Ejecuta las importaciones en segundo plano. Las filas rechazadas al leer el archivo se cuentan
+ * como inválidas con su motivo; el resto se carga como en la carga masiva.
+ */
+@Service
+public class ImportarAlumnosService implements ImportarAlumnosUseCase {
+
+  private static final Logger logger = LoggerFactory.getLogger(ImportarAlumnosService.class);
+
+  private final CargarAlumnosUseCase cargarAlumnosUseCase;
+  private final ImportacionRepositoryPort importacionRepository;
+  private final Map<String, Sinks.One<Boolean>> cancelaciones = new ConcurrentHashMap<>();
+
+  public ImportarAlumnosService(
+      CargarAlumnosUseCase cargarAlumnosUseCase, ImportacionRepositoryPort importacionRepository) {
+    this.cargarAlumnosUseCase = cargarAlumnosUseCase;
+    this.importacionRepository = importacionRepository;
+  }
+
+  @Override
+  public ImportacionAlumnos iniciarImportacion(Flux<FilaImportacion> filas, long totalFilas) {
+    String id = UUID.randomUUID().toString();
+    ImportacionAlumnos importacion = new ImportacionAlumnos(id, totalFilas, Instant.now());
+    Sinks.One<Boolean> cancelacion = Sinks.one();
+    importacionRepository.save(importacion);
+    cancelaciones.put(id, cancelacion);
+
+    cargar(filas)
+        .takeUntilOther(cancelacion.asMono())
+        .doOnNext(importacion::registrar)
+        .doFinally(
+            signal -> {
+              cancelaciones.remove(id);
+              importacionRepository.save(importacion);
+            })
+        .subscribe(
+            resultado -> {},
+            ex -> {
+              logger.error("Error en la importación {}: ", id, ex);
+              importacion.fallar(ex.getMessage());
+            },
+            importacion::completar);
+    return importacion;
+  }
+
+  @Override
+  public Mono<ImportacionAlumnos> consultarImportacion(String id) {
+    return Mono.justOrEmpty(importacionRepository.findById(id));
+  }
+
+  @Override
+  public Mono<ImportacionAlumnos> cancelarImportacion(String id) {
+    return Mono.justOrEmpty(importacionRepository.findById(id))
+        .doOnNext(
+            importacion -> {
+              if (importacion.cancelar()) {
+                Sinks.One<Boolean> cancelacion = cancelaciones.remove(id);
+                if (cancelacion != null) {
+                  cancelacion.tryEmitValue(Boolean.TRUE);
+                }
+              }
+            });
+  }
+
+  private Flux<ResultadoCargaAlumno> cargar(Flux<FilaImportacion> filas) {
+    return filas.publish(
+        leidas ->
+            Flux.merge(
+                leidas
+                    .filter(fila -> !fila.esValida())
+                    .map(
+                        fila ->
+                            ResultadoCargaAlumno.invalido(
+                                fila.getAlumno().getId(), fila.getError())),
+                cargarAlumnosUseCase.cargarAlumnos(
+                    leidas.filter(FilaImportacion::esValida).map(FilaImportacion::getAlumno))));
+  }
+}
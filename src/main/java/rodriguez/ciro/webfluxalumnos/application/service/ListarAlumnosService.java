@@ -0,0 +1,68 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import java.util.Set;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ListarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+@Service
+public class ListarAlumnosService implements ListarAlumnosUseCase {
+
+  static final int EDAD_MAXIMA = 150;
+
+  private final AlumnoRepositoryPort alumnoRepository;
+
+  public ListarAlumnosService(AlumnoRepositoryPort alumnoRepository) {
+    this.alumnoRepository = alumnoRepository;
+  }
+
+  @Override
+  public Flux<Alumno> listarAlumnos(
+      FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size) {
+    return Flux.defer(
+        () -> {
+          FiltroAlumnos aplicado = filtro != null ? filtro : FiltroAlumnos.sinFiltros();
+          validarFiltro(aplicado);
+          validarCursor(ultimoId);
+          validarTamanoPagina(size);
+          return alumnoRepository.findAlumnos(aplicado, camposPedidos(campos), ultimoId, size);
+        });
+  }
+
+  private Set<CampoAlumno> camposPedidos(Set<CampoAlumno> campos) {
+    return campos == null || campos.isEmpty() ? CampoAlumno.TODOS : campos;
+  }
+
+  private void validarFiltro(FiltroAlumnos filtro) {
+    validarEdad(filtro.getEdadMin());
+    validarEdad(filtro.getEdadMax());
+    if (filtro.getEdadMin() != null
+        && filtro.getEdadMax() != null
+        && filtro.getEdadMin() > filtro.getEdadMax()) {
+      throw new IllegalArgumentException("La edad mínima no puede ser mayor que la edad máxima");
+    }
+  }
+
+  private void validarEdad(Integer edad) {
+    if (edad != null && (edad <= 0 || edad > EDAD_MAXIMA)) {
+      throw new IllegalArgumentException(
+          "Las edades del filtro deben estar entre 1 y " + EDAD_MAXIMA);
+    }
+  }
+
+  private void validarTamanoPagina(int size) {
+    if (size <= 0 || size > 100) {
+      throw new IllegalArgumentException("El tamaño de página debe ser entre 1 y 100");
+    }
+  }
+
+  private void validarCursor(Long ultimoId) {
+    if (ultimoId != null && ultimoId < 0) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido");
+    }
+  }
+}
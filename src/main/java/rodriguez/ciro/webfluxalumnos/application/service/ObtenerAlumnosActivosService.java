@@ -1,35 +1,83 @@
 package rodriguez.ciro.webfluxalumnos.application.service;
 
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
 import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.application.port.out.VersionAlumnosPort;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
 
 @Service
 public class ObtenerAlumnosActivosService implements ObtenerAlumnosActivosUseCase {
 
   private final AlumnoRepositoryPort alumnoRepository;
+  private final VersionAlumnosPort versionAlumnos;
 
-  public ObtenerAlumnosActivosService(AlumnoRepositoryPort alumnoRepository) {
+  public ObtenerAlumnosActivosService(
+      AlumnoRepositoryPort alumnoRepository, VersionAlumnosPort versionAlumnos) {
     this.alumnoRepository = alumnoRepository;
+    this.versionAlumnos = versionAlumnos;
   }
 
   @Override
-  public Flux<Alumno> obtenerAlumnosActivos(int page, int size) {
+  public Flux<Alumno> obtenerAlumnosActivos(int page, int size, Set<CampoAlumno> campos) {
     return Flux.defer(
         () -> {
           validarParametrosPaginacion(page, size);
-          return alumnoRepository.findAlumnosActivosPaginados(page, size);
+          return alumnoRepository.findAlumnosActivosPaginados(page, size, camposPedidos(campos));
         });
   }
 
+  @Override
+  public Flux<Alumno> obtenerAlumnosActivosDespuesDe(
+      Long ultimoId, int size, Set<CampoAlumno> campos) {
+    return Flux.defer(
+        () -> {
+          validarCursor(ultimoId);
+          validarTamanoPagina(size);
+          return alumnoRepository.findAlumnosActivosDespuesDe(
+              ultimoId, size, camposPedidos(campos));
+        });
+  }
+
+  @Override
+  public Flux<Alumno> exportarAlumnosActivos(Set<CampoAlumno> campos) {
+    return alumnoRepository.streamAlumnosActivos(camposPedidos(campos));
+  }
+
+  @Override
+  public Mono<Long> contarAlumnosActivos() {
+    return alumnoRepository.contarAlumnosActivos();
+  }
+
+  @Override
+  public long obtenerVersionAlumnos() {
+    return versionAlumnos.obtenerVersion();
+  }
+
+  private static Set<CampoAlumno> camposPedidos(Set<CampoAlumno> campos) {
+    return campos == null || campos.isEmpty() ? CampoAlumno.TODOS : campos;
+  }
+
   private void validarParametrosPaginacion(int page, int size) {
     if (page < 1) {
       throw new IllegalArgumentException("El número de página debe ser mayor o igual a 1");
     }
+    validarTamanoPagina(size);
+  }
+
+  private void validarTamanoPagina(int size) {
     if (size <= 0 || size > 100) {
       throw new IllegalArgumentException("El tamaño de página debe ser entre 1 y 100");
     }
   }
+
+  private void validarCursor(Long ultimoId) {
+    if (ultimoId == null || ultimoId < 0) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido");
+    }
+  }
 }
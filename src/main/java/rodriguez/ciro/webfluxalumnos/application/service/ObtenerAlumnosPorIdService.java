@@ -0,0 +1,53 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosPorIdUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+@Service
+public class ObtenerAlumnosPorIdService implements ObtenerAlumnosPorIdUseCase {
+
+  static final int MAXIMO_IDS = 100;
+
+  private final AlumnoRepositoryPort alumnoRepository;
+
+  public ObtenerAlumnosPorIdService(AlumnoRepositoryPort alumnoRepository) {
+    this.alumnoRepository = alumnoRepository;
+  }
+
+  @Override
+  public Mono<Alumno> obtenerAlumno(Long id) {
+    return Flux.defer(
+            () -> {
+              validarId(id);
+              return alumnoRepository.findAllById(List.of(id));
+            })
+        .next()
+        .switchIfEmpty(
+            Mono.error(
+                () -> new AlumnoNoEncontradoException("No existe un alumno con el ID: " + id)));
+  }
+
+  @Override
+  public Flux<Alumno> obtenerAlumnos(List<Long> ids) {
+    return Flux.defer(
+        () -> {
+          if (ids == null || ids.isEmpty() || ids.size() > MAXIMO_IDS) {
+            throw new IllegalArgumentException("Se deben indicar entre 1 y " + MAXIMO_IDS + " IDs");
+          }
+          ids.forEach(this::validarId);
+          return alumnoRepository.findAllById(ids);
+        });
+  }
+
+  private void validarId(Long id) {
+    if (id == null || id <= 0) {
+      throw new IllegalArgumentException("El ID del alumno debe ser un número positivo");
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerEstadisticasAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+@Service
+public class ObtenerEstadisticasAlumnosService implements ObtenerEstadisticasAlumnosUseCase {
+
+  private final AlumnoRepositoryPort alumnoRepository;
+
+  public ObtenerEstadisticasAlumnosService(AlumnoRepositoryPort alumnoRepository) {
+    this.alumnoRepository = alumnoRepository;
+  }
+
+  @Override
+  public Mono<EstadisticasAlumnos> obtenerEstadisticas() {
+    return alumnoRepository.obtenerEstadisticas();
+  }
+}
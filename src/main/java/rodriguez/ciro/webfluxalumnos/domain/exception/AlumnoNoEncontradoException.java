@@ -0,0 +1,7 @@
+package rodriguez.ciro.webfluxalumnos.domain.exception;
+
+public class AlumnoNoEncontradoException extends RuntimeException {
+  public AlumnoNoEncontradoException(String message) {
+    super(message);
+  }
+}
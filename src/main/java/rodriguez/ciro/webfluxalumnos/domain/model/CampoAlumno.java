@@ -0,0 +1,57 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Campos de un alumno que se pueden pedir por separado en los listados y la exportación. */
+public enum CampoAlumno {
+  ID("id"),
+  NOMBRE("nombre"),
+  APELLIDO("apellido"),
+  ESTADO("estado"),
+  EDAD("edad");
+
+  public static final Set<CampoAlumno> TODOS =
+      Collections.unmodifiableSet(EnumSet.allOf(CampoAlumno.class));
+
+  private static final String PERMITIDOS =
+      Stream.of(values()).map(CampoAlumno::getNombre).collect(Collectors.joining(", "));
+
+  private final String nombre;
+
+  CampoAlumno(String nombre) {
+    this.nombre = nombre;
+  }
+
+  public String getNombre() {
+    return nombre;
+  }
+
+  /**
+   * Convierte una lista separada por comas, como {@code "id,nombre"}, en los campos que nombra. Sin
+   * lista se devuelven todos los campos; un nombre fuera de la lista permitida es un error.
+   */
+  public static Set<CampoAlumno> parsear(String campos) {
+    if (campos == null || campos.isBlank()) {
+      return TODOS;
+    }
+    EnumSet<CampoAlumno> resultado = EnumSet.noneOf(CampoAlumno.class);
+    for (String parte : campos.split(",")) {
+      resultado.add(porNombre(parte.strip()));
+    }
+    return Collections.unmodifiableSet(resultado);
+  }
+
+  private static CampoAlumno porNombre(String nombre) {
+    for (CampoAlumno campo : values()) {
+      if (campo.nombre.equals(nombre)) {
+        return campo;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Campo desconocido: '" + nombre + "'. Los campos permitidos son " + PERMITIDOS);
+  }
+}
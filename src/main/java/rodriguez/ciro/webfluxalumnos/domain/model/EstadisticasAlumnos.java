@@ -0,0 +1,58 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/** Cantidad de alumnos por estado, en total y por rango de edad. */
+public class EstadisticasAlumnos {
+
+  private final Map<Alumno.Estado, Long> porEstado;
+  private final List<RangoEdad> porRangoEdad;
+
+  public EstadisticasAlumnos(Map<Alumno.Estado, Long> porEstado, List<RangoEdad> porRangoEdad) {
+    this.porEstado = Map.copyOf(porEstado);
+    this.porRangoEdad = List.copyOf(porRangoEdad);
+  }
+
+  public long getTotal() {
+    return porEstado.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  public long contar(Alumno.Estado estado) {
+    return porEstado.getOrDefault(estado, 0L);
+  }
+
+  public List<RangoEdad> getPorRangoEdad() {
+    return porRangoEdad;
+  }
+
+  /** Alumnos con edad entre {@code desde} y {@code hasta}, ambos incluidos. */
+  public static class RangoEdad {
+
+    private final int desde;
+    private final int hasta;
+    private final Map<Alumno.Estado, Long> porEstado;
+
+    public RangoEdad(int desde, int hasta, Map<Alumno.Estado, Long> porEstado) {
+      this.desde = desde;
+      this.hasta = hasta;
+      this.porEstado = Map.copyOf(porEstado);
+    }
+
+    public int getDesde() {
+      return desde;
+    }
+
+    public int getHasta() {
+      return hasta;
+    }
+
+    public long getTotal() {
+      return porEstado.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long contar(Alumno.Estado estado) {
+      return porEstado.getOrDefault(estado, 0L);
+    }
+  }
+}
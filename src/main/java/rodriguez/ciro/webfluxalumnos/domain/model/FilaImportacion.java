@@ -0,0 +1,36 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+/**
+ * Fila leída de un archivo de importación: un alumno para cargar o, si la fila no se pudo aceptar,
+ * el motivo del rechazo junto con lo que se pudo leer de ella.
+ */
+public class FilaImportacion {
+
+  private final Alumno alumno;
+  private final String error;
+
+  private FilaImportacion(Alumno alumno, String error) {
+    this.alumno = alumno;
+    this.error = error;
+  }
+
+  public static FilaImportacion valida(Alumno alumno) {
+    return new FilaImportacion(alumno, null);
+  }
+
+  public static FilaImportacion invalida(Alumno alumno, String error) {
+    return new FilaImportacion(alumno, error);
+  }
+
+  public boolean esValida() {
+    return error == null;
+  }
+
+  public Alumno getAlumno() {
+    return alumno;
+  }
+
+  public String getError() {
+    return error;
+  }
+}
@@ -0,0 +1,53 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.util.Objects;
+
+/** Condiciones opcionales del listado de alumnos; un valor {@code null} no filtra. */
+public class FiltroAlumnos {
+
+  private final Alumno.Estado estado;
+  private final Integer edadMin;
+  private final Integer edadMax;
+
+  public FiltroAlumnos(Alumno.Estado estado, Integer edadMin, Integer edadMax) {
+    this.estado = estado;
+    this.edadMin = edadMin;
+    this.edadMax = edadMax;
+  }
+
+  public static FiltroAlumnos sinFiltros() {
+    return new FiltroAlumnos(null, null, null);
+  }
+
+  public Alumno.Estado getEstado() {
+    return estado;
+  }
+
+  public Integer getEdadMin() {
+    return edadMin;
+  }
+
+  public Integer getEdadMax() {
+    return edadMax;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FiltroAlumnos that = (FiltroAlumnos) o;
+    return estado == that.estado
+        && Objects.equals(edadMin, that.edadMin)
+        && Objects.equals(edadMax, that.edadMax);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(estado, edadMin, edadMax);
+  }
+
+  @Override
+  public String toString() {
+    return "FiltroAlumnos{estado=" + estado + ", edadMin=" + edadMin + ", edadMax=" + edadMax + "}";
+  }
+}
@@ -0,0 +1,137 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ImportacionAlumnos {
+
+  /** Cantidad de filas inválidas que se conservan con su motivo. */
+  public static final int MAXIMO_ERRORES = 100;
+
+  public enum Estado {
+    EN_CURSO,
+    COMPLETADA,
+    CANCELADA,
+    FALLIDA
+  }
+
+  private final String id;
+  private final long totalFilas;
+  private final Instant inicio;
+  private final AtomicReference<Estado> estado = new AtomicReference<>(Estado.EN_CURSO);
+  private final AtomicLong creados = new AtomicLong();
+  private final AtomicLong duplicados = new AtomicLong();
+  private final AtomicLong invalidos = new AtomicLong();
+  private final Queue<ResultadoCargaAlumno> errores = new ConcurrentLinkedQueue<>();
+  private volatile Instant fin;
+  private volatile String mensaje;
+
+  public ImportacionAlumnos(String id, long totalFilas, Instant inicio) {
+    this.id = id;
+    this.totalFilas = totalFilas;
+    this.inicio = inicio;
+  }
+
+  public void registrar(ResultadoCargaAlumno resultado) {
+    switch (resultado.getTipo()) {
+      case CREADO -> creados.incrementAndGet();
+      case DUPLICADO -> duplicados.incrementAndGet();
+      case INVALIDO -> {
+        if (invalidos.incrementAndGet() <= MAXIMO_ERRORES) {
+          errores.add(resultado);
+        }
+      }
+    }
+  }
+
+  public boolean completar() {
+    return finalizar(Estado.COMPLETADA, null);
+  }
+
+  public boolean cancelar() {
+    return finalizar(Estado.CANCELADA, null);
+  }
+
+  public boolean fallar(String mensaje) {
+    return finalizar(Estado.FALLIDA, mensaje);
+  }
+
+  private boolean finalizar(Estado estadoFinal, String mensajeFinal) {
+    if (!estado.compareAndSet(Estado.EN_CURSO, estadoFinal)) {
+      return false;
+    }
+    this.mensaje = mensajeFinal;
+    this.fin = Instant.now();
+    return true;
+  }
+
+  public boolean estaEnCurso() {
+    return estado.get() == Estado.EN_CURSO;
+  }
+
+  public long getFilasProcesadas() {
+    return creados.get() + duplicados.get() + invalidos.get();
+  }
+
+  public double getProgreso() {
+    if (totalFilas <= 0) {
+      return estaEnCurso() ? 0.0 : 100.0;
+    }
+    return Math.min(100.0, getFilasProcesadas() * 100.0 / totalFilas);
+  }
+
+  public double getFilasPorSegundo() {
+    Instant hasta = fin != null ? fin : Instant.now();
+    long milisegundos = Duration.between(inicio, hasta).toMillis();
+    if (milisegundos <= 0) {
+      return 0.0;
+    }
+    return getFilasProcesadas() * 1000.0 / milisegundos;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public Estado getEstado() {
+    return estado.get();
+  }
+
+  public long getTotalFilas() {
+    return totalFilas;
+  }
+
+  public long getCreados() {
+    return creados.get();
+  }
+
+  public long getDuplicados() {
+    return duplicados.get();
+  }
+
+  public long getInvalidos() {
+    return invalidos.get();
+  }
+
+  /** Las primeras filas inválidas, hasta {@link #MAXIMO_ERRORES}, con el motivo de cada una. */
+  public List<ResultadoCargaAlumno> getErrores() {
+    return List.copyOf(errores);
+  }
+
+  public Instant getInicio() {
+    return inicio;
+  }
+
+  public Instant getFin() {
+    return fin;
+  }
+
+  public String getMensaje() {
+    return mensaje;
+  }
+}
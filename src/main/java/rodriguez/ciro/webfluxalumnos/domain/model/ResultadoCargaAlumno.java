@@ -0,0 +1,74 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.util.Objects;
+
+public class ResultadoCargaAlumno {
+
+  public enum Tipo {
+    CREADO,
+    DUPLICADO,
+    INVALIDO
+  }
+
+  private final Long id;
+  private final Tipo tipo;
+  private final String mensaje;
+
+  public ResultadoCargaAlumno(Long id, Tipo tipo, String mensaje) {
+    this.id = id;
+    this.tipo = tipo;
+    this.mensaje = mensaje;
+  }
+
+  public static ResultadoCargaAlumno creado(Long id) {
+    return new ResultadoCargaAlumno(id, Tipo.CREADO, null);
+  }
+
+  public static ResultadoCargaAlumno duplicado(Long id) {
+    return new ResultadoCargaAlumno(id, Tipo.DUPLICADO, "Ya existe un alumno con el ID: " + id);
+  }
+
+  public static ResultadoCargaAlumno invalido(Long id, String mensaje) {
+    return new ResultadoCargaAlumno(id, Tipo.INVALIDO, mensaje);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Tipo getTipo() {
+    return tipo;
+  }
+
+  public String getMensaje() {
+    return mensaje;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ResultadoCargaAlumno that = (ResultadoCargaAlumno) o;
+    return Objects.equals(id, that.id)
+        && tipo == that.tipo
+        && Objects.equals(mensaje, that.mensaje);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, tipo, mensaje);
+  }
+
+  @Override
+  public String toString() {
+    return "ResultadoCargaAlumno{"
+        + "id="
+        + id
+        + ", tipo="
+        + tipo
+        + ", mensaje='"
+        + mensaje
+        + '\''
+        + '}';
+  }
+}
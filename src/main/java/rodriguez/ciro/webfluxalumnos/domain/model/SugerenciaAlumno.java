@@ -0,0 +1,49 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import java.util.Objects;
+
+/** Alumno encontrado por la búsqueda de nombres, con los datos que se muestran al elegirlo. */
+public class SugerenciaAlumno {
+
+  private final Long id;
+  private final String nombre;
+  private final String apellido;
+
+  public SugerenciaAlumno(Long id, String nombre, String apellido) {
+    this.id = id;
+    this.nombre = nombre;
+    this.apellido = apellido;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getNombre() {
+    return nombre;
+  }
+
+  public String getApellido() {
+    return apellido;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    SugerenciaAlumno that = (SugerenciaAlumno) o;
+    return Objects.equals(id, that.id)
+        && Objects.equals(nombre, that.nombre)
+        && Objects.equals(apellido, that.apellido);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, nombre, apellido);
+  }
+
+  @Override
+  public String toString() {
+    return "SugerenciaAlumno{id=" + id + ", nombre='" + nombre + "', apellido='" + apellido + "'}";
+  }
+}
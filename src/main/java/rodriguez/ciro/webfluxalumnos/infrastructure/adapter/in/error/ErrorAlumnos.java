@@ -0,0 +1,55 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.error;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.springframework.core.codec.DecodingException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
+
+/**
+ * Error que se entrega al cliente, con el mismo código y mensaje en todos los transportes de
+ * entrada. La API REST elige el estado HTTP según el {@link Tipo}; RSocket envía el mensaje como
+ * error de aplicación.
+ */
+public record ErrorAlumnos(Tipo tipo, String codigo, String mensaje) {
+
+  public enum Tipo {
+    CONFLICTO,
+    NO_ENCONTRADO,
+    SOLICITUD_INVALIDA,
+    INTERNO
+  }
+
+  /** Traduce una excepción de los casos de uso o de la lectura de la solicitud. */
+  public static ErrorAlumnos desde(Throwable ex) {
+    if (ex instanceof AlumnoYaExisteException) {
+      return new ErrorAlumnos(Tipo.CONFLICTO, "ALUMNO_YA_EXISTE", ex.getMessage());
+    }
+    if (ex instanceof AlumnoNoEncontradoException) {
+      return new ErrorAlumnos(Tipo.NO_ENCONTRADO, "ALUMNO_NO_ENCONTRADO", ex.getMessage());
+    }
+    if (ex instanceof AlumnoInvalidoException) {
+      return new ErrorAlumnos(Tipo.SOLICITUD_INVALIDA, "ALUMNO_INVALIDO", ex.getMessage());
+    }
+    if (ex instanceof DecodingException) {
+      return formatoInvalido(ex);
+    }
+    if (ex instanceof IllegalArgumentException) {
+      return new ErrorAlumnos(Tipo.SOLICITUD_INVALIDA, "PARAMETROS_INVALIDOS", ex.getMessage());
+    }
+    return new ErrorAlumnos(
+        Tipo.INTERNO, "ERROR_INTERNO", "Ha ocurrido un error interno del servidor");
+  }
+
+  /** Cuerpo que no se pudo leer; {@code causa} es el error del decoder, si se conoce. */
+  public static ErrorAlumnos formatoInvalido(Throwable causa) {
+    String mensaje = "Error en el formato de los datos enviados";
+    if (causa instanceof JsonParseException) {
+      mensaje = "El JSON enviado no es válido";
+    } else if (causa instanceof JsonMappingException) {
+      mensaje = "El JSON no corresponde al formato esperado";
+    }
+    return new ErrorAlumnos(Tipo.SOLICITUD_INVALIDA, "DATOS_INVALIDOS", mensaje);
+  }
+}
@@ -0,0 +1,90 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.rsocket;
+
+import io.rsocket.exceptions.ApplicationErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.invocation.MethodArgumentResolutionException;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.error.ErrorAlumnos;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.rsocket.dto.AlumnoMensajeDTO;
+
+/**
+ * Rutas RSocket de los casos de uso de alumnos para consumidores internos. Los cuerpos se leen con
+ * las mismas reglas y mensajes que la API REST, y los errores se traducen con {@link ErrorAlumnos}
+ * igual que en ella: llegan al cliente como error de aplicación con el mismo mensaje.
+ */
+@Controller
+public class AlumnoRSocketController {
+
+  public static final String RUTA_CREAR = "alumnos.crear";
+  public static final String RUTA_REGISTRAR = "alumnos.registrar";
+  public static final String RUTA_ACTIVOS = "alumnos.activos";
+
+  private static final Logger logger = LoggerFactory.getLogger(AlumnoRSocketController.class);
+
+  private final CrearAlumnoUseCase crearAlumnoUseCase;
+  private final ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+
+  public AlumnoRSocketController(
+      CrearAlumnoUseCase crearAlumnoUseCase,
+      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase) {
+    this.crearAlumnoUseCase = crearAlumnoUseCase;
+    this.obtenerAlumnosActivosUseCase = obtenerAlumnosActivosUseCase;
+  }
+
+  /** Request-response: completa vacío cuando el alumno quedó guardado. */
+  @MessageMapping(RUTA_CREAR)
+  public Mono<Void> crearAlumno(@Payload Alumno alumno) {
+    return crearAlumnoUseCase.crearAlumno(alumno);
+  }
+
+  /**
+   * Fire-and-forget: el cliente no recibe respuesta, así que los rechazos solo quedan en el log.
+   */
+  @MessageMapping(RUTA_REGISTRAR)
+  public Mono<Void> registrarAlumno(@Payload Alumno alumno) {
+    return crearAlumnoUseCase
+        .crearAlumno(alumno)
+        .onErrorResume(
+            ex -> {
+              logger.warn("Alumno {} no registrado: {}", alumno.getId(), ex.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  /**
+   * Request-stream: el request-n del cliente llega hasta la lectura de la base de datos, que no
+   * avanza más rápido de lo que el cliente consume.
+   */
+  @MessageMapping(RUTA_ACTIVOS)
+  public Flux<AlumnoMensajeDTO> exportarAlumnosActivos() {
+    return obtenerAlumnosActivosUseCase
+        .exportarAlumnosActivos(CampoAlumno.TODOS)
+        .map(AlumnoMensajeDTO::fromDomain);
+  }
+
+  /** Atiende también los errores al leer el cuerpo, que ocurren antes de llegar a la ruta. */
+  @MessageExceptionHandler
+  public Mono<Void> responderError(Exception ex) {
+    // Equivale al ServerWebInputException de la API REST: envuelve el error del decoder.
+    ErrorAlumnos error =
+        ex instanceof MethodArgumentResolutionException lectura
+            ? ErrorAlumnos.formatoInvalido(lectura.getCause())
+            : ErrorAlumnos.desde(ex);
+    if (error.tipo() == ErrorAlumnos.Tipo.INTERNO) {
+      logger.error("Error interno en una ruta RSocket: ", ex);
+    } else {
+      logger.debug("Solicitud RSocket rechazada ({}): {}", error.codigo(), error.mensaje());
+    }
+    return Mono.error(new ApplicationErrorException(error.mensaje()));
+  }
+}
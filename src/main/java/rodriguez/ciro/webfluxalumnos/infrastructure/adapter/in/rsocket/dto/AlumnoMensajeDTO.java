@@ -0,0 +1,17 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.rsocket.dto;
+
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/** Alumno enviado por las rutas RSocket, con los mismos campos que la respuesta REST. */
+public record AlumnoMensajeDTO(
+    Long id, String nombre, String apellido, String estado, Integer edad) {
+
+  public static AlumnoMensajeDTO fromDomain(Alumno alumno) {
+    return new AlumnoMensajeDTO(
+        alumno.getId(),
+        alumno.getNombre(),
+        alumno.getApellido(),
+        alumno.getEstado().name(),
+        alumno.getEdad());
+  }
+}
@@ -2,34 +2,69 @@ package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CargarAlumnosUseCase;
 import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ListarAlumnosUseCase;
 import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosPorIdUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoDTO;
 import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
 import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.ResultadoCargaDTO;
 
 @RestController
 @RequestMapping("/api/alumnos")
 @Tag(name = "Alumnos", description = "API para gestión de alumnos")
 public class AlumnoController {
 
+  static final String HEADER_TOTAL = "X-Total-Count";
+
+  private static final String DESCRIPCION_CAMPOS =
+      "Campos a incluir, separados por comas (id, nombre, apellido, estado, edad). Por defecto"
+          + " se incluyen todos";
+
   private final CrearAlumnoUseCase crearAlumnoUseCase;
   private final ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+  private final CargarAlumnosUseCase cargarAlumnosUseCase;
+  private final ObtenerAlumnosPorIdUseCase obtenerAlumnosPorIdUseCase;
+  private final ListarAlumnosUseCase listarAlumnosUseCase;
+  private final ValidacionAlumnos validacionAlumnos;
 
   public AlumnoController(
       CrearAlumnoUseCase crearAlumnoUseCase,
-      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase) {
+      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase,
+      CargarAlumnosUseCase cargarAlumnosUseCase,
+      ObtenerAlumnosPorIdUseCase obtenerAlumnosPorIdUseCase,
+      ListarAlumnosUseCase listarAlumnosUseCase,
+      Validator validator) {
     this.crearAlumnoUseCase = crearAlumnoUseCase;
     this.obtenerAlumnosActivosUseCase = obtenerAlumnosActivosUseCase;
+    this.cargarAlumnosUseCase = cargarAlumnosUseCase;
+    this.obtenerAlumnosPorIdUseCase = obtenerAlumnosPorIdUseCase;
+    this.listarAlumnosUseCase = listarAlumnosUseCase;
+    this.validacionAlumnos = new ValidacionAlumnos(validator);
   }
 
   @PostMapping
@@ -50,10 +85,10 @@ public class AlumnoController {
               required = true,
               content = @Content(schema = @Schema(implementation = AlumnoRequestDTO.class)))
           @RequestBody
-          @Valid
-          AlumnoRequestDTO request) {
+          Alumno alumno) {
+    // AlumnoJsonDecoder valida el cuerpo con las reglas de AlumnoRequestDTO al leerlo.
     return crearAlumnoUseCase
-        .crearAlumno(request.toDomain())
+        .crearAlumno(alumno)
         .onErrorMap(
             IllegalArgumentException.class,
             ex ->
@@ -61,27 +96,269 @@ public class AlumnoController {
                     ex.getMessage()));
   }
 
+  @PostMapping(
+      value = "/bulk",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Carga masiva de alumnos",
+      description =
+          "Recibe alumnos en formato NDJSON y devuelve, también en NDJSON, el resultado de cada"
+              + " alumno (CREADO, DUPLICADO o INVALIDO) a medida que se procesa")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultados de la carga por alumno",
+            content = @Content(schema = @Schema(implementation = ResultadoCargaDTO.class)))
+      })
+  public Flux<ResultadoCargaDTO> cargarAlumnos(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Alumnos a crear, uno por línea",
+              required = true,
+              content = @Content(schema = @Schema(implementation = AlumnoRequestDTO.class)))
+          @RequestBody
+          Flux<AlumnoRequestDTO> request) {
+    // Cada alumno se valida con las mismas restricciones que el alta individual.
+    return request
+        .map(
+            solicitud ->
+                new SolicitudCarga(
+                    solicitud, validacionAlumnos.primerError(solicitud).orElse(null)))
+        .publish(
+            solicitudes ->
+                Flux.merge(
+                    solicitudes
+                        .filter(solicitud -> solicitud.error() != null)
+                        .map(
+                            solicitud ->
+                                ResultadoCargaDTO.fromDomain(
+                                    ResultadoCargaAlumno.invalido(
+                                        solicitud.datos().getId(), solicitud.error()))),
+                    cargarAlumnosUseCase
+                        .cargarAlumnos(
+                            solicitudes
+                                .filter(solicitud -> solicitud.error() == null)
+                                .map(solicitud -> solicitud.datos().toDomain()))
+                        .map(ResultadoCargaDTO::fromDomain)));
+  }
+
+  @GetMapping("/{id:\\d+}")
+  @Operation(
+      summary = "Obtener un alumno",
+      description =
+          "Obtiene un alumno por ID. Las consultas concurrentes se resuelven en lotes con una sola"
+              + " lectura de la base de datos")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Alumno encontrado",
+            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class))),
+        @ApiResponse(responseCode = "404", description = "El alumno no existe", content = @Content)
+      })
+  public Mono<AlumnoResponseDTO> obtenerAlumno(
+      @Parameter(description = "ID del alumno", example = "1") @PathVariable Long id) {
+    return obtenerAlumnosPorIdUseCase.obtenerAlumno(id).map(AlumnoResponseDTO::fromDomain);
+  }
+
+  @GetMapping(params = "ids")
+  @Operation(
+      summary = "Obtener varios alumnos",
+      description =
+          "Obtiene hasta 100 alumnos por ID, en el orden pedido. Los IDs inexistentes se omiten")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Alumnos encontrados",
+            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class)))
+      })
+  public Flux<AlumnoResponseDTO> obtenerAlumnos(
+      @Parameter(description = "IDs separados por comas", example = "1,3,5") @RequestParam
+          List<Long> ids) {
+    return obtenerAlumnosPorIdUseCase.obtenerAlumnos(ids).map(AlumnoResponseDTO::fromDomain);
+  }
+
+  @GetMapping
+  @Operation(
+      summary = "Listar alumnos",
+      description =
+          "Obtiene alumnos ordenados por ID, filtrados opcionalmente por estado y rango de edad."
+              + " Las páginas siguientes se piden con el cursor 'after', así que cada página"
+              + " cuesta lo mismo sin importar cuántas se hayan recorrido. Con 'fields' solo se"
+              + " leen y se envían los campos indicados")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Alumnos que cumplen el filtro",
+            headers = {
+              @Header(
+                  name = CursorPaginacion.HEADER_SIGUIENTE_CURSOR,
+                  description = "Cursor para solicitar la siguiente página")
+            },
+            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Filtro, campos, tamaño de página o cursor inválidos",
+            content = @Content)
+      })
+  public Mono<ResponseEntity<List<AlumnoResponseDTO>>> listarAlumnos(
+      @Parameter(description = "Estado de los alumnos", example = "ACTIVO")
+          @RequestParam(required = false)
+          Alumno.Estado estado,
+      @Parameter(description = "Edad mínima, incluida", example = "18")
+          @RequestParam(required = false)
+          Integer edadMin,
+      @Parameter(description = "Edad máxima, incluida", example = "25")
+          @RequestParam(required = false)
+          Integer edadMax,
+      @Parameter(description = "Tamaño de página", example = "10")
+          @RequestParam(defaultValue = "10")
+          int size,
+      @Parameter(description = "Cursor opaco devuelto en la cabecera X-Next-Cursor")
+          @RequestParam(required = false)
+          String after,
+      @Parameter(description = DESCRIPCION_CAMPOS, example = "id,nombre")
+          @RequestParam(required = false)
+          String fields) {
+    return Mono.defer(
+        () -> {
+          Set<CampoAlumno> campos = CampoAlumno.parsear(fields);
+          Long ultimoId = after != null ? CursorPaginacion.decodificar(after) : null;
+          // Antes de leer, para que una escritura en medio no quede asociada a la versión nueva.
+          long version = obtenerAlumnosActivosUseCase.obtenerVersionAlumnos();
+          return listarAlumnosUseCase
+              .listarAlumnos(new FiltroAlumnos(estado, edadMin, edadMax), campos, ultimoId, size)
+              .collectList()
+              .map(
+                  alumnos ->
+                      construirRespuesta(ResponseEntity.ok(), alumnos, campos, size, version));
+        });
+  }
+
   @GetMapping("/activos")
   @Operation(
       summary = "Obtener alumnos activos",
-      description = "Obtiene una lista paginada de alumnos activos")
+      description =
+          "Obtiene una lista paginada de alumnos activos en JSON, CBOR o Smile según Accept. Si"
+              + " se envía el cursor 'after' se usa paginación por keyset y se ignora 'page'."
+              + " Admite peticiones condicionales con If-None-Match. Con 'fields' solo se leen y"
+              + " se envían los campos indicados")
   @ApiResponses(
       value = {
         @ApiResponse(
             responseCode = "200",
             description = "Lista de alumnos activos obtenida exitosamente",
-            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class)))
+            headers = {
+              @Header(
+                  name = CursorPaginacion.HEADER_SIGUIENTE_CURSOR,
+                  description = "Cursor para solicitar la siguiente página"),
+              @Header(name = HEADER_TOTAL, description = "Cantidad total de alumnos activos")
+            },
+            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "La página no cambió desde el ETag enviado",
+            content = @Content)
       })
-  public Flux<AlumnoResponseDTO> obtenerAlumnosActivos(
+  public Mono<ResponseEntity<List<AlumnoResponseDTO>>> obtenerAlumnosActivos(
       @Parameter(description = "Número de página (empezando desde 1)", example = "1")
           @RequestParam(defaultValue = "1")
           int page,
       @Parameter(description = "Tamaño de página", example = "10")
           @RequestParam(defaultValue = "10")
-          int size) {
+          int size,
+      @Parameter(description = "Cursor opaco devuelto en la cabecera X-Next-Cursor")
+          @RequestParam(required = false)
+          String after,
+      @Parameter(description = DESCRIPCION_CAMPOS, example = "id,nombre")
+          @RequestParam(required = false)
+          String fields,
+      ServerWebExchange exchange) {
 
+    return Mono.defer(
+        () -> {
+          Set<CampoAlumno> campos = CampoAlumno.parsear(fields);
+          // Si ningún formato es aceptable Spring responde 406 al escribir la página.
+          MediaType tipo =
+              Objects.requireNonNullElse(
+                  FormatosListado.negociar(exchange.getRequest().getHeaders().getAccept()),
+                  MediaType.APPLICATION_JSON);
+          PaginaAlumnosActivos pagina =
+              PaginaAlumnosActivos.preparar(
+                  obtenerAlumnosActivosUseCase, page, size, after, campos, tipo);
+          if (exchange.checkNotModified(pagina.etag())) {
+            ResponseEntity<List<AlumnoResponseDTO>> noModificada =
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(pagina.etag())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+            return Mono.just(noModificada);
+          }
+
+          return pagina
+              .leer()
+              .map(
+                  lectura ->
+                      construirRespuesta(
+                          ResponseEntity.ok()
+                              .eTag(pagina.etag())
+                              .varyBy(HttpHeaders.ACCEPT)
+                              .header(HEADER_TOTAL, String.valueOf(lectura.total())),
+                          lectura.alumnos(),
+                          campos,
+                          size,
+                          lectura.version()));
+        });
+  }
+
+  @GetMapping(
+      value = "/activos/stream",
+      produces = {
+        MediaType.APPLICATION_NDJSON_VALUE,
+        MediaType.TEXT_EVENT_STREAM_VALUE,
+        MediaType.APPLICATION_JSON_VALUE
+      })
+  @Operation(
+      summary = "Exportar alumnos activos",
+      description =
+          "Transmite todos los alumnos activos como NDJSON, Server-Sent Events o un arreglo JSON"
+              + " escrito por bloques, sin paginación. La lectura de la base de datos avanza al"
+              + " ritmo del cliente. Con 'fields' solo se leen y se envían los campos indicados")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Alumnos activos transmitidos exitosamente",
+            content = @Content(schema = @Schema(implementation = AlumnoResponseDTO.class)))
+      })
+  public Flux<AlumnoExportadoDTO> exportarAlumnosActivos(
+      @Parameter(description = DESCRIPCION_CAMPOS, example = "id,nombre")
+          @RequestParam(required = false)
+          String fields) {
+    Set<CampoAlumno> campos = CampoAlumno.parsear(fields);
     return obtenerAlumnosActivosUseCase
-        .obtenerAlumnosActivos(page, size)
-        .map(AlumnoResponseDTO::fromDomain);
+        .exportarAlumnosActivos(campos)
+        .map(alumno -> AlumnoExportadoDTO.fromDomain(alumno, campos));
   }
+
+  private ResponseEntity<List<AlumnoResponseDTO>> construirRespuesta(
+      ResponseEntity.BodyBuilder respuesta,
+      List<Alumno> alumnos,
+      Set<CampoAlumno> campos,
+      int size,
+      long version) {
+    String siguienteCursor = CursorPaginacion.siguiente(alumnos, size);
+    if (siguienteCursor != null) {
+      respuesta.header(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, siguienteCursor);
+    }
+    return respuesta.body(
+        new AlumnosVersionados(
+            alumnos.stream().map(alumno -> AlumnoResponseDTO.fromDomain(alumno, campos)).toList(),
+            version));
+  }
+
+  private record SolicitudCarga(AlumnoRequestDTO datos, String error) {}
 }
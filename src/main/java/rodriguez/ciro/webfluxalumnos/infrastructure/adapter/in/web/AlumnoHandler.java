@@ -0,0 +1,145 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+/**
+ * Versión funcional de {@code POST /api/alumnos} y {@code GET /api/alumnos/activos} para el perfil
+ * "funcional". Responde igual que {@link AlumnoController}, incluidos los errores, que se mapean
+ * con {@link GlobalExceptionHandler#resolver(Throwable)}, sin resolución de argumentos por
+ * anotaciones en cada petición.
+ */
+@Component
+@Profile("funcional")
+public class AlumnoHandler {
+
+  private static final ParameterizedTypeReference<List<AlumnoResponseDTO>> PAGINA =
+      new ParameterizedTypeReference<>() {};
+
+  private final CrearAlumnoUseCase crearAlumnoUseCase;
+  private final ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+  private final GlobalExceptionHandler exceptionHandler;
+
+  public AlumnoHandler(
+      CrearAlumnoUseCase crearAlumnoUseCase,
+      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase,
+      GlobalExceptionHandler exceptionHandler) {
+    this.crearAlumnoUseCase = crearAlumnoUseCase;
+    this.obtenerAlumnosActivosUseCase = obtenerAlumnosActivosUseCase;
+    this.exceptionHandler = exceptionHandler;
+  }
+
+  public Mono<ServerResponse> crearAlumno(ServerRequest request) {
+    // AlumnoJsonDecoder valida el cuerpo con las reglas de AlumnoRequestDTO al leerlo.
+    return request
+        .bodyToMono(Alumno.class)
+        .switchIfEmpty(Mono.error(() -> new ServerWebInputException("No request body")))
+        .flatMap(crearAlumnoUseCase::crearAlumno)
+        .onErrorMap(
+            IllegalArgumentException.class, ex -> new AlumnoInvalidoException(ex.getMessage()))
+        .then(ServerResponse.status(HttpStatus.CREATED).build())
+        .onErrorResume(this::responderError);
+  }
+
+  public Mono<ServerResponse> obtenerAlumnosActivos(ServerRequest request) {
+    return Mono.defer(
+            () -> {
+              MediaType tipo = negociarTipo(request.headers().accept());
+              int page = parametroEntero(request, "page", 1);
+              int size = parametroEntero(request, "size", 10);
+              String after = request.queryParam("after").orElse(null);
+              Set<CampoAlumno> campos =
+                  CampoAlumno.parsear(request.queryParam("fields").orElse(null));
+
+              PaginaAlumnosActivos pagina =
+                  PaginaAlumnosActivos.preparar(
+                      obtenerAlumnosActivosUseCase, page, size, after, campos, tipo);
+              if (request.exchange().checkNotModified(pagina.etag())) {
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(pagina.etag())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+              }
+              return pagina
+                  .leer()
+                  .flatMap(lectura -> responderPagina(lectura, campos, tipo, size, pagina.etag()));
+            })
+        .onErrorResume(this::responderError);
+  }
+
+  private Mono<ServerResponse> responderPagina(
+      PaginaAlumnosActivos.Lectura lectura,
+      Set<CampoAlumno> campos,
+      MediaType tipo,
+      int size,
+      String etag) {
+    ServerResponse.BodyBuilder respuesta =
+        ServerResponse.ok()
+            .contentType(tipo)
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .header(AlumnoController.HEADER_TOTAL, String.valueOf(lectura.total()));
+    String siguienteCursor = CursorPaginacion.siguiente(lectura.alumnos(), size);
+    if (siguienteCursor != null) {
+      respuesta.header(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, siguienteCursor);
+    }
+    List<AlumnoResponseDTO> pagina =
+        new AlumnosVersionados(
+            lectura.alumnos().stream()
+                .map(alumno -> AlumnoResponseDTO.fromDomain(alumno, campos))
+                .toList(),
+            lectura.version());
+    return respuesta.bodyValue(pagina, PAGINA);
+  }
+
+  private Mono<ServerResponse> responderError(Throwable ex) {
+    ResponseEntity<Map<String, Object>> error = exceptionHandler.resolver(ex);
+    return ServerResponse.status(error.getStatusCode())
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(error.getBody());
+  }
+
+  /**
+   * Sin un writer que negocie el tipo, la respuesta funcional usaría siempre el primer encoder
+   * registrado; el tipo se elige aquí como lo haría el handler anotado.
+   */
+  private static MediaType negociarTipo(List<MediaType> aceptados) {
+    MediaType tipo = FormatosListado.negociar(aceptados);
+    if (tipo == null) {
+      throw new NotAcceptableStatusException(FormatosListado.TIPOS);
+    }
+    return tipo;
+  }
+
+  private static int parametroEntero(ServerRequest request, String nombre, int defecto) {
+    String valor = request.queryParam(nombre).orElse(null);
+    if (valor == null || valor.isEmpty()) {
+      return defecto;
+    }
+    try {
+      return Integer.parseInt(valor.trim());
+    } catch (NumberFormatException ex) {
+      // Como @RequestParam int: un valor no numérico es un error de entrada, no de parámetros.
+      throw new ServerWebInputException("Type mismatch for '" + nombre + "'", null, ex);
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+
+/**
+ * Lee el cuerpo JSON de un alta directamente como {@link Alumno}, recorriendo los tokens una sola
+ * vez y sin pasar por {@link AlumnoRequestDTO}. Acepta los mismos valores que Jackson al leer el
+ * DTO, incluidas sus conversiones: números escritos como texto ({@code "edad": "20"}), decimales
+ * truncados a entero y números o booleanos en los campos de texto.
+ *
+ * <p>Las reglas del DTO se comprueban directamente sobre los valores leídos; solo cuando un campo
+ * no las cumple se consulta el {@link Validator}, así que los datos inválidos se rechazan con
+ * {@link AlumnoInvalidoException} y el mismo mensaje que daría {@code @Valid}. El JSON mal formado
+ * o con tipos que Jackson no convierte se rechaza con {@link DecodingException}. Con una {@link
+ * JsonFactory} binaria (CBOR, Smile) lee esos formatos con las mismas reglas.
+ */
+public class AlumnoJsonDecoder extends AbstractDataBufferDecoder<Alumno> {
+
+  private static final int EDAD_MINIMA = 1;
+  private static final int EDAD_MAXIMA = 120;
+
+  private static final char[] ACTIVO = Alumno.Estado.ACTIVO.name().toCharArray();
+  private static final char[] INACTIVO = Alumno.Estado.INACTIVO.name().toCharArray();
+
+  private final JsonFactory jsonFactory;
+  private final ValidacionAlumnos validacionAlumnos;
+
+  public AlumnoJsonDecoder(JsonFactory jsonFactory, Validator validator) {
+    this(jsonFactory, validator, MediaType.APPLICATION_JSON);
+  }
+
+  public AlumnoJsonDecoder(JsonFactory jsonFactory, Validator validator, MimeType... mimeTypes) {
+    super(mimeTypes);
+    this.jsonFactory = jsonFactory;
+    this.validacionAlumnos = new ValidacionAlumnos(validator);
+  }
+
+  @Override
+  public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+    return elementType.toClass() == Alumno.class
+        && super.canDecode(elementType, mimeType)
+        && (mimeType == null
+            || mimeType.getCharset() == null
+            || StandardCharsets.UTF_8.equals(mimeType.getCharset()));
+  }
+
+  @Override
+  public Flux<Alumno> decode(
+      Publisher<DataBuffer> input,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    // El cuerpo es un único objeto, aunque llegue repartido en varios buffers.
+    return decodeToMono(input, elementType, mimeType, hints).flux();
+  }
+
+  @Override
+  public Alumno decode(
+      DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+    try (JsonParser parser = jsonFactory.createParser(buffer.asInputStream())) {
+      return leer(parser);
+    } catch (IOException | NumberFormatException ex) {
+      throw new DecodingException("No se pudo leer el alumno: " + ex.getMessage(), ex);
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  private Alumno leer(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Se esperaba un objeto JSON");
+    }
+    Long id = null;
+    String nombre = null;
+    String apellido = null;
+    Alumno.Estado estado = null;
+    String estadoNoReconocido = null;
+    Integer edad = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      // Los nombres de campo salen de la tabla de símbolos del parser, no se crean por petición.
+      String campo = parser.currentName();
+      JsonToken valor = parser.nextToken();
+      switch (campo) {
+        case "id" -> id = leerLong(parser, valor);
+        case "nombre" -> nombre = leerTexto(parser, valor);
+        case "apellido" -> apellido = leerTexto(parser, valor);
+        case "estado" -> {
+          estado = leerEstado(parser, valor);
+          estadoNoReconocido = estado == null ? leerTexto(parser, valor) : null;
+        }
+        case "edad" -> edad = leerEntero(parser, valor);
+        default -> parser.skipChildren();
+      }
+    }
+
+    if (nombre == null || nombre.trim().isEmpty()) {
+      throw invalido("nombre", nombre);
+    }
+    if (apellido == null || apellido.trim().isEmpty()) {
+      throw invalido("apellido", apellido);
+    }
+    if (estado == null) {
+      throw invalido("estado", estadoNoReconocido);
+    }
+    if (edad == null || edad < EDAD_MINIMA || edad > EDAD_MAXIMA) {
+      throw invalido("edad", edad);
+    }
+    return new Alumno(id, nombre, apellido, estado, edad);
+  }
+
+  private AlumnoInvalidoException invalido(String campo, Object valor) {
+    return new AlumnoInvalidoException(
+        validacionAlumnos
+            .error(campo, valor)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException("El validador aceptó el campo rechazado " + campo)));
+  }
+
+  /** Como Jackson al leer un {@code Long}: acepta decimales truncados y números como texto. */
+  private static Long leerLong(JsonParser parser, JsonToken valor) throws IOException {
+    String texto = textoNumerico(parser, valor);
+    if (texto != null) {
+      return texto.isEmpty() ? null : Long.parseLong(texto);
+    }
+    return valor == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+  }
+
+  /** Como Jackson al leer un {@code Integer}: acepta decimales truncados y números como texto. */
+  private static Integer leerEntero(JsonParser parser, JsonToken valor) throws IOException {
+    String texto = textoNumerico(parser, valor);
+    if (texto != null) {
+      return texto.isEmpty() ? null : Integer.parseInt(texto);
+    }
+    return valor == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+  }
+
+  /**
+   * Devuelve el texto recortado si el número llegó como texto, o {@code null} si llegó como número
+   * o como {@code null}. Booleanos, objetos y arreglos no se convierten a número.
+   */
+  private static String textoNumerico(JsonParser parser, JsonToken valor) throws IOException {
+    if (valor == JsonToken.VALUE_STRING) {
+      return parser.getText().trim();
+    }
+    if (valor != JsonToken.VALUE_NULL && !valor.isNumeric()) {
+      throw new JsonParseException(parser, "Se esperaba un número en " + parser.currentName());
+    }
+    return null;
+  }
+
+  private static String leerTexto(JsonParser parser, JsonToken valor) throws IOException {
+    if (valor == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!valor.isScalarValue()) {
+      throw new JsonParseException(parser, "Se esperaba un texto en " + parser.currentName());
+    }
+    return parser.getText();
+  }
+
+  /**
+   * Compara el texto directamente sobre el buffer de caracteres del parser, sin crear un {@code
+   * String}. Devuelve {@code null} si el estado falta o no es reconocido.
+   */
+  private static Alumno.Estado leerEstado(JsonParser parser, JsonToken valor) throws IOException {
+    if (valor == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!valor.isScalarValue()) {
+      throw new JsonParseException(parser, "Se esperaba un texto en " + parser.currentName());
+    }
+    char[] texto = parser.getTextCharacters();
+    int inicio = parser.getTextOffset();
+    int largo = parser.getTextLength();
+    if (coincide(texto, inicio, largo, ACTIVO)) {
+      return Alumno.Estado.ACTIVO;
+    }
+    if (coincide(texto, inicio, largo, INACTIVO)) {
+      return Alumno.Estado.INACTIVO;
+    }
+    return null;
+  }
+
+  private static boolean coincide(char[] texto, int inicio, int largo, char[] esperado) {
+    if (largo != esperado.length) {
+      return false;
+    }
+    // Como la expresión del DTO, que sin UNICODE_CASE ignora mayúsculas solo en ASCII.
+    for (int i = 0; i < largo; i++) {
+      char caracter = texto[inicio + i];
+      if (caracter >= 'a' && caracter <= 'z') {
+        caracter = (char) (caracter - ('a' - 'A'));
+      }
+      if (caracter != esperado[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
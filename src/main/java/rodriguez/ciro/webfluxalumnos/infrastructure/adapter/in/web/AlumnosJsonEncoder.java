@@ -0,0 +1,93 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+/**
+ * Escribe una lista de {@link AlumnoResponseDTO} como arreglo JSON uniendo los fragmentos de {@link
+ * FragmentosJsonAlumnos} en un único {@link DataBuffer} del tamaño exacto, en lugar de serializar
+ * cada alumno campo por campo con Jackson.
+ *
+ * <p>Solo las listas {@link AlumnosVersionados} reutilizan fragmentos guardados; las demás se
+ * serializan alumno por alumno.
+ */
+public class AlumnosJsonEncoder implements Encoder<List<AlumnoResponseDTO>> {
+
+  private static final List<MimeType> TIPOS = List.of(MediaType.APPLICATION_JSON);
+
+  private final FragmentosJsonAlumnos fragmentos;
+
+  public AlumnosJsonEncoder(FragmentosJsonAlumnos fragmentos) {
+    this.fragmentos = fragmentos;
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    return esJsonUtf8(mimeType)
+        && List.class.isAssignableFrom(elementType.toClass())
+        && elementType.asCollection().resolveGeneric(0) == AlumnoResponseDTO.class;
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<? extends List<AlumnoResponseDTO>> inputStream,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    return Flux.from(inputStream)
+        .map(alumnos -> encodeValue(alumnos, bufferFactory, elementType, mimeType, hints));
+  }
+
+  @Override
+  public DataBuffer encodeValue(
+      List<AlumnoResponseDTO> alumnos,
+      DataBufferFactory bufferFactory,
+      ResolvableType valueType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    ByteBuffer[] partes = new ByteBuffer[alumnos.size()];
+    int tamano = 2 + Math.max(0, alumnos.size() - 1);
+    for (int i = 0; i < partes.length; i++) {
+      partes[i] =
+          alumnos instanceof AlumnosVersionados versionados
+              ? fragmentos.obtener(alumnos.get(i), versionados.version())
+              : fragmentos.obtener(alumnos.get(i));
+      tamano += partes[i].remaining();
+    }
+    DataBuffer buffer = bufferFactory.allocateBuffer(tamano);
+    buffer.write((byte) '[');
+    for (int i = 0; i < partes.length; i++) {
+      if (i > 0) {
+        buffer.write((byte) ',');
+      }
+      buffer.write(partes[i]);
+    }
+    buffer.write((byte) ']');
+    return buffer;
+  }
+
+  @Override
+  public List<MimeType> getEncodableMimeTypes() {
+    return TIPOS;
+  }
+
+  private static boolean esJsonUtf8(MimeType mimeType) {
+    if (mimeType == null) {
+      return true;
+    }
+    return MediaType.APPLICATION_JSON.isCompatibleWith(mimeType)
+        && (mimeType.getCharset() == null || StandardCharsets.UTF_8.equals(mimeType.getCharset()));
+  }
+}
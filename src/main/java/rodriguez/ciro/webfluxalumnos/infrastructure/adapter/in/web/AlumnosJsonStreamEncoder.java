@@ -0,0 +1,205 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoParcialDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+/**
+ * Codifica un flujo de {@link AlumnoExportadoDTO} como NDJSON o como arreglo JSON escribiendo los
+ * campos con un {@link JsonGenerator}, sin introspección de Jackson y sin reunir el flujo completo
+ * en memoria. Los alumnos se agrupan en bloques de tamaño acotado; cada bloque es un {@link
+ * DataBuffer} que en NDJSON se envía y se vacía hacia el cliente de inmediato.
+ *
+ * <p>Solo atiende la exportación: {@code canEncode} recibe el tipo de elemento y no el del
+ * publisher, así que las respuestas de un alumno ({@code /{id}}) o de unos pocos ({@code ?ids=}),
+ * que usan {@link AlumnoResponseDTO}, siguen a cargo de Jackson.
+ */
+public class AlumnosJsonStreamEncoder implements HttpMessageEncoder<AlumnoExportadoDTO> {
+
+  private static final List<MimeType> TIPOS =
+      List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+  private static final List<MediaType> TIPOS_STREAMING = List.of(MediaType.APPLICATION_NDJSON);
+
+  // Un bloque incompleto se envía tras esta espera para no retener alumnos de una fuente lenta.
+  private static final Duration ESPERA_MAXIMA_BLOQUE = Duration.ofMillis(50);
+  private static final int BYTES_ESTIMADOS_POR_ALUMNO = 96;
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString NOMBRE = new SerializedString("nombre");
+  private static final SerializableString APELLIDO = new SerializedString("apellido");
+  private static final SerializableString ESTADO = new SerializedString("estado");
+  private static final SerializableString EDAD = new SerializedString("edad");
+
+  private final JsonFactory jsonFactory;
+  private final int alumnosPorBloque;
+
+  public AlumnosJsonStreamEncoder(JsonFactory jsonFactory, int alumnosPorBloque) {
+    if (alumnosPorBloque <= 0) {
+      throw new IllegalArgumentException("La cantidad de alumnos por bloque debe ser mayor que 0");
+    }
+    this.jsonFactory = jsonFactory;
+    this.alumnosPorBloque = alumnosPorBloque;
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    return elementType.toClass() == AlumnoExportadoDTO.class && esJsonUtf8(mimeType);
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<? extends AlumnoExportadoDTO> inputStream,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    if (inputStream instanceof Mono) {
+      return Mono.from(inputStream)
+          .map(alumno -> encodeValue(alumno, bufferFactory, elementType, mimeType, hints))
+          .flux();
+    }
+    boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(mimeType);
+    Flux<DataBuffer> bloques =
+        Flux.from(inputStream)
+            .bufferTimeout(alumnosPorBloque, ESPERA_MAXIMA_BLOQUE, true)
+            .index()
+            .map(
+                bloque ->
+                    escribirBloque(bloque.getT2(), bloque.getT1() == 0, ndjson, bufferFactory));
+    if (ndjson) {
+      return bloques;
+    }
+    return Flux.concat(
+        Mono.fromSupplier(() -> caracter(bufferFactory, '[')),
+        bloques,
+        Mono.fromSupplier(() -> caracter(bufferFactory, ']')));
+  }
+
+  @Override
+  public DataBuffer encodeValue(
+      AlumnoExportadoDTO alumno,
+      DataBufferFactory bufferFactory,
+      ResolvableType valueType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    return escribirBloque(List.of(alumno), true, false, bufferFactory);
+  }
+
+  @Override
+  public List<MimeType> getEncodableMimeTypes() {
+    return TIPOS;
+  }
+
+  @Override
+  public List<MediaType> getStreamingMediaTypes() {
+    return TIPOS_STREAMING;
+  }
+
+  private DataBuffer escribirBloque(
+      List<? extends AlumnoResponseDTO> alumnos,
+      boolean primerBloque,
+      boolean ndjson,
+      DataBufferFactory bufferFactory) {
+    DataBuffer buffer = bufferFactory.allocateBuffer(alumnos.size() * BYTES_ESTIMADOS_POR_ALUMNO);
+    try {
+      JsonGenerator generator =
+          jsonFactory.createGenerator(buffer.asOutputStream(), JsonEncoding.UTF8);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      for (int i = 0; i < alumnos.size(); i++) {
+        if (!ndjson && (i > 0 || !primerBloque)) {
+          generator.writeRaw(',');
+        }
+        escribir(generator, alumnos.get(i));
+        if (ndjson) {
+          generator.writeRaw('\n');
+        }
+      }
+      generator.close();
+      return buffer;
+    } catch (IOException ex) {
+      DataBufferUtils.release(buffer);
+      throw new EncodingException("No se pudo codificar el bloque de alumnos", ex);
+    }
+  }
+
+  // Igual que Jackson: los campos en null se escriben, salvo en los alumnos parciales
+  // (@JsonInclude(NON_NULL)), donde son los que no se pidieron con ?fields=.
+  private static void escribir(JsonGenerator generator, AlumnoResponseDTO alumno)
+      throws IOException {
+    boolean omitirNulos = alumno instanceof AlumnoExportadoParcialDTO;
+    generator.writeStartObject();
+    escribirNumero(generator, ID, alumno.getId(), omitirNulos);
+    escribirTexto(generator, NOMBRE, alumno.getNombre(), omitirNulos);
+    escribirTexto(generator, APELLIDO, alumno.getApellido(), omitirNulos);
+    escribirTexto(generator, ESTADO, alumno.getEstado(), omitirNulos);
+    escribirNumero(generator, EDAD, alumno.getEdad(), omitirNulos);
+    generator.writeEndObject();
+  }
+
+  private static void escribirNumero(
+      JsonGenerator generator, SerializableString campo, Number valor, boolean omitirNulos)
+      throws IOException {
+    if (valor == null) {
+      escribirNulo(generator, campo, omitirNulos);
+    } else {
+      generator.writeFieldName(campo);
+      generator.writeNumber(valor.longValue());
+    }
+  }
+
+  private static void escribirTexto(
+      JsonGenerator generator, SerializableString campo, String valor, boolean omitirNulos)
+      throws IOException {
+    if (valor == null) {
+      escribirNulo(generator, campo, omitirNulos);
+    } else {
+      generator.writeFieldName(campo);
+      generator.writeString(valor);
+    }
+  }
+
+  private static void escribirNulo(
+      JsonGenerator generator, SerializableString campo, boolean omitirNulos) throws IOException {
+    if (!omitirNulos) {
+      generator.writeFieldName(campo);
+      generator.writeNull();
+    }
+  }
+
+  private static DataBuffer caracter(DataBufferFactory bufferFactory, char caracter) {
+    return bufferFactory.allocateBuffer(1).write((byte) caracter);
+  }
+
+  private static boolean esJsonUtf8(MimeType mimeType) {
+    if (mimeType == null) {
+      return true;
+    }
+    boolean json =
+        MediaType.APPLICATION_JSON.isCompatibleWith(mimeType)
+            || MediaType.APPLICATION_NDJSON.isCompatibleWith(mimeType);
+    return json
+        && (mimeType.getCharset() == null || StandardCharsets.UTF_8.equals(mimeType.getCharset()));
+  }
+}
@@ -0,0 +1,36 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+/**
+ * Alumnos de una respuesta junto con la versión de los datos leída antes de consultarlos, para que
+ * {@link AlumnosJsonEncoder} pueda reutilizar sus fragmentos JSON. Para los demás encoders es una
+ * lista como cualquier otra.
+ */
+final class AlumnosVersionados extends AbstractList<AlumnoResponseDTO> implements RandomAccess {
+
+  private final List<AlumnoResponseDTO> alumnos;
+  private final long version;
+
+  AlumnosVersionados(List<AlumnoResponseDTO> alumnos, long version) {
+    this.alumnos = alumnos;
+    this.version = version;
+  }
+
+  long version() {
+    return version;
+  }
+
+  @Override
+  public AlumnoResponseDTO get(int index) {
+    return alumnos.get(index);
+  }
+
+  @Override
+  public int size() {
+    return alumnos.size();
+  }
+}
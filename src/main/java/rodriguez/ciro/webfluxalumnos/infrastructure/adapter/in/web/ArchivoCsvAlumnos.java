@@ -0,0 +1,160 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FilaImportacion;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+
+/**
+ * Recibe y lee archivos CSV con el mismo formato que {@code alumnos-data.csv}. El contenido se
+ * vuelca a un archivo temporal a medida que llega y luego se lee por bloques, línea a línea, sin
+ * cargar el archivo completo en memoria. Cada fila se valida con las mismas restricciones que el
+ * alta individual, así que una fila rechazada informa el campo que falló.
+ */
+@Component
+public class ArchivoCsvAlumnos {
+
+  static final String CABECERA = "id,nombre,apellido,estado,edad";
+
+  private static final Logger logger = LoggerFactory.getLogger(ArchivoCsvAlumnos.class);
+  private static final int TAMANO_BLOQUE = 64 * 1024;
+  private static final int CANTIDAD_CAMPOS = 5;
+  private static final String MENSAJE_CANTIDAD_CAMPOS = "La fila debe tener los campos " + CABECERA;
+  private static final String MENSAJE_EDAD_NO_NUMERICA = "La edad debe ser un número entero";
+
+  private final StringDecoder decoder = StringDecoder.allMimeTypes(List.of("\r\n", "\n"), true);
+  private final ValidacionAlumnos validacionAlumnos;
+
+  public ArchivoCsvAlumnos(Validator validator) {
+    this.validacionAlumnos = new ValidacionAlumnos(validator);
+  }
+
+  public record ArchivoTemporal(Path ruta, long totalFilas) {}
+
+  public Mono<ArchivoTemporal> guardar(Flux<DataBuffer> contenido) {
+    return Mono.fromCallable(() -> Files.createTempFile("alumnos-", ".csv"))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(
+            ruta -> {
+              ContadorLineas contador = new ContadorLineas();
+              return DataBufferUtils.write(contenido.doOnNext(contador::contar), ruta)
+                  .then(Mono.fromCallable(() -> new ArchivoTemporal(ruta, contador.filasDeDatos())))
+                  .doOnError(ex -> eliminar(ruta));
+            });
+  }
+
+  public Flux<FilaImportacion> leer(ArchivoTemporal archivo) {
+    return Flux.using(
+        archivo::ruta,
+        ruta ->
+            decoder
+                .decode(
+                    DataBufferUtils.read(
+                        ruta, DefaultDataBufferFactory.sharedInstance, TAMANO_BLOQUE),
+                    ResolvableType.forClass(String.class),
+                    null,
+                    Collections.emptyMap())
+                .filter(linea -> !linea.isBlank() && !CABECERA.equalsIgnoreCase(linea.trim()))
+                .map(this::aFila),
+        this::eliminar);
+  }
+
+  FilaImportacion aFila(String linea) {
+    String[] campos = linea.split(",", -1);
+    if (campos.length != CANTIDAD_CAMPOS) {
+      return FilaImportacion.invalida(
+          new Alumno(aLong(campos[0]), null, null, null, null), MENSAJE_CANTIDAD_CAMPOS);
+    }
+    Long id = aLong(campos[0]);
+    String nombre = campos[1].trim();
+    String apellido = campos[2].trim();
+    String edadTexto = campos[4].trim();
+    Integer edad = aEntero(edadTexto);
+    Alumno alumno = new Alumno(id, nombre, apellido, aEstado(campos[3]), edad);
+    if (edad == null && !edadTexto.isEmpty()) {
+      return FilaImportacion.invalida(alumno, MENSAJE_EDAD_NO_NUMERICA);
+    }
+    AlumnoRequestDTO solicitud = new AlumnoRequestDTO(id, nombre, apellido, campos[3].trim(), edad);
+    return validacionAlumnos
+        .primerError(solicitud)
+        .map(error -> FilaImportacion.invalida(alumno, error))
+        .orElseGet(() -> FilaImportacion.valida(alumno));
+  }
+
+  private static Long aLong(String valor) {
+    try {
+      return Long.valueOf(valor.trim());
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  private static Integer aEntero(String valor) {
+    try {
+      return Integer.valueOf(valor.trim());
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  private static Alumno.Estado aEstado(String valor) {
+    String estado = valor.trim().toUpperCase(Locale.ROOT);
+    for (Alumno.Estado candidato : Alumno.Estado.values()) {
+      if (candidato.name().equals(estado)) {
+        return candidato;
+      }
+    }
+    return null;
+  }
+
+  private void eliminar(Path ruta) {
+    try {
+      Files.deleteIfExists(ruta);
+    } catch (IOException ex) {
+      logger.warn("No se pudo eliminar el archivo temporal {}: ", ruta, ex);
+    }
+  }
+
+  /** Cuenta las filas de datos (sin la cabecera) mientras el contenido se escribe a disco. */
+  private static final class ContadorLineas {
+    private long saltosDeLinea;
+    private long bytes;
+    private byte ultimoByte;
+
+    void contar(DataBuffer buffer) {
+      int inicio = buffer.readPosition();
+      int fin = inicio + buffer.readableByteCount();
+      for (int i = inicio; i < fin; i++) {
+        if (buffer.getByte(i) == '\n') {
+          saltosDeLinea++;
+        }
+      }
+      if (fin > inicio) {
+        ultimoByte = buffer.getByte(fin - 1);
+        bytes += fin - inicio;
+      }
+    }
+
+    long filasDeDatos() {
+      long lineas = saltosDeLinea + (bytes > 0 && ultimoByte != '\n' ? 1 : 0);
+      return Math.max(0, lineas - 1);
+    }
+  }
+}
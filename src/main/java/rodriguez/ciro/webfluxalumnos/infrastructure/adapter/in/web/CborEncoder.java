@@ -0,0 +1,47 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Escribe respuestas HTTP en CBOR. El {@code Jackson2CborEncoder} de Spring solo codifica valores
+ * sueltos (lo usa RSocket) y falla con el {@code Mono} que le entrega el writer HTTP; aquí un
+ * {@code Mono} se codifica como un único valor y un {@code Flux} como un arreglo CBOR.
+ */
+public class CborEncoder extends AbstractJackson2Encoder {
+
+  public CborEncoder(ObjectMapper cborMapper) {
+    super(cborMapper, MediaType.APPLICATION_CBOR);
+    Assert.isAssignable(CBORFactory.class, cborMapper.getFactory().getClass());
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<?> inputStream,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    if (inputStream instanceof Mono) {
+      return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+    // El arreglo que arma AbstractJackson2Encoder usa separadores de texto JSON.
+    ResolvableType listaType = ResolvableType.forClassWithGenerics(List.class, elementType);
+    return Flux.from(inputStream)
+        .collectList()
+        .map(lista -> encodeValue(lista, bufferFactory, listaType, mimeType, hints))
+        .flux();
+  }
+}
@@ -0,0 +1,249 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Comprime con gzip o deflate, según {@code Accept-Encoding}, las respuestas de los endpoints de
+ * alumnos cuyo tipo está en la lista permitida. Las respuestas con tamaño conocido por debajo del
+ * mínimo, como los errores 400 y 409, se envían sin comprimir. Registra por endpoint la razón de
+ * compresión y el tiempo de CPU dedicado a comprimir.
+ */
+public class CompresionRespuestaFilter implements WebFilter {
+
+  private static final String PREFIJO_RUTAS = "/api/alumnos";
+  private static final String ENDPOINT_DESCONOCIDO = "desconocido";
+  private static final Set<Integer> SIN_CUERPO =
+      Set.of(HttpStatus.NO_CONTENT.value(), HttpStatus.NOT_MODIFIED.value());
+
+  private final MeterRegistry meterRegistry;
+  private final PoolCompresores pool;
+  private final long tamanoMinimoBytes;
+  private final List<MediaType> tiposPermitidos;
+
+  public CompresionRespuestaFilter(
+      MeterRegistry meterRegistry,
+      long tamanoMinimoBytes,
+      List<MediaType> tiposPermitidos,
+      int nivel,
+      int compresoresEnPool) {
+    this.meterRegistry = meterRegistry;
+    this.pool = new PoolCompresores(compresoresEnPool, nivel);
+    this.tamanoMinimoBytes = tamanoMinimoBytes;
+    this.tiposPermitidos = List.copyOf(tiposPermitidos);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!exchange.getRequest().getPath().value().startsWith(PREFIJO_RUTAS)) {
+      return chain.filter(exchange);
+    }
+    Compresor.Codificacion codificacion =
+        negociar(exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+    if (codificacion == null) {
+      return chain.filter(exchange);
+    }
+    ServerHttpResponse respuesta = new RespuestaComprimida(exchange, codificacion);
+    respuesta.beforeCommit(() -> Mono.fromRunnable(() -> debilitarEtag(respuesta.getHeaders())));
+    return chain.filter(exchange.mutate().response(respuesta).build());
+  }
+
+  /**
+   * La representación comprimida no es idéntica byte a byte, así que su ETag pasa a ser débil, que
+   * es como If-None-Match lo compara de todos modos. Se aplica a toda respuesta que pudo ir
+   * comprimida, también a las que quedan sin comprimir por tamaño y a los 304, porque un 304 tiene
+   * que repetir el ETag que tendría la respuesta completa.
+   */
+  private static void debilitarEtag(HttpHeaders headers) {
+    String etag = headers.getETag();
+    if (etag != null && !etag.startsWith("W/")) {
+      headers.setETag("W/" + etag);
+      variarPorCodificacion(headers);
+    }
+  }
+
+  private static void variarPorCodificacion(HttpHeaders headers) {
+    if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+      headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+  }
+
+  /** Elige gzip o deflate según sus valores q; ante un empate se prefiere gzip. */
+  static Compresor.Codificacion negociar(List<String> aceptadas) {
+    if (aceptadas == null) {
+      return null;
+    }
+    double gzip = -1;
+    double deflate = -1;
+    double comodin = -1;
+    for (String valor : aceptadas) {
+      for (String entrada : valor.split(",")) {
+        String[] partes = entrada.split(";");
+        String nombre = partes[0].trim().toLowerCase(Locale.ROOT);
+        double calidad = calidad(partes);
+        switch (nombre) {
+          case "gzip", "x-gzip" -> gzip = Math.max(gzip, calidad);
+          case "deflate" -> deflate = calidad;
+          case "*" -> comodin = calidad;
+          default -> {}
+        }
+      }
+    }
+    gzip = gzip >= 0 ? gzip : comodin;
+    deflate = deflate >= 0 ? deflate : comodin;
+    if (gzip <= 0 && deflate <= 0) {
+      return null;
+    }
+    return gzip >= deflate ? Compresor.Codificacion.GZIP : Compresor.Codificacion.DEFLATE;
+  }
+
+  private static double calidad(String[] partes) {
+    for (int i = 1; i < partes.length; i++) {
+      String parametro = partes[i].trim();
+      if (parametro.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parametro.substring(2));
+        } catch (NumberFormatException ex) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private final class RespuestaComprimida extends ServerHttpResponseDecorator {
+
+    private final ServerWebExchange exchange;
+    private final Compresor.Codificacion codificacion;
+
+    RespuestaComprimida(ServerWebExchange exchange, Compresor.Codificacion codificacion) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+      this.codificacion = codificacion;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (!debeComprimir()) {
+        return super.writeWith(body);
+      }
+      prepararCabeceras();
+      return super.writeWith(
+          Flux.defer(
+              () -> {
+                Compresor compresor = pool.tomar(codificacion);
+                return comprimir(body, compresor)
+                    .concatWith(Mono.fromCallable(() -> terminar(compresor)));
+              }));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      if (!debeComprimir()) {
+        return super.writeAndFlushWith(body);
+      }
+      prepararCabeceras();
+      return super.writeAndFlushWith(
+          Flux.defer(
+              () -> {
+                // Cada publicador interno termina con un SYNC_FLUSH, para que el cliente reciba
+                // cada elemento del stream en cuanto se vacía.
+                Compresor compresor = pool.tomar(codificacion);
+                return Flux.from(body)
+                    .<Publisher<DataBuffer>>map(
+                        elemento ->
+                            comprimir(elemento, compresor)
+                                .concatWith(
+                                    Mono.fromSupplier(() -> compresor.vaciar(bufferFactory()))))
+                    .concatWith(Mono.just(Mono.fromCallable(() -> terminar(compresor))));
+              }));
+    }
+
+    private Flux<DataBuffer> comprimir(Publisher<? extends DataBuffer> body, Compresor compresor) {
+      return Flux.from(body)
+          .<DataBuffer>handle(
+              (buffer, sink) -> {
+                DataBuffer comprimido = compresor.comprimir(buffer, bufferFactory(), false);
+                if (comprimido != null) {
+                  sink.next(comprimido);
+                }
+              });
+    }
+
+    private boolean debeComprimir() {
+      HttpHeaders headers = getHeaders();
+      HttpStatusCode estado = getStatusCode();
+      if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+          || (estado != null && SIN_CUERPO.contains(estado.value()))) {
+        return false;
+      }
+      MediaType tipo = headers.getContentType();
+      if (tipo == null || !esPermitido(tipo)) {
+        return false;
+      }
+      long longitud = headers.getContentLength();
+      return longitud < 0 || longitud >= tamanoMinimoBytes;
+    }
+
+    private boolean esPermitido(MediaType tipo) {
+      return tiposPermitidos.stream().anyMatch(permitido -> permitido.includes(tipo));
+    }
+
+    private void prepararCabeceras() {
+      HttpHeaders headers = getHeaders();
+      headers.remove(HttpHeaders.CONTENT_LENGTH);
+      headers.set(HttpHeaders.CONTENT_ENCODING, codificacion.getNombre());
+      variarPorCodificacion(headers);
+    }
+
+    /**
+     * Cierra el flujo y devuelve el compresor al pool. Si la respuesta se cancela o falla antes de
+     * llegar aquí, el compresor no vuelve al pool y su memoria la libera el recolector.
+     */
+    private DataBuffer terminar(Compresor compresor) {
+      DataBuffer fin = compresor.terminar(bufferFactory());
+      registrarMetricas(compresor);
+      pool.devolver(compresor);
+      return fin;
+    }
+
+    private void registrarMetricas(Compresor compresor) {
+      Object patron = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String endpoint = patron != null ? patron.toString() : ENDPOINT_DESCONOCIDO;
+      String nombreCodificacion = codificacion.getNombre();
+      if (compresor.getBytesSalida() > 0) {
+        DistributionSummary.builder("alumnos.compresion.ratio")
+            .description("Bytes sin comprimir por cada byte enviado")
+            .tag("endpoint", endpoint)
+            .tag("codificacion", nombreCodificacion)
+            .register(meterRegistry)
+            .record((double) compresor.getBytesEntrada() / compresor.getBytesSalida());
+      }
+      Timer.builder("alumnos.compresion.cpu")
+          .description("Tiempo de CPU dedicado a comprimir cada respuesta")
+          .tag("endpoint", endpoint)
+          .tag("codificacion", nombreCodificacion)
+          .register(meterRegistry)
+          .record(compresor.getNanosCpu(), TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Estado de compresión de una respuesta: un {@link Deflater} con su buffer de salida y, para gzip,
+ * el CRC del contenido. Se reinicia y se reutiliza entre respuestas a través de {@link
+ * PoolCompresores}, en lugar de crear un {@code Deflater} nuevo cada vez. No es seguro para uso
+ * concurrente: cada respuesta lo usa en secuencia.
+ */
+final class Compresor {
+
+  enum Codificacion {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String nombre;
+
+    Codificacion(String nombre) {
+      this.nombre = nombre;
+    }
+
+    String getNombre() {
+      return nombre;
+    }
+  }
+
+  private static final byte[] CABECERA_GZIP = {
+    0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+  private static final int TAMANO_SALIDA = 8 * 1024;
+
+  private static final ThreadMXBean HILOS = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_POR_HILO = HILOS.isCurrentThreadCpuTimeSupported();
+
+  private final Codificacion codificacion;
+  private final Deflater deflater;
+  private final CRC32 crc;
+  private final byte[] salida = new byte[TAMANO_SALIDA];
+  private boolean cabeceraEscrita;
+  private long bytesEntrada;
+  private long bytesSalida;
+  private long nanosCpu;
+
+  Compresor(Codificacion codificacion, int nivel) {
+    this.codificacion = codificacion;
+    // gzip lleva su propia cabecera y trailer, así que el Deflater produce deflate sin envoltura.
+    this.deflater = new Deflater(nivel, codificacion == Codificacion.GZIP);
+    this.crc = codificacion == Codificacion.GZIP ? new CRC32() : null;
+  }
+
+  /**
+   * Comprime el buffer, que se libera. Con {@code vaciar} se fuerza un SYNC_FLUSH para que el
+   * cliente pueda descomprimir todo lo recibido hasta ahora. Devuelve {@code null} si el Deflater
+   * aún no produjo salida.
+   */
+  DataBuffer comprimir(DataBuffer entrada, DataBufferFactory bufferFactory, boolean vaciar) {
+    long inicio = tiempoCpu();
+    try {
+      DataBuffer resultado = escribirCabecera(bufferFactory);
+      try (DataBuffer.ByteBufferIterator bloques = entrada.readableByteBuffers()) {
+        while (bloques.hasNext()) {
+          ByteBuffer bloque = bloques.next();
+          bytesEntrada += bloque.remaining();
+          if (crc != null) {
+            crc.update(bloque.duplicate());
+          }
+          deflater.setInput(bloque);
+          // El Deflater guarda una referencia al bloque: se consume entero antes del siguiente.
+          while (!deflater.needsInput()) {
+            resultado = drenar(resultado, bufferFactory, Deflater.NO_FLUSH);
+          }
+        }
+      }
+      if (vaciar) {
+        resultado = vaciarPendiente(resultado, bufferFactory);
+      }
+      return resultado;
+    } finally {
+      DataBufferUtils.release(entrada);
+      nanosCpu += tiempoCpu() - inicio;
+    }
+  }
+
+  /** Fuerza un SYNC_FLUSH de lo pendiente. Devuelve {@code null} si no había nada pendiente. */
+  DataBuffer vaciar(DataBufferFactory bufferFactory) {
+    long inicio = tiempoCpu();
+    try {
+      return vaciarPendiente(escribirCabecera(bufferFactory), bufferFactory);
+    } finally {
+      nanosCpu += tiempoCpu() - inicio;
+    }
+  }
+
+  /** Cierra el flujo comprimido y devuelve sus últimos bytes, incluido el trailer de gzip. */
+  DataBuffer terminar(DataBufferFactory bufferFactory) {
+    long inicio = tiempoCpu();
+    try {
+      DataBuffer resultado = escribirCabecera(bufferFactory);
+      deflater.finish();
+      while (!deflater.finished()) {
+        resultado = drenar(resultado, bufferFactory, Deflater.NO_FLUSH);
+      }
+      if (crc != null) {
+        byte[] trailer = new byte[8];
+        escribirEnteroLittleEndian(trailer, 0, crc.getValue());
+        escribirEnteroLittleEndian(trailer, 4, bytesEntrada);
+        resultado = escribir(resultado, bufferFactory, trailer, trailer.length);
+      }
+      return resultado != null ? resultado : bufferFactory.allocateBuffer(0);
+    } finally {
+      nanosCpu += tiempoCpu() - inicio;
+    }
+  }
+
+  void reiniciar() {
+    deflater.reset();
+    if (crc != null) {
+      crc.reset();
+    }
+    cabeceraEscrita = false;
+    bytesEntrada = 0;
+    bytesSalida = 0;
+    nanosCpu = 0;
+  }
+
+  void liberar() {
+    deflater.end();
+  }
+
+  Codificacion getCodificacion() {
+    return codificacion;
+  }
+
+  long getBytesEntrada() {
+    return bytesEntrada;
+  }
+
+  long getBytesSalida() {
+    return bytesSalida;
+  }
+
+  long getNanosCpu() {
+    return nanosCpu;
+  }
+
+  private DataBuffer escribirCabecera(DataBufferFactory bufferFactory) {
+    if (cabeceraEscrita || crc == null) {
+      return null;
+    }
+    cabeceraEscrita = true;
+    return escribir(null, bufferFactory, CABECERA_GZIP, CABECERA_GZIP.length);
+  }
+
+  private DataBuffer vaciarPendiente(DataBuffer resultado, DataBufferFactory bufferFactory) {
+    int producidos;
+    do {
+      producidos = deflater.deflate(salida, 0, salida.length, Deflater.SYNC_FLUSH);
+      if (producidos > 0) {
+        resultado = escribir(resultado, bufferFactory, salida, producidos);
+      }
+    } while (producidos == salida.length);
+    return resultado;
+  }
+
+  private DataBuffer drenar(DataBuffer resultado, DataBufferFactory bufferFactory, int modo) {
+    int producidos = deflater.deflate(salida, 0, salida.length, modo);
+    return producidos > 0 ? escribir(resultado, bufferFactory, salida, producidos) : resultado;
+  }
+
+  private DataBuffer escribir(
+      DataBuffer resultado, DataBufferFactory bufferFactory, byte[] bytes, int cantidad) {
+    DataBuffer destino = resultado != null ? resultado : bufferFactory.allocateBuffer(cantidad);
+    bytesSalida += cantidad;
+    return destino.write(bytes, 0, cantidad);
+  }
+
+  private static void escribirEnteroLittleEndian(byte[] destino, int posicion, long valor) {
+    for (int i = 0; i < 4; i++) {
+      destino[posicion + i] = (byte) (valor >>> (8 * i));
+    }
+  }
+
+  private static long tiempoCpu() {
+    return CPU_POR_HILO ? HILOS.getCurrentThreadCpuTime() : System.nanoTime();
+  }
+}
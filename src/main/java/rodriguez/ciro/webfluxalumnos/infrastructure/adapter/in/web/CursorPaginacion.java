@@ -0,0 +1,57 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/**
+ * Codifica y decodifica el cursor opaco de la paginación por keyset. El cursor contiene el último
+ * ID entregado, de modo que la siguiente página se obtiene con {@code id > ?} en lugar de OFFSET.
+ */
+public final class CursorPaginacion {
+
+  public static final String HEADER_SIGUIENTE_CURSOR = "X-Next-Cursor";
+
+  private static final String PREFIJO = "id:";
+  private static final String MENSAJE_CURSOR_INVALIDO = "El cursor de paginación no es válido";
+
+  private CursorPaginacion() {}
+
+  public static String codificar(Long ultimoId) {
+    byte[] contenido = (PREFIJO + ultimoId).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(contenido);
+  }
+
+  /**
+   * Cursor de la página que sigue a {@code alumnos}, o {@code null} si la página no vino completa.
+   * Sale del alumno y no del DTO, que puede no incluir el ID.
+   */
+  public static String siguiente(List<Alumno> alumnos, int size) {
+    if (alumnos.isEmpty() || alumnos.size() != size) {
+      return null;
+    }
+    return codificar(alumnos.get(alumnos.size() - 1).getId());
+  }
+
+  public static Long decodificar(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      throw new IllegalArgumentException(MENSAJE_CURSOR_INVALIDO);
+    }
+    long ultimoId;
+    try {
+      String contenido =
+          new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      ultimoId =
+          contenido.startsWith(PREFIJO)
+              ? Long.parseLong(contenido.substring(PREFIJO.length()))
+              : -1;
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException(MENSAJE_CURSOR_INVALIDO, ex);
+    }
+    if (ultimoId < 0) {
+      throw new IllegalArgumentException(MENSAJE_CURSOR_INVALIDO);
+    }
+    return ultimoId;
+  }
+}
@@ -0,0 +1,44 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerEstadisticasAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.EstadisticasAlumnosDTO;
+
+@RestController
+@RequestMapping("/api/alumnos/estadisticas")
+@Tag(name = "Alumnos", description = "API para gestión de alumnos")
+public class EstadisticasAlumnosController {
+
+  private final ObtenerEstadisticasAlumnosUseCase obtenerEstadisticasAlumnosUseCase;
+
+  public EstadisticasAlumnosController(
+      ObtenerEstadisticasAlumnosUseCase obtenerEstadisticasAlumnosUseCase) {
+    this.obtenerEstadisticasAlumnosUseCase = obtenerEstadisticasAlumnosUseCase;
+  }
+
+  @GetMapping
+  @Operation(
+      summary = "Obtener estadísticas de alumnos",
+      description =
+          "Devuelve la cantidad de alumnos por estado, en total y por rango de edad. Se resuelve"
+              + " con contadores en memoria, sin consultar la base de datos")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estadísticas de alumnos",
+            content = @Content(schema = @Schema(implementation = EstadisticasAlumnosDTO.class)))
+      })
+  public Mono<EstadisticasAlumnosDTO> obtenerEstadisticas() {
+    return obtenerEstadisticasAlumnosUseCase
+        .obtenerEstadisticas()
+        .map(EstadisticasAlumnosDTO::fromDomain);
+  }
+}
@@ -0,0 +1,54 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.Set;
+import org.springframework.http.MediaType;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Calcula el ETag de una página de alumnos activos a partir de la versión de los datos y de la
+ * posición pedida, sin leer la página. Incluye el instante de arranque porque la versión vuelve a
+ * empezar en cada reinicio. También incluye los campos pedidos y el formato negociado, porque
+ * {@code fields} y JSON, CBOR o Smile cambian la representación de la misma página.
+ */
+public final class EtagPaginacion {
+
+  private static final String ARRANQUE = Long.toString(System.currentTimeMillis(), 36);
+
+  private EtagPaginacion() {}
+
+  public static String porPagina(
+      long version, int page, int size, Set<CampoAlumno> campos, MediaType tipo) {
+    return construir(version, "p" + page, size, campos, tipo);
+  }
+
+  public static String porCursor(
+      long version, Long ultimoId, int size, Set<CampoAlumno> campos, MediaType tipo) {
+    return construir(version, "c" + ultimoId, size, campos, tipo);
+  }
+
+  private static String construir(
+      long version, String posicion, int size, Set<CampoAlumno> campos, MediaType tipo) {
+    return "\""
+        + ARRANQUE
+        + "-"
+        + version
+        + "-"
+        + posicion
+        + "-"
+        + size
+        + "-"
+        + mascara(campos)
+        + "-"
+        + tipo.getSubtype()
+        + "\"";
+  }
+
+  /** Un bit por campo: el orden y las repeticiones de {@code fields} no cambian el ETag. */
+  private static String mascara(Set<CampoAlumno> campos) {
+    int mascara = 0;
+    for (CampoAlumno campo : campos) {
+      mascara |= 1 << campo.ordinal();
+    }
+    return Integer.toHexString(mascara);
+  }
+}
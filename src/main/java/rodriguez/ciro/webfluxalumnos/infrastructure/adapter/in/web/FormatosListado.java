@@ -0,0 +1,40 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+
+/**
+ * Formatos en que se entrega una página de alumnos activos. El tipo se elige a partir de Accept
+ * antes de leer la página, porque también forma parte de su ETag.
+ */
+final class FormatosListado {
+
+  /** Tipos que produce el listado, en orden de preferencia cuando Accept admite varios. */
+  static final List<MediaType> TIPOS =
+      List.of(
+          MediaType.APPLICATION_JSON,
+          MediaType.APPLICATION_CBOR,
+          CodecConfiguration.APPLICATION_SMILE);
+
+  private FormatosListado() {}
+
+  /** Devuelve el tipo que corresponde a Accept, o {@code null} si ninguno es aceptable. */
+  static MediaType negociar(List<MediaType> aceptados) {
+    if (aceptados.isEmpty()) {
+      return MediaType.APPLICATION_JSON;
+    }
+    List<MediaType> ordenados = new ArrayList<>(aceptados);
+    MimeTypeUtils.sortBySpecificity(ordenados);
+    for (MediaType aceptado : ordenados) {
+      for (MediaType tipo : TIPOS) {
+        if (aceptado.isCompatibleWith(tipo)) {
+          return tipo;
+        }
+      }
+    }
+    return null;
+  }
+}
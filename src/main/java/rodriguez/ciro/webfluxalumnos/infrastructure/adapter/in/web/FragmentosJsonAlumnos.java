@@ -0,0 +1,90 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.codec.EncodingException;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoParcialDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+/**
+ * Guarda el JSON ya serializado de cada alumno, de modo que Jackson solo codifica un alumno la
+ * primera vez que se entrega en cada versión de los datos.
+ *
+ * <p>Los fragmentos se identifican por el ID del alumno y la versión de los datos leída antes de
+ * consultarlo. Cada {@code save} o {@code saveAll} aumenta la versión, así que la primera respuesta
+ * con una versión nueva descarta los fragmentos de las anteriores; una respuesta leída con una
+ * versión ya superada se serializa sin guardarse. Los {@link AlumnoParcialDTO} ({@code ?fields=})
+ * tampoco se guardan, para no desplazar el fragmento completo.
+ *
+ * <p>El JSON se guarda fuera del heap en buffers directos de solo lectura. No se usan buffers del
+ * pool de Netty porque la caché puede descartar un fragmento mientras una respuesta todavía lo
+ * escribe; un buffer directo se libera recién cuando nadie lo referencia.
+ */
+public class FragmentosJsonAlumnos {
+
+  // Aproximación del costo fijo de cada entrada (clave y buffer directo) para el peso de la caché.
+  private static final int SOBRECARGA_ENTRADA = 128;
+
+  private final ObjectMapper objectMapper;
+  private final Cache<Clave, ByteBuffer> fragmentos;
+  private final AtomicLong versionVigente = new AtomicLong(Long.MIN_VALUE);
+
+  public FragmentosJsonAlumnos(ObjectMapper objectMapper, long tamanoMaximoBytes) {
+    this.objectMapper = objectMapper;
+    this.fragmentos =
+        Caffeine.newBuilder()
+            .maximumWeight(tamanoMaximoBytes)
+            .<Clave, ByteBuffer>weigher((clave, json) -> json.capacity() + SOBRECARGA_ENTRADA)
+            .build();
+  }
+
+  /** Serializa el alumno sin guardarlo, para respuestas cuya versión de los datos se desconoce. */
+  public ByteBuffer obtener(AlumnoResponseDTO alumno) {
+    return ByteBuffer.wrap(serializar(alumno));
+  }
+
+  /**
+   * Devuelve el JSON del alumno leído con la versión de datos indicada. El buffer devuelto es una
+   * vista propia del fragmento, así que se puede consumir sin afectar a otras respuestas.
+   */
+  public ByteBuffer obtener(AlumnoResponseDTO alumno, long version) {
+    if (alumno.getId() == null || alumno instanceof AlumnoParcialDTO || !esVigente(version)) {
+      return obtener(alumno);
+    }
+    return fragmentos
+        .get(new Clave(alumno.getId(), version), clave -> fueraDelHeap(serializar(alumno)))
+        .duplicate();
+  }
+
+  long cantidad() {
+    fragmentos.cleanUp();
+    return fragmentos.estimatedSize();
+  }
+
+  private boolean esVigente(long version) {
+    long anterior = versionVigente.getAndAccumulate(version, Math::max);
+    if (version > anterior) {
+      // Hubo escrituras desde la última respuesta: nadie vuelve a pedir las versiones anteriores.
+      fragmentos.invalidateAll();
+    }
+    return version >= anterior;
+  }
+
+  private byte[] serializar(AlumnoResponseDTO alumno) {
+    try {
+      return objectMapper.writeValueAsBytes(alumno);
+    } catch (JsonProcessingException ex) {
+      throw new EncodingException("No se pudo serializar el alumno " + alumno.getId(), ex);
+    }
+  }
+
+  private static ByteBuffer fueraDelHeap(byte[] json) {
+    return ByteBuffer.allocateDirect(json.length).put(json).flip().asReadOnlyBuffer();
+  }
+
+  private record Clave(long id, long version) {}
+}
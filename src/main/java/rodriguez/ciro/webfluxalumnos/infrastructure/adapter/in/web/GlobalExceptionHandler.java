@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.error.ErrorAlumnos;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -20,15 +22,20 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(AlumnoYaExisteException.class)
   public ResponseEntity<Map<String, Object>> handleAlumnoYaExiste(AlumnoYaExisteException ex) {
     logger.error("Alumno ya existe: ", ex);
-    return ResponseEntity.status(HttpStatus.CONFLICT)
-        .body(createErrorResponse("ALUMNO_YA_EXISTE", ex.getMessage()));
+    return responder(ErrorAlumnos.desde(ex));
+  }
+
+  @ExceptionHandler(AlumnoNoEncontradoException.class)
+  public ResponseEntity<Map<String, Object>> handleAlumnoNoEncontrado(
+      AlumnoNoEncontradoException ex) {
+    logger.debug("Alumno no encontrado: {}", ex.getMessage());
+    return responder(ErrorAlumnos.desde(ex));
   }
 
   @ExceptionHandler(AlumnoInvalidoException.class)
   public ResponseEntity<Map<String, Object>> handleAlumnoInvalido(AlumnoInvalidoException ex) {
     logger.error("Alumno inválido: ", ex);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(createErrorResponse("ALUMNO_INVALIDO", ex.getMessage()));
+    return responder(ErrorAlumnos.desde(ex));
   }
 
   @ExceptionHandler(WebExchangeBindException.class)
@@ -39,36 +46,64 @@ public class GlobalExceptionHandler {
         ex.getFieldErrors().isEmpty()
             ? "Datos inválidos"
             : ex.getFieldErrors().get(0).getDefaultMessage();
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(createErrorResponse("ALUMNO_INVALIDO", mensaje));
+    return responder(
+        new ErrorAlumnos(ErrorAlumnos.Tipo.SOLICITUD_INVALIDA, "ALUMNO_INVALIDO", mensaje));
   }
 
   @ExceptionHandler(org.springframework.web.server.ServerWebInputException.class)
   public ResponseEntity<Map<String, Object>> handleServerWebInputException(
       org.springframework.web.server.ServerWebInputException ex) {
     logger.error("Error de entrada/salida: ", ex);
-    String message = "Error en el formato de los datos enviados";
-    if (ex.getCause() instanceof com.fasterxml.jackson.core.JsonParseException) {
-      message = "El JSON enviado no es válido";
-    } else if (ex.getCause() instanceof com.fasterxml.jackson.databind.JsonMappingException) {
-      message = "El JSON no corresponde al formato esperado";
-    }
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(createErrorResponse("DATOS_INVALIDOS", message));
+    return responder(ErrorAlumnos.formatoInvalido(ex.getCause()));
   }
 
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
     logger.error("Argumento ilegal: ", ex);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(createErrorResponse("PARAMETROS_INVALIDOS", ex.getMessage()));
+    return responder(ErrorAlumnos.desde(ex));
   }
 
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
     logger.error("Error interno del servidor: ", ex);
-    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-        .body(createErrorResponse("ERROR_INTERNO", "Ha ocurrido un error interno del servidor"));
+    return responder(ErrorAlumnos.desde(ex));
+  }
+
+  /**
+   * Aplica el mismo mapeo que los {@code @ExceptionHandler} anteriores a las rutas funcionales, que
+   * no pasan por este advice.
+   */
+  public ResponseEntity<Map<String, Object>> resolver(Throwable ex) {
+    if (ex instanceof AlumnoYaExisteException alumnoYaExiste) {
+      return handleAlumnoYaExiste(alumnoYaExiste);
+    }
+    if (ex instanceof AlumnoNoEncontradoException noEncontrado) {
+      return handleAlumnoNoEncontrado(noEncontrado);
+    }
+    if (ex instanceof AlumnoInvalidoException alumnoInvalido) {
+      return handleAlumnoInvalido(alumnoInvalido);
+    }
+    if (ex instanceof WebExchangeBindException validacion) {
+      return handleValidationException(validacion);
+    }
+    if (ex instanceof org.springframework.web.server.ServerWebInputException entrada) {
+      return handleServerWebInputException(entrada);
+    }
+    if (ex instanceof IllegalArgumentException argumento) {
+      return handleIllegalArgument(argumento);
+    }
+    return handleGeneral(ex instanceof Exception excepcion ? excepcion : new Exception(ex));
+  }
+
+  private ResponseEntity<Map<String, Object>> responder(ErrorAlumnos error) {
+    HttpStatus estado =
+        switch (error.tipo()) {
+          case CONFLICTO -> HttpStatus.CONFLICT;
+          case NO_ENCONTRADO -> HttpStatus.NOT_FOUND;
+          case SOLICITUD_INVALIDA -> HttpStatus.BAD_REQUEST;
+          case INTERNO -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+    return ResponseEntity.status(estado).body(createErrorResponse(error.codigo(), error.mensaje()));
   }
 
   private Map<String, Object> createErrorResponse(String code, String message) {
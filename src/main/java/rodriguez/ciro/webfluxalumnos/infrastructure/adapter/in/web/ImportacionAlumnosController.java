@@ -0,0 +1,115 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ImportarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.ImportacionDTO;
+
+@RestController
+@RequestMapping("/api/alumnos/importaciones")
+@Tag(name = "Importaciones", description = "API para importar alumnos desde archivos CSV")
+public class ImportacionAlumnosController {
+
+  private static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final ImportarAlumnosUseCase importarAlumnosUseCase;
+  private final ArchivoCsvAlumnos archivoCsvAlumnos;
+
+  public ImportacionAlumnosController(
+      ImportarAlumnosUseCase importarAlumnosUseCase, ArchivoCsvAlumnos archivoCsvAlumnos) {
+    this.importarAlumnosUseCase = importarAlumnosUseCase;
+    this.archivoCsvAlumnos = archivoCsvAlumnos;
+  }
+
+  @PostMapping(
+      consumes = {
+        TEXT_CSV_VALUE,
+        MediaType.TEXT_PLAIN_VALUE,
+        MediaType.APPLICATION_OCTET_STREAM_VALUE
+      })
+  @Operation(
+      summary = "Iniciar una importación",
+      description =
+          "Recibe un CSV con el formato id,nombre,apellido,estado,edad y lo importa en segundo"
+              + " plano. La respuesta se envía cuando termina la subida, no la importación")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Importación iniciada",
+            content = @Content(schema = @Schema(implementation = ImportacionDTO.class)))
+      })
+  public Mono<ResponseEntity<ImportacionDTO>> iniciarImportacion(
+      @RequestBody Flux<DataBuffer> contenido) {
+    return archivoCsvAlumnos
+        .guardar(contenido)
+        .map(
+            archivo ->
+                importarAlumnosUseCase.iniciarImportacion(
+                    archivoCsvAlumnos.leer(archivo), archivo.totalFilas()))
+        .map(
+            importacion ->
+                ResponseEntity.accepted()
+                    .location(URI.create("/api/alumnos/importaciones/" + importacion.getId()))
+                    .body(ImportacionDTO.fromDomain(importacion)));
+  }
+
+  @GetMapping("/{id}")
+  @Operation(
+      summary = "Consultar una importación",
+      description = "Devuelve el avance, las filas por segundo y los contadores de la importación")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estado de la importación",
+            content = @Content(schema = @Schema(implementation = ImportacionDTO.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "La importación no existe",
+            content = @Content)
+      })
+  public Mono<ResponseEntity<ImportacionDTO>> consultarImportacion(
+      @Parameter(description = "ID de la importación") @PathVariable String id) {
+    return importarAlumnosUseCase
+        .consultarImportacion(id)
+        .map(importacion -> ResponseEntity.ok(ImportacionDTO.fromDomain(importacion)))
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  @DeleteMapping("/{id}")
+  @Operation(
+      summary = "Cancelar una importación",
+      description =
+          "Detiene la importación si sigue en curso. Los alumnos ya insertados se conservan")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Estado de la importación tras la cancelación",
+            content = @Content(schema = @Schema(implementation = ImportacionDTO.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "La importación no existe",
+            content = @Content)
+      })
+  public Mono<ResponseEntity<ImportacionDTO>> cancelarImportacion(
+      @Parameter(description = "ID de la importación") @PathVariable String id) {
+    return importarAlumnosUseCase
+        .cancelarImportacion(id)
+        .map(importacion -> ResponseEntity.ok(ImportacionDTO.fromDomain(importacion)))
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+}
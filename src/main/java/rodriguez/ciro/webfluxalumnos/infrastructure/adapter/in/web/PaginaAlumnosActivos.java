@@ -0,0 +1,79 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Página de {@code GET /api/alumnos/activos} pedida por {@link AlumnoController} o {@link
+ * AlumnoHandler}. Resuelve el cursor y el ETag antes de leer, para que una petición condicional
+ * vigente no llegue a la base de datos, y lee la página, con solo los campos pedidos, junto con el
+ * total de alumnos activos.
+ */
+final class PaginaAlumnosActivos {
+
+  private final ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+  private final int page;
+  private final int size;
+  private final Long ultimoId;
+  private final Set<CampoAlumno> campos;
+  private final long version;
+  private final String etag;
+
+  private PaginaAlumnosActivos(
+      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase,
+      int page,
+      int size,
+      Long ultimoId,
+      Set<CampoAlumno> campos,
+      long version,
+      String etag) {
+    this.obtenerAlumnosActivosUseCase = obtenerAlumnosActivosUseCase;
+    this.page = page;
+    this.size = size;
+    this.ultimoId = ultimoId;
+    this.campos = campos;
+    this.version = version;
+    this.etag = etag;
+  }
+
+  static PaginaAlumnosActivos preparar(
+      ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase,
+      int page,
+      int size,
+      String after,
+      Set<CampoAlumno> campos,
+      MediaType tipo) {
+    // La versión se lee antes que la página: si una escritura ocurre en medio, el ETag queda
+    // atrasado y la siguiente petición vuelve a leer, nunca al revés.
+    long version = obtenerAlumnosActivosUseCase.obtenerVersionAlumnos();
+    Long ultimoId = after != null ? CursorPaginacion.decodificar(after) : null;
+    String etag =
+        ultimoId != null
+            ? EtagPaginacion.porCursor(version, ultimoId, size, campos, tipo)
+            : EtagPaginacion.porPagina(version, page, size, campos, tipo);
+    return new PaginaAlumnosActivos(
+        obtenerAlumnosActivosUseCase, page, size, ultimoId, campos, version, etag);
+  }
+
+  String etag() {
+    return etag;
+  }
+
+  Mono<Lectura> leer() {
+    Flux<Alumno> alumnos =
+        ultimoId != null
+            ? obtenerAlumnosActivosUseCase.obtenerAlumnosActivosDespuesDe(ultimoId, size, campos)
+            : obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(page, size, campos);
+    return Mono.zip(alumnos.collectList(), obtenerAlumnosActivosUseCase.contarAlumnosActivos())
+        .map(resultado -> new Lectura(resultado.getT1(), resultado.getT2(), version));
+  }
+
+  /** Alumnos y total de la página, con la versión de los datos leída antes de consultarlos. */
+  record Lectura(List<Alumno> alumnos, long total, long version) {}
+}
@@ -0,0 +1,43 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Compresores libres por codificación. Si no hay uno libre se crea otro, y si el pool está lleno al
+ * devolverlo se libera su memoria nativa, de modo que el pool nunca bloquea una respuesta.
+ */
+final class PoolCompresores {
+
+  private final Map<Compresor.Codificacion, BlockingQueue<Compresor>> libres =
+      new EnumMap<>(Compresor.Codificacion.class);
+  private final int nivel;
+
+  PoolCompresores(int capacidad, int nivel) {
+    if (capacidad <= 0) {
+      throw new IllegalArgumentException("La capacidad del pool debe ser mayor que 0");
+    }
+    for (Compresor.Codificacion codificacion : Compresor.Codificacion.values()) {
+      libres.put(codificacion, new ArrayBlockingQueue<>(capacidad));
+    }
+    this.nivel = nivel;
+  }
+
+  Compresor tomar(Compresor.Codificacion codificacion) {
+    Compresor compresor = libres.get(codificacion).poll();
+    return compresor != null ? compresor : new Compresor(codificacion, nivel);
+  }
+
+  void devolver(Compresor compresor) {
+    compresor.reiniciar();
+    if (!libres.get(compresor.getCodificacion()).offer(compresor)) {
+      compresor.liberar();
+    }
+  }
+
+  int libres(Compresor.Codificacion codificacion) {
+    return libres.get(codificacion).size();
+  }
+}
@@ -0,0 +1,48 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.in.BuscarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.SugerenciaAlumnoDTO;
+
+@RestController
+@RequestMapping("/api/alumnos/sugerencias")
+@Tag(name = "Alumnos", description = "API para gestión de alumnos")
+public class SugerenciasAlumnosController {
+
+  private final BuscarAlumnosUseCase buscarAlumnosUseCase;
+
+  public SugerenciasAlumnosController(BuscarAlumnosUseCase buscarAlumnosUseCase) {
+    this.buscarAlumnosUseCase = buscarAlumnosUseCase;
+  }
+
+  @GetMapping
+  @Operation(
+      summary = "Sugerir alumnos por nombre",
+      description =
+          "Devuelve los alumnos cuyo nombre, apellido o nombre completo empieza con el texto, sin"
+              + " distinguir mayúsculas ni acentos. Se resuelve con un índice en memoria, sin"
+              + " consultar la base de datos")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Alumnos sugeridos",
+            content = @Content(schema = @Schema(implementation = SugerenciaAlumnoDTO.class)))
+      })
+  public Flux<SugerenciaAlumnoDTO> sugerirAlumnos(
+      @Parameter(description = "Texto escrito hasta el momento", example = "jua") @RequestParam
+          String q,
+      @Parameter(description = "Cantidad máxima de sugerencias (1-50)", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    return buscarAlumnosUseCase.buscarPorPrefijo(q, limit).map(SugerenciaAlumnoDTO::fromDomain);
+  }
+}
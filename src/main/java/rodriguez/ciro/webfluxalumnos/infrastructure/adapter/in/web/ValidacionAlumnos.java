@@ -0,0 +1,55 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+
+/**
+ * Aplica las restricciones declaradas en {@link AlumnoRequestDTO} a las entradas que no pasan por
+ * {@code @Valid}, para que todas acepten los mismos valores y respondan con los mismos mensajes que
+ * el alta individual.
+ */
+public class ValidacionAlumnos {
+
+  private static final List<String> CAMPOS = List.of("nombre", "apellido", "estado", "edad");
+
+  private final Validator validator;
+
+  public ValidacionAlumnos(Validator validator) {
+    this.validator = validator;
+  }
+
+  /** Devuelve el mensaje del primer campo inválido, en el orden en que se declaran. */
+  public Optional<String> primerError(AlumnoRequestDTO solicitud) {
+    for (String campo : CAMPOS) {
+      Optional<String> error = primerMensaje(validator.validateProperty(solicitud, campo));
+      if (error.isPresent()) {
+        return error;
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Devuelve el mensaje que daría el campo con ese valor, o vacío si el valor es válido. */
+  public Optional<String> error(String campo, Object valor) {
+    return primerMensaje(validator.validateValue(AlumnoRequestDTO.class, campo, valor));
+  }
+
+  private static <T> Optional<String> primerMensaje(Set<ConstraintViolation<T>> violaciones) {
+    // Un valor en blanco también incumple el formato; se informa primero que falta.
+    return violaciones.stream()
+        .min(Comparator.comparing(violacion -> !esObligatorio(violacion)))
+        .map(ConstraintViolation::getMessage);
+  }
+
+  private static boolean esObligatorio(ConstraintViolation<?> violacion) {
+    Class<?> restriccion = violacion.getConstraintDescriptor().getAnnotation().annotationType();
+    return restriccion == NotNull.class || restriccion == NotBlank.class;
+  }
+}
@@ -0,0 +1,35 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import java.util.Set;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Alumno de la exportación en flujo de los alumnos activos. Se serializa igual que {@link
+ * AlumnoResponseDTO}; el tipo propio permite que el encoder por bloques atienda solo la exportación
+ * y deje las respuestas de uno o de unos pocos alumnos a Jackson.
+ */
+public class AlumnoExportadoDTO extends AlumnoResponseDTO {
+
+  public AlumnoExportadoDTO(Long id, String nombre, String apellido, String estado, Integer edad) {
+    super(id, nombre, apellido, estado, edad);
+  }
+
+  /** Con todos los campos es el alumno completo; si no, un {@link AlumnoExportadoParcialDTO}. */
+  public static AlumnoExportadoDTO fromDomain(Alumno alumno, Set<CampoAlumno> campos) {
+    if (campos.size() == CampoAlumno.TODOS.size()) {
+      return new AlumnoExportadoDTO(
+          alumno.getId(),
+          alumno.getNombre(),
+          alumno.getApellido(),
+          alumno.getEstado().name(),
+          alumno.getEdad());
+    }
+    return new AlumnoExportadoParcialDTO(
+        campos.contains(CampoAlumno.ID) ? alumno.getId() : null,
+        campos.contains(CampoAlumno.NOMBRE) ? alumno.getNombre() : null,
+        campos.contains(CampoAlumno.APELLIDO) ? alumno.getApellido() : null,
+        campos.contains(CampoAlumno.ESTADO) ? alumno.getEstado().name() : null,
+        campos.contains(CampoAlumno.EDAD) ? alumno.getEdad() : null);
+  }
+}
@@ -0,0 +1,16 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Alumno de una exportación pedida con {@code ?fields=}. Como {@link AlumnoParcialDTO}, no escribe
+ * los campos que no se pidieron.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AlumnoExportadoParcialDTO extends AlumnoExportadoDTO {
+
+  public AlumnoExportadoParcialDTO(
+      Long id, String nombre, String apellido, String estado, Integer edad) {
+    super(id, nombre, apellido, estado, edad);
+  }
+}
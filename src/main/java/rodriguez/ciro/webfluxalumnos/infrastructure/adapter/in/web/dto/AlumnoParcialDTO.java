@@ -0,0 +1,15 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Alumno de un listado pedido con {@code ?fields=}. Los campos que no se pidieron quedan en {@code
+ * null} y no se escriben; las respuestas sin {@code fields} siguen escribiendo todos los campos.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AlumnoParcialDTO extends AlumnoResponseDTO {
+
+  public AlumnoParcialDTO(Long id, String nombre, String apellido, String estado, Integer edad) {
+    super(id, nombre, apellido, estado, edad);
+  }
+}
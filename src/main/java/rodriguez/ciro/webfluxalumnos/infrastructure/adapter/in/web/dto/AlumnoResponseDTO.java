@@ -1,7 +1,10 @@
 package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import java.util.Set;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
 
 @Schema(description = "Datos de respuesta de un alumno")
 public class AlumnoResponseDTO {
@@ -37,6 +40,19 @@ public class AlumnoResponseDTO {
         alumno.getEdad());
   }
 
+  /** Con todos los campos es la respuesta completa; si no, un {@link AlumnoParcialDTO}. */
+  public static AlumnoResponseDTO fromDomain(Alumno alumno, Set<CampoAlumno> campos) {
+    if (campos.size() == CampoAlumno.TODOS.size()) {
+      return fromDomain(alumno);
+    }
+    return new AlumnoParcialDTO(
+        campos.contains(CampoAlumno.ID) ? alumno.getId() : null,
+        campos.contains(CampoAlumno.NOMBRE) ? alumno.getNombre() : null,
+        campos.contains(CampoAlumno.APELLIDO) ? alumno.getApellido() : null,
+        campos.contains(CampoAlumno.ESTADO) ? alumno.getEstado().name() : null,
+        campos.contains(CampoAlumno.EDAD) ? alumno.getEdad() : null);
+  }
+
   public Long getId() {
     return id;
   }
@@ -56,4 +72,21 @@ public class AlumnoResponseDTO {
   public Integer getEdad() {
     return edad;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    AlumnoResponseDTO that = (AlumnoResponseDTO) o;
+    return Objects.equals(id, that.id)
+        && Objects.equals(nombre, that.nombre)
+        && Objects.equals(apellido, that.apellido)
+        && Objects.equals(estado, that.estado)
+        && Objects.equals(edad, that.edad);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, nombre, apellido, estado, edad);
+  }
 }
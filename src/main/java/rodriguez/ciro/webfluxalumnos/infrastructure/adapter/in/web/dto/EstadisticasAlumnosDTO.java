@@ -0,0 +1,108 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+@Schema(description = "Cantidad de alumnos por estado y rango de edad")
+public class EstadisticasAlumnosDTO {
+  @Schema(description = "Cantidad total de alumnos", example = "10")
+  private final long total;
+
+  @Schema(description = "Alumnos activos", example = "7")
+  private final long activos;
+
+  @Schema(description = "Alumnos inactivos", example = "3")
+  private final long inactivos;
+
+  @Schema(description = "Cantidades por rango de edad, de menor a mayor")
+  private final List<RangoEdadDTO> rangosEdad;
+
+  public EstadisticasAlumnosDTO(
+      long total, long activos, long inactivos, List<RangoEdadDTO> rangosEdad) {
+    this.total = total;
+    this.activos = activos;
+    this.inactivos = inactivos;
+    this.rangosEdad = rangosEdad;
+  }
+
+  public static EstadisticasAlumnosDTO fromDomain(EstadisticasAlumnos estadisticas) {
+    return new EstadisticasAlumnosDTO(
+        estadisticas.getTotal(),
+        estadisticas.contar(Alumno.Estado.ACTIVO),
+        estadisticas.contar(Alumno.Estado.INACTIVO),
+        estadisticas.getPorRangoEdad().stream().map(RangoEdadDTO::fromDomain).toList());
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public long getActivos() {
+    return activos;
+  }
+
+  public long getInactivos() {
+    return inactivos;
+  }
+
+  public List<RangoEdadDTO> getRangosEdad() {
+    return rangosEdad;
+  }
+
+  @Schema(description = "Cantidad de alumnos con edad entre desde y hasta, ambos incluidos")
+  public static class RangoEdadDTO {
+    @Schema(description = "Edad mínima del rango", example = "18")
+    private final int desde;
+
+    @Schema(description = "Edad máxima del rango", example = "24")
+    private final int hasta;
+
+    @Schema(description = "Cantidad total de alumnos en el rango", example = "6")
+    private final long total;
+
+    @Schema(description = "Alumnos activos en el rango", example = "4")
+    private final long activos;
+
+    @Schema(description = "Alumnos inactivos en el rango", example = "2")
+    private final long inactivos;
+
+    public RangoEdadDTO(int desde, int hasta, long total, long activos, long inactivos) {
+      this.desde = desde;
+      this.hasta = hasta;
+      this.total = total;
+      this.activos = activos;
+      this.inactivos = inactivos;
+    }
+
+    public static RangoEdadDTO fromDomain(EstadisticasAlumnos.RangoEdad rango) {
+      return new RangoEdadDTO(
+          rango.getDesde(),
+          rango.getHasta(),
+          rango.getTotal(),
+          rango.contar(Alumno.Estado.ACTIVO),
+          rango.contar(Alumno.Estado.INACTIVO));
+    }
+
+    public int getDesde() {
+      return desde;
+    }
+
+    public int getHasta() {
+      return hasta;
+    }
+
+    public long getTotal() {
+      return total;
+    }
+
+    public long getActivos() {
+      return activos;
+    }
+
+    public long getInactivos() {
+      return inactivos;
+    }
+  }
+}
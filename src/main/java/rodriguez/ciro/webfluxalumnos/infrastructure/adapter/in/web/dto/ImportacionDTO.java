@@ -0,0 +1,151 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+
+@Schema(description = "Estado de una importación de alumnos desde CSV")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportacionDTO {
+  @Schema(description = "ID de la importación", example = "3f0c7a4e-2b1d-4c55-9a57-2f5d1c0e9b11")
+  private final String id;
+
+  @Schema(
+      description = "Estado de la importación",
+      example = "EN_CURSO",
+      allowableValues = {"EN_CURSO", "COMPLETADA", "CANCELADA", "FALLIDA"})
+  private final String estado;
+
+  @Schema(description = "Filas de datos del archivo", example = "1000000")
+  private final long totalFilas;
+
+  @Schema(description = "Filas procesadas hasta el momento", example = "250000")
+  private final long filasProcesadas;
+
+  @Schema(description = "Alumnos creados", example = "249000")
+  private final long creados;
+
+  @Schema(description = "Filas con un ID ya existente", example = "900")
+  private final long duplicados;
+
+  @Schema(description = "Filas inválidas", example = "100")
+  private final long invalidos;
+
+  @Schema(description = "Primeras filas inválidas con el motivo del rechazo")
+  private final List<ResultadoCargaDTO> errores;
+
+  @Schema(description = "Porcentaje de avance", example = "25.0")
+  private final double progreso;
+
+  @Schema(description = "Filas procesadas por segundo", example = "52000.5")
+  private final double filasPorSegundo;
+
+  @Schema(description = "Inicio de la importación")
+  private final Instant inicio;
+
+  @Schema(description = "Fin de la importación", nullable = true)
+  private final Instant fin;
+
+  @Schema(description = "Detalle del error si la importación falló", nullable = true)
+  private final String mensaje;
+
+  public ImportacionDTO(
+      String id,
+      String estado,
+      long totalFilas,
+      long filasProcesadas,
+      long creados,
+      long duplicados,
+      long invalidos,
+      List<ResultadoCargaDTO> errores,
+      double progreso,
+      double filasPorSegundo,
+      Instant inicio,
+      Instant fin,
+      String mensaje) {
+    this.id = id;
+    this.estado = estado;
+    this.totalFilas = totalFilas;
+    this.filasProcesadas = filasProcesadas;
+    this.creados = creados;
+    this.duplicados = duplicados;
+    this.invalidos = invalidos;
+    this.errores = errores;
+    this.progreso = progreso;
+    this.filasPorSegundo = filasPorSegundo;
+    this.inicio = inicio;
+    this.fin = fin;
+    this.mensaje = mensaje;
+  }
+
+  public static ImportacionDTO fromDomain(ImportacionAlumnos importacion) {
+    return new ImportacionDTO(
+        importacion.getId(),
+        importacion.getEstado().name(),
+        importacion.getTotalFilas(),
+        importacion.getFilasProcesadas(),
+        importacion.getCreados(),
+        importacion.getDuplicados(),
+        importacion.getInvalidos(),
+        importacion.getErrores().stream().map(ResultadoCargaDTO::fromDomain).toList(),
+        importacion.getProgreso(),
+        importacion.getFilasPorSegundo(),
+        importacion.getInicio(),
+        importacion.getFin(),
+        importacion.getMensaje());
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getEstado() {
+    return estado;
+  }
+
+  public long getTotalFilas() {
+    return totalFilas;
+  }
+
+  public long getFilasProcesadas() {
+    return filasProcesadas;
+  }
+
+  public long getCreados() {
+    return creados;
+  }
+
+  public long getDuplicados() {
+    return duplicados;
+  }
+
+  public long getInvalidos() {
+    return invalidos;
+  }
+
+  public List<ResultadoCargaDTO> getErrores() {
+    return errores;
+  }
+
+  public double getProgreso() {
+    return progreso;
+  }
+
+  public double getFilasPorSegundo() {
+    return filasPorSegundo;
+  }
+
+  public Instant getInicio() {
+    return inicio;
+  }
+
+  public Instant getFin() {
+    return fin;
+  }
+
+  public String getMensaje() {
+    return mensaje;
+  }
+}
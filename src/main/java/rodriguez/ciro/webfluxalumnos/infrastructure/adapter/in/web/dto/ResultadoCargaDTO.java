@@ -0,0 +1,44 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+@Schema(description = "Resultado de la carga de un alumno en una carga masiva")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoCargaDTO {
+  @Schema(description = "ID del alumno enviado", example = "1", nullable = true)
+  private final Long id;
+
+  @Schema(
+      description = "Resultado de la carga",
+      example = "CREADO",
+      allowableValues = {"CREADO", "DUPLICADO", "INVALIDO"})
+  private final String resultado;
+
+  @Schema(description = "Detalle del error cuando el alumno no se creó", nullable = true)
+  private final String mensaje;
+
+  public ResultadoCargaDTO(Long id, String resultado, String mensaje) {
+    this.id = id;
+    this.resultado = resultado;
+    this.mensaje = mensaje;
+  }
+
+  public static ResultadoCargaDTO fromDomain(ResultadoCargaAlumno resultado) {
+    return new ResultadoCargaDTO(
+        resultado.getId(), resultado.getTipo().name(), resultado.getMensaje());
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getResultado() {
+    return resultado;
+  }
+
+  public String getMensaje() {
+    return mensaje;
+  }
+}
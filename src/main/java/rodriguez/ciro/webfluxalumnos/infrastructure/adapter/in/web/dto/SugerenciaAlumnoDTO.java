@@ -0,0 +1,39 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+@Schema(description = "Alumno sugerido por la búsqueda de nombres")
+public class SugerenciaAlumnoDTO {
+  @Schema(description = "ID único del alumno", example = "1")
+  private final Long id;
+
+  @Schema(description = "Nombre del alumno", example = "Juan")
+  private final String nombre;
+
+  @Schema(description = "Apellido del alumno", example = "Pérez")
+  private final String apellido;
+
+  public SugerenciaAlumnoDTO(Long id, String nombre, String apellido) {
+    this.id = id;
+    this.nombre = nombre;
+    this.apellido = apellido;
+  }
+
+  public static SugerenciaAlumnoDTO fromDomain(SugerenciaAlumno sugerencia) {
+    return new SugerenciaAlumnoDTO(
+        sugerencia.getId(), sugerencia.getNombre(), sugerencia.getApellido());
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getNombre() {
+    return nombre;
+  }
+
+  public String getApellido() {
+    return apellido;
+  }
+}
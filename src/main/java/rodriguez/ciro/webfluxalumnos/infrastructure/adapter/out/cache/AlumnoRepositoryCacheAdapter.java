@@ -0,0 +1,201 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.application.port.out.VersionAlumnosPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence.AlumnoRepositoryAdapter;
+
+/**
+ * Decorador de {@link AlumnoRepositoryPort} que guarda en memoria las páginas de alumnos activos.
+ *
+ * <p>La caché usa la política W-TinyLFU de Caffeine con tamaño máximo y TTL. Cada escritura de un
+ * alumno ACTIVO invalida solo las páginas cuyo contenido puede cambiar: las que terminan en un ID
+ * mayor al insertado o las que no estaban completas.
+ *
+ * <p>También es la única fuente de la versión de los datos: aumenta recién después de invalidar las
+ * páginas, así que quien lee la versión nueva ya no puede recibir una página anterior a la
+ * escritura.
+ */
+@Component
+@Primary
+public class AlumnoRepositoryCacheAdapter implements AlumnoRepositoryPort, VersionAlumnosPort {
+
+  static final String NOMBRE_CACHE = "alumnos.activos";
+
+  private final AlumnoRepositoryPort delegate;
+  private final AsyncCache<ClavePagina, List<Alumno>> paginas;
+  private final AtomicLong version = new AtomicLong();
+
+  public AlumnoRepositoryCacheAdapter(
+      AlumnoRepositoryAdapter delegate,
+      MeterRegistry meterRegistry,
+      @Value("${alumnos.cache.activos.tamano-maximo:1000}") long tamanoMaximo,
+      @Value("${alumnos.cache.activos.ttl:30s}") Duration ttl) {
+    this.delegate = delegate;
+    this.paginas =
+        Caffeine.newBuilder()
+            .maximumSize(tamanoMaximo)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, paginas.synchronous(), NOMBRE_CACHE);
+    Gauge.builder("alumnos.cache.hit.ratio", paginas, c -> c.synchronous().stats().hitRate())
+        .tag("cache", NOMBRE_CACHE)
+        .description("Proporción de consultas de páginas resueltas desde la caché")
+        .register(meterRegistry);
+    Gauge.builder("alumnos.cache.miss.ratio", paginas, c -> c.synchronous().stats().missRate())
+        .tag("cache", NOMBRE_CACHE)
+        .description("Proporción de consultas de páginas que fueron a la base de datos")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> save(Alumno alumno) {
+    return delegate
+        .save(alumno)
+        .doOnSuccess(
+            ignored -> {
+              if (alumno.estaActivo()) {
+                invalidar(alumno.getId());
+              }
+              version.incrementAndGet();
+            });
+  }
+
+  @Override
+  public Flux<ResultadoCargaAlumno> saveAll(Flux<Alumno> alumnos) {
+    Set<Long> idsActivos = ConcurrentHashMap.newKeySet();
+    return delegate
+        .saveAll(
+            alumnos.doOnNext(
+                alumno -> {
+                  if (alumno.estaActivo()) {
+                    idsActivos.add(alumno.getId());
+                  }
+                }))
+        .doOnNext(
+            resultado -> {
+              boolean activo = idsActivos.remove(resultado.getId());
+              if (resultado.getTipo() == ResultadoCargaAlumno.Tipo.CREADO) {
+                if (activo) {
+                  invalidar(resultado.getId());
+                }
+                version.incrementAndGet();
+              }
+            });
+  }
+
+  @Override
+  public Mono<Boolean> existsById(Long id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public Flux<Alumno> findAllById(Collection<Long> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public Flux<SugerenciaAlumno> buscarPorPrefijo(String texto, int limite) {
+    return delegate.buscarPorPrefijo(texto, limite);
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnosActivosPaginados(int page, int size, Set<CampoAlumno> campos) {
+    return obtener(
+        new ClavePagina(null, page, size, campos),
+        () -> delegate.findAlumnosActivosPaginados(page, size, campos));
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnosActivosDespuesDe(
+      Long ultimoId, int size, Set<CampoAlumno> campos) {
+    return obtener(
+        new ClavePagina(ultimoId, 0, size, campos),
+        () -> delegate.findAlumnosActivosDespuesDe(ultimoId, size, campos));
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnos(
+      FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size) {
+    return delegate.findAlumnos(filtro, campos, ultimoId, size);
+  }
+
+  @Override
+  public Flux<Alumno> streamAlumnosActivos(Set<CampoAlumno> campos) {
+    return delegate.streamAlumnosActivos(campos);
+  }
+
+  @Override
+  public Mono<Long> contarAlumnosActivos() {
+    return delegate.contarAlumnosActivos();
+  }
+
+  @Override
+  public Mono<EstadisticasAlumnos> obtenerEstadisticas() {
+    return delegate.obtenerEstadisticas();
+  }
+
+  @Override
+  public long obtenerVersion() {
+    return version.get();
+  }
+
+  private Flux<Alumno> obtener(ClavePagina clave, Supplier<Flux<Alumno>> consulta) {
+    return Mono.fromFuture(
+            () -> paginas.get(clave, (k, executor) -> consulta.get().collectList().toFuture()),
+            true)
+        .flatMapIterable(Function.identity());
+  }
+
+  private void invalidar(long idInsertado) {
+    paginas
+        .asMap()
+        .entrySet()
+        .removeIf(entrada -> esAfectada(entrada.getKey(), entrada.getValue(), idInsertado));
+  }
+
+  private static boolean esAfectada(
+      ClavePagina clave, CompletableFuture<List<Alumno>> futuro, long idInsertado) {
+    // Una consulta en curso pudo leer antes de la escritura, así que se descarta.
+    if (!futuro.isDone() || futuro.isCompletedExceptionally()) {
+      return true;
+    }
+    if (clave.despuesDe() != null && idInsertado <= clave.despuesDe()) {
+      return false;
+    }
+    List<Alumno> pagina = futuro.join();
+    return pagina.size() < clave.size() || idInsertado < pagina.get(pagina.size() - 1).getId();
+  }
+
+  /**
+   * Página por offset ({@code despuesDe} nulo) o por cursor, con los campos leídos. Las páginas de
+   * distintos campos se guardan por separado; todas tienen el ID, que es lo que mira la
+   * invalidación.
+   */
+  record ClavePagina(Long despuesDe, int page, int size, Set<CampoAlumno> campos) {}
+}
@@ -0,0 +1,74 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import rodriguez.ciro.webfluxalumnos.application.port.out.ImportacionRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+
+/**
+ * Guarda las importaciones en una caché de Caffeine. Una importación en curso no vence; al terminar
+ * se conserva durante {@code alumnos.importacion.retencion} y luego se descarta.
+ */
+@Component
+public class ImportacionRepositoryCacheAdapter implements ImportacionRepositoryPort {
+
+  private final Cache<String, ImportacionAlumnos> importaciones;
+
+  @Autowired
+  public ImportacionRepositoryCacheAdapter(
+      @Value("${alumnos.importacion.retencion:10m}") Duration retencion) {
+    this(retencion, Ticker.systemTicker());
+  }
+
+  ImportacionRepositoryCacheAdapter(Duration retencion, Ticker ticker) {
+    this.importaciones =
+        Caffeine.newBuilder()
+            .expireAfter(new RetencionImportaciones(retencion))
+            .ticker(ticker)
+            .build();
+  }
+
+  @Override
+  public void save(ImportacionAlumnos importacion) {
+    // Reemplazar la entrada recalcula su vencimiento según el estado actual.
+    importaciones.put(importacion.getId(), importacion);
+  }
+
+  @Override
+  public Optional<ImportacionAlumnos> findById(String id) {
+    return Optional.ofNullable(importaciones.getIfPresent(id));
+  }
+
+  private static final class RetencionImportaciones implements Expiry<String, ImportacionAlumnos> {
+
+    private final long retencionNanos;
+
+    RetencionImportaciones(Duration retencion) {
+      this.retencionNanos = retencion.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(String id, ImportacionAlumnos importacion, long ahora) {
+      return importacion.estaEnCurso() ? Long.MAX_VALUE : retencionNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String id, ImportacionAlumnos importacion, long ahora, long duracionActual) {
+      return expireAfterCreate(id, importacion, ahora);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String id, ImportacionAlumnos importacion, long ahora, long duracionActual) {
+      return duracionActual;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import io.r2dbc.spi.Readable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Convierte una fila de {@code alumnos} directamente en {@link Alumno}, sin pasar por {@link
+ * AlumnoEntity} ni por el mapeo reflexivo de Spring Data. Las columnas se leen por posición, así
+ * que las consultas deben seleccionar {@link #COLUMNAS} en ese orden.
+ */
+final class AlumnoFilaMapper {
+
+  static final String COLUMNAS = "id, nombre, apellido, estado, edad";
+
+  private AlumnoFilaMapper() {}
+
+  static Alumno aAlumno(Readable fila) {
+    return new Alumno(
+        fila.get(0, Long.class),
+        fila.get(1, String.class),
+        fila.get(2, String.class),
+        aEstado(fila.get(3, String.class)),
+        fila.get(4, Integer.class));
+  }
+
+  /**
+   * Columnas de los campos pedidos, en el orden de {@link #COLUMNAS}. El ID se incluye siempre
+   * porque ordena los resultados y arma el cursor de la página siguiente.
+   */
+  static List<String> columnas(Set<CampoAlumno> campos) {
+    List<String> columnas = new ArrayList<>(CampoAlumno.TODOS.size());
+    for (CampoAlumno campo : CampoAlumno.values()) {
+      if (campo == CampoAlumno.ID || campos.contains(campo)) {
+        columnas.add(columna(campo));
+      }
+    }
+    return columnas;
+  }
+
+  /** Convierte una fila con las {@link #columnas(Set)} de los campos; el resto queda en null. */
+  static Alumno aAlumnoParcial(Readable fila, Set<CampoAlumno> campos) {
+    int indice = 0;
+    Long id = fila.get(indice++, Long.class);
+    String nombre = campos.contains(CampoAlumno.NOMBRE) ? fila.get(indice++, String.class) : null;
+    String apellido =
+        campos.contains(CampoAlumno.APELLIDO) ? fila.get(indice++, String.class) : null;
+    Alumno.Estado estado =
+        campos.contains(CampoAlumno.ESTADO) ? aEstado(fila.get(indice++, String.class)) : null;
+    Integer edad = campos.contains(CampoAlumno.EDAD) ? fila.get(indice, Integer.class) : null;
+    return new Alumno(id, nombre, apellido, estado, edad);
+  }
+
+  private static String columna(CampoAlumno campo) {
+    return switch (campo) {
+      case ID -> "id";
+      case NOMBRE -> "nombre";
+      case APELLIDO -> "apellido";
+      case ESTADO -> "estado";
+      case EDAD -> "edad";
+    };
+  }
+
+  private static Alumno.Estado aEstado(String estado) {
+    if (estado == null) {
+      return null;
+    }
+    return switch (estado) {
+      case "ACTIVO" -> Alumno.Estado.ACTIVO;
+      case "INACTIVO" -> Alumno.Estado.INACTIVO;
+      default -> Alumno.Estado.valueOf(estado);
+    };
+  }
+}
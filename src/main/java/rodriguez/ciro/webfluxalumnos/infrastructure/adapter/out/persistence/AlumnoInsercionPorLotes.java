@@ -0,0 +1,171 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+/**
+ * Inserta alumnos en lotes de tamaño configurable usando {@link Statement#add()}, de modo que cada
+ * lote cuesta como mucho una consulta de duplicados y una sentencia de inserción.
+ */
+@Component
+public class AlumnoInsercionPorLotes {
+
+  static final String INSERT_ALUMNO =
+      "INSERT INTO alumnos (id, nombre, apellido, estado, edad) VALUES ($1, $2, $3, $4, $5)";
+
+  private static final String SELECT_IDS_EXISTENTES = "SELECT id FROM alumnos WHERE id IN (:ids)";
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+  private final AlumnoR2dbcRepository repository;
+  private final FiltroIdsAlumnos filtroIds;
+  private final ContadorEstadisticasAlumnos contadorEstadisticas;
+  private final List<ObservadorAltasAlumno> observadoresAltas;
+  private final int tamanoLote;
+
+  public AlumnoInsercionPorLotes(
+      DatabaseClient databaseClient,
+      TransactionalOperator transactionalOperator,
+      AlumnoR2dbcRepository repository,
+      FiltroIdsAlumnos filtroIds,
+      ContadorEstadisticasAlumnos contadorEstadisticas,
+      List<ObservadorAltasAlumno> observadoresAltas,
+      @Value("${alumnos.carga.tamano-lote:500}") int tamanoLote) {
+    if (tamanoLote <= 0) {
+      throw new IllegalArgumentException("El tamaño de lote debe ser mayor que 0");
+    }
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = transactionalOperator;
+    this.repository = repository;
+    this.filtroIds = filtroIds;
+    this.contadorEstadisticas = contadorEstadisticas;
+    this.observadoresAltas = observadoresAltas;
+    this.tamanoLote = tamanoLote;
+  }
+
+  public Flux<ResultadoCargaAlumno> insertar(Flux<Alumno> alumnos) {
+    return alumnos.buffer(tamanoLote).concatMap(this::insertarLote);
+  }
+
+  private Flux<ResultadoCargaAlumno> insertarLote(List<Alumno> lote) {
+    List<Long> ids = lote.stream().map(Alumno::getId).toList();
+    return buscarIdsExistentes(ids)
+        .flatMapMany(
+            existentes -> {
+              Set<Long> vistos = new HashSet<>(existentes);
+              boolean[] duplicados = new boolean[lote.size()];
+              List<Alumno> nuevos = new ArrayList<>(lote.size());
+              for (int i = 0; i < lote.size(); i++) {
+                Alumno alumno = lote.get(i);
+                duplicados[i] = !vistos.add(alumno.getId());
+                if (!duplicados[i]) {
+                  nuevos.add(alumno);
+                }
+              }
+              return contadorEstadisticas
+                  .registrarAltas(
+                      ejecutarLote(nuevos)
+                          .doOnSuccess(ignored -> nuevos.forEach(this::notificarAlta)))
+                  .thenMany(
+                      Flux.range(0, lote.size())
+                          .map(
+                              i ->
+                                  duplicados[i]
+                                      ? ResultadoCargaAlumno.duplicado(lote.get(i).getId())
+                                      : ResultadoCargaAlumno.creado(lote.get(i).getId())))
+                  .onErrorResume(
+                      this::esViolacionDeIntegridad, ex -> insertarUnoAUno(lote, duplicados));
+            });
+  }
+
+  // Solo se consultan los IDs que el filtro no descarta; si los descarta todos, no hay consulta.
+  private Mono<Set<Long>> buscarIdsExistentes(List<Long> ids) {
+    List<Long> posibles = ids.stream().filter(filtroIds::podriaExistir).distinct().toList();
+    if (posibles.isEmpty()) {
+      return Mono.just(Set.of());
+    }
+    return databaseClient
+        .sql(SELECT_IDS_EXISTENTES)
+        .bind("ids", posibles)
+        .map(row -> row.get("id", Long.class))
+        .all()
+        .collect(Collectors.toSet());
+  }
+
+  private Mono<Void> ejecutarLote(List<Alumno> alumnos) {
+    if (alumnos.isEmpty()) {
+      return Mono.empty();
+    }
+    Flux<Long> filasInsertadas =
+        databaseClient.inConnectionMany(
+            connection -> {
+              Statement statement = connection.createStatement(INSERT_ALUMNO);
+              for (int i = 0; i < alumnos.size(); i++) {
+                if (i > 0) {
+                  statement.add();
+                }
+                AlumnoEntity entity = AlumnoEntity.fromDomain(alumnos.get(i));
+                statement
+                    .bind(0, entity.getId())
+                    .bind(1, entity.getNombre())
+                    .bind(2, entity.getApellido())
+                    .bind(3, entity.getEstado())
+                    .bind(4, entity.getEdad());
+              }
+              return Flux.from(statement.execute()).flatMap(result -> result.getRowsUpdated());
+            });
+    return transactionalOperator.transactional(filasInsertadas).then();
+  }
+
+  // Otro proceso insertó alguno de los IDs entre la consulta y el lote: el lote se revirtió y se
+  // reintenta fila por fila para informar el resultado exacto de cada alumno.
+  private Flux<ResultadoCargaAlumno> insertarUnoAUno(List<Alumno> lote, boolean[] duplicados) {
+    return Flux.range(0, lote.size())
+        .concatMap(
+            i -> {
+              Alumno alumno = lote.get(i);
+              if (duplicados[i]) {
+                return Mono.just(ResultadoCargaAlumno.duplicado(alumno.getId()));
+              }
+              AlumnoEntity entity = AlumnoEntity.fromDomain(alumno);
+              return contadorEstadisticas
+                  .registrarAltas(
+                      repository
+                          .insertAlumno(
+                              entity.getId(),
+                              entity.getNombre(),
+                              entity.getApellido(),
+                              entity.getEstado(),
+                              entity.getEdad())
+                          .doOnSuccess(ignored -> notificarAlta(alumno)))
+                  .thenReturn(ResultadoCargaAlumno.creado(alumno.getId()))
+                  .onErrorResume(
+                      DuplicateKeyException.class,
+                      ex -> Mono.just(ResultadoCargaAlumno.duplicado(alumno.getId())));
+            });
+  }
+
+  private void notificarAlta(Alumno alumno) {
+    observadoresAltas.forEach(observador -> observador.alumnoCreado(alumno));
+  }
+
+  private boolean esViolacionDeIntegridad(Throwable ex) {
+    return ex instanceof DataIntegrityViolationException
+        || ex instanceof R2dbcDataIntegrityViolationException;
+  }
+}
@@ -0,0 +1,57 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+/**
+ * Lee páginas de alumnos con filtros opcionales de estado y edad. La consulta se arma con {@link
+ * Criteria}, así que cada valor llega a la base de datos como parámetro y nunca se concatena al
+ * SQL. Las páginas avanzan por keyset ({@code id > ?} ordenado por ID) con el apoyo de los índices
+ * {@code (estado, id)}, {@code (estado, edad, id)} y {@code (edad, id)}. Solo se seleccionan las
+ * columnas de los campos pedidos; las demás quedan en {@code null}.
+ */
+@Component
+public class AlumnoLecturaFiltrada {
+
+  private final R2dbcEntityTemplate template;
+
+  public AlumnoLecturaFiltrada(R2dbcEntityTemplate template) {
+    this.template = template;
+  }
+
+  public Flux<Alumno> leer(FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size) {
+    return template
+        .select(AlumnoEntity.class)
+        .matching(consulta(filtro, campos, ultimoId, size))
+        .all()
+        .map(AlumnoEntity::toDomain);
+  }
+
+  static Query consulta(FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size) {
+    Criteria criterios = Criteria.empty();
+    if (ultimoId != null) {
+      criterios = criterios.and("id").greaterThan(ultimoId);
+    }
+    if (filtro.getEstado() != null) {
+      criterios = criterios.and("estado").is(filtro.getEstado().name());
+    }
+    if (filtro.getEdadMin() != null) {
+      criterios = criterios.and("edad").greaterThanOrEquals(filtro.getEdadMin());
+    }
+    if (filtro.getEdadMax() != null) {
+      criterios = criterios.and("edad").lessThanOrEquals(filtro.getEdadMax());
+    }
+    return Query.query(criterios)
+        .columns(AlumnoFilaMapper.columnas(campos))
+        .sort(Sort.by("id"))
+        .limit(size);
+  }
+}
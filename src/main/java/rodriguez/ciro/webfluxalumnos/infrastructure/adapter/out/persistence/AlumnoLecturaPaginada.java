@@ -0,0 +1,69 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.util.Set;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Lee páginas de alumnos activos con {@link DatabaseClient} y una lista explícita de columnas,
+ * convirtiendo cada fila directamente en {@link Alumno}. Solo se seleccionan las columnas de los
+ * campos pedidos.
+ */
+@Component
+public class AlumnoLecturaPaginada {
+
+  public static final String SELECT_ACTIVOS_PAGINADOS =
+      "SELECT "
+          + AlumnoFilaMapper.COLUMNAS
+          + " FROM alumnos WHERE estado = 'ACTIVO' ORDER BY id LIMIT $1 OFFSET $2";
+
+  public static final String SELECT_ACTIVOS_DESPUES_DE =
+      "SELECT "
+          + AlumnoFilaMapper.COLUMNAS
+          + " FROM alumnos WHERE estado = 'ACTIVO' AND id > $1 ORDER BY id LIMIT $2";
+
+  private final DatabaseClient databaseClient;
+
+  public AlumnoLecturaPaginada(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  public Flux<Alumno> leerPagina(int size, long offset, Set<CampoAlumno> campos) {
+    return databaseClient
+        .sql(selectActivosPaginados(campos))
+        .bind(0, size)
+        .bind(1, offset)
+        .map(fila -> AlumnoFilaMapper.aAlumnoParcial(fila, campos))
+        .all();
+  }
+
+  public Flux<Alumno> leerDespuesDe(Long ultimoId, int size, Set<CampoAlumno> campos) {
+    return databaseClient
+        .sql(selectActivosDespuesDe(campos))
+        .bind(0, ultimoId)
+        .bind(1, size)
+        .map(fila -> AlumnoFilaMapper.aAlumnoParcial(fila, campos))
+        .all();
+  }
+
+  static String selectActivosPaginados(Set<CampoAlumno> campos) {
+    if (campos.containsAll(CampoAlumno.TODOS)) {
+      return SELECT_ACTIVOS_PAGINADOS;
+    }
+    return "SELECT "
+        + String.join(", ", AlumnoFilaMapper.columnas(campos))
+        + " FROM alumnos WHERE estado = 'ACTIVO' ORDER BY id LIMIT $1 OFFSET $2";
+  }
+
+  static String selectActivosDespuesDe(Set<CampoAlumno> campos) {
+    if (campos.containsAll(CampoAlumno.TODOS)) {
+      return SELECT_ACTIVOS_DESPUES_DE;
+    }
+    return "SELECT "
+        + String.join(", ", AlumnoFilaMapper.columnas(campos))
+        + " FROM alumnos WHERE estado = 'ACTIVO' AND id > $1 ORDER BY id LIMIT $2";
+  }
+}
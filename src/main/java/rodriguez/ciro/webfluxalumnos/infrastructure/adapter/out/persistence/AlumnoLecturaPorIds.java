@@ -0,0 +1,41 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/**
+ * Lee alumnos por ID. Las lecturas concurrentes que llegan dentro de la ventana configurada se
+ * resuelven con una sola consulta {@code WHERE id IN (...)}; con ventana cero cada lectura hace su
+ * propia consulta.
+ */
+@Component
+public class AlumnoLecturaPorIds {
+
+  public static final String SELECT_POR_IDS =
+      "SELECT " + AlumnoFilaMapper.COLUMNAS + " FROM alumnos WHERE id IN (:ids)";
+
+  private final DatabaseClient databaseClient;
+  private final LecturasAgrupadas<Long, Alumno> lecturas;
+
+  public AlumnoLecturaPorIds(
+      DatabaseClient databaseClient,
+      @Value("${alumnos.lectura-por-id.ventana:2ms}") Duration ventana,
+      @Value("${alumnos.lectura-por-id.maximo-ids-por-consulta:500}") int maximoIds) {
+    this.databaseClient = databaseClient;
+    this.lecturas = new LecturasAgrupadas<>(this::consultar, Alumno::getId, ventana, maximoIds);
+  }
+
+  public Flux<Alumno> leer(Collection<Long> ids) {
+    return lecturas.leer(ids);
+  }
+
+  private Flux<Alumno> consultar(Set<Long> ids) {
+    return databaseClient.sql(SELECT_POR_IDS).bind("ids", ids).map(AlumnoFilaMapper::aAlumno).all();
+  }
+}
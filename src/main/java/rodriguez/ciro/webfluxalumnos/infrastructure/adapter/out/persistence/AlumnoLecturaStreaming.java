@@ -0,0 +1,52 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+/**
+ * Lee todos los alumnos activos con una sola consulta. Las filas se piden al driver en bloques de
+ * {@code fetchSize} según la demanda del suscriptor, así que un cliente lento no obliga a cargar el
+ * resultado completo en memoria. Solo se seleccionan las columnas de los campos pedidos.
+ */
+@Component
+public class AlumnoLecturaStreaming {
+
+  static final String SELECT_ACTIVOS =
+      "SELECT " + AlumnoFilaMapper.COLUMNAS + " FROM alumnos WHERE estado = 'ACTIVO' ORDER BY id";
+
+  private final DatabaseClient databaseClient;
+  private final int fetchSize;
+
+  public AlumnoLecturaStreaming(
+      DatabaseClient databaseClient,
+      @Value("${alumnos.exportacion.fetch-size:500}") int fetchSize) {
+    if (fetchSize <= 0) {
+      throw new IllegalArgumentException("El fetch size debe ser mayor que 0");
+    }
+    this.databaseClient = databaseClient;
+    this.fetchSize = fetchSize;
+  }
+
+  public Flux<Alumno> leerActivos(Set<CampoAlumno> campos) {
+    return databaseClient
+        .sql(selectActivos(campos))
+        .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+        .map(fila -> AlumnoFilaMapper.aAlumnoParcial(fila, campos))
+        .all()
+        .limitRate(fetchSize);
+  }
+
+  static String selectActivos(Set<CampoAlumno> campos) {
+    if (campos.containsAll(CampoAlumno.TODOS)) {
+      return SELECT_ACTIVOS;
+    }
+    return "SELECT "
+        + String.join(", ", AlumnoFilaMapper.columnas(campos))
+        + " FROM alumnos WHERE estado = 'ACTIVO' ORDER BY id";
+  }
+}
@@ -1,40 +1,132 @@
 package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
 
 @Component
 public class AlumnoRepositoryAdapter implements AlumnoRepositoryPort {
 
   private final AlumnoR2dbcRepository repository;
+  private final AlumnoInsercionPorLotes insercionPorLotes;
+  private final AlumnoLecturaStreaming lecturaStreaming;
+  private final AlumnoLecturaPaginada lecturaPaginada;
+  private final AlumnoLecturaPorIds lecturaPorIds;
+  private final AlumnoLecturaFiltrada lecturaFiltrada;
+  private final IndiceNombresAlumnos indiceNombres;
+  private final FiltroIdsAlumnos filtroIds;
+  private final ContadorEstadisticasAlumnos contadorEstadisticas;
+  private final List<ObservadorAltasAlumno> observadoresAltas;
 
-  public AlumnoRepositoryAdapter(AlumnoR2dbcRepository repository) {
+  public AlumnoRepositoryAdapter(
+      AlumnoR2dbcRepository repository,
+      AlumnoInsercionPorLotes insercionPorLotes,
+      AlumnoLecturaStreaming lecturaStreaming,
+      AlumnoLecturaPaginada lecturaPaginada,
+      AlumnoLecturaPorIds lecturaPorIds,
+      AlumnoLecturaFiltrada lecturaFiltrada,
+      IndiceNombresAlumnos indiceNombres,
+      FiltroIdsAlumnos filtroIds,
+      ContadorEstadisticasAlumnos contadorEstadisticas,
+      List<ObservadorAltasAlumno> observadoresAltas) {
     this.repository = repository;
+    this.insercionPorLotes = insercionPorLotes;
+    this.lecturaStreaming = lecturaStreaming;
+    this.lecturaPaginada = lecturaPaginada;
+    this.lecturaPorIds = lecturaPorIds;
+    this.lecturaFiltrada = lecturaFiltrada;
+    this.indiceNombres = indiceNombres;
+    this.filtroIds = filtroIds;
+    this.contadorEstadisticas = contadorEstadisticas;
+    this.observadoresAltas = observadoresAltas;
   }
 
   @Override
   public Mono<Void> save(Alumno alumno) {
     AlumnoEntity entity = AlumnoEntity.fromDomain(alumno);
-    return repository.insertAlumno(
-        entity.getId(),
-        entity.getNombre(),
-        entity.getApellido(),
-        entity.getEstado(),
-        entity.getEdad());
+    return contadorEstadisticas
+        .registrarAltas(
+            repository
+                .insertAlumno(
+                    entity.getId(),
+                    entity.getNombre(),
+                    entity.getApellido(),
+                    entity.getEstado(),
+                    entity.getEdad())
+                .doOnSuccess(
+                    ignored ->
+                        observadoresAltas.forEach(observador -> observador.alumnoCreado(alumno))))
+        .onErrorMap(
+            DuplicateKeyException.class,
+            ex -> new AlumnoYaExisteException("Ya existe un alumno con el ID: " + entity.getId()));
+  }
+
+  @Override
+  public Flux<ResultadoCargaAlumno> saveAll(Flux<Alumno> alumnos) {
+    return insercionPorLotes.insertar(alumnos);
   }
 
   @Override
   public Mono<Boolean> existsById(Long id) {
+    if (!filtroIds.podriaExistir(id)) {
+      return Mono.just(false);
+    }
     return repository.existsById(id);
   }
 
   @Override
-  public Flux<Alumno> findAlumnosActivosPaginados(int page, int size) {
+  public Flux<Alumno> findAllById(Collection<Long> ids) {
+    return lecturaPorIds.leer(ids);
+  }
+
+  @Override
+  public Flux<SugerenciaAlumno> buscarPorPrefijo(String texto, int limite) {
+    return Flux.defer(() -> Flux.fromIterable(indiceNombres.buscar(texto, limite)));
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnosActivosPaginados(int page, int size, Set<CampoAlumno> campos) {
     var pageDatabase = page - 1;
-    int offset = pageDatabase * size;
-    return repository.findAlumnosActivosPaginados(size, offset).map(AlumnoEntity::toDomain);
+    long offset = (long) pageDatabase * size;
+    return lecturaPaginada.leerPagina(size, offset, campos);
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnosActivosDespuesDe(
+      Long ultimoId, int size, Set<CampoAlumno> campos) {
+    return lecturaPaginada.leerDespuesDe(ultimoId, size, campos);
+  }
+
+  @Override
+  public Flux<Alumno> findAlumnos(
+      FiltroAlumnos filtro, Set<CampoAlumno> campos, Long ultimoId, int size) {
+    return lecturaFiltrada.leer(filtro, campos, ultimoId, size);
+  }
+
+  @Override
+  public Flux<Alumno> streamAlumnosActivos(Set<CampoAlumno> campos) {
+    return lecturaStreaming.leerActivos(campos);
+  }
+
+  @Override
+  public Mono<Long> contarAlumnosActivos() {
+    return contadorEstadisticas.contar(Alumno.Estado.ACTIVO);
+  }
+
+  @Override
+  public Mono<EstadisticasAlumnos> obtenerEstadisticas() {
+    return contadorEstadisticas.obtener();
   }
 }
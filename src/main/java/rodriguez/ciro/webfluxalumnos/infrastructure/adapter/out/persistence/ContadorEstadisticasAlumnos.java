@@ -0,0 +1,273 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+/**
+ * Cantidad de alumnos por estado y edad mantenida en memoria. Hay un {@link LongAdder} por cada
+ * combinación de estado y edad, así que las altas concurrentes no compiten por el mismo contador.
+ * La tabla se agrupa una sola vez al arrancar y luego se suma cada alta hecha por esta instancia;
+ * una lectura recorre un arreglo de tamaño fijo, sin importar cuántos alumnos haya.
+ *
+ * <p>Las altas se cuentan desde el arranque, pero las anteriores a la consulta ya están en el
+ * {@code GROUP BY}. Por eso cada intento de carga toma una foto de los contadores al empezar y la
+ * descuenta de lo agrupado, de modo que solo se suman las altas posteriores. Para que la foto y la
+ * consulta vean las mismas altas, las escrituras pasan por {@link #registrarAltas(Mono)} y no se
+ * superponen con la carga: una fila confirmada pero todavía no avisada se contaría dos veces.
+ */
+@Component
+public class ContadorEstadisticasAlumnos implements ObservadorAltasAlumno {
+
+  private static final Logger logger = LoggerFactory.getLogger(ContadorEstadisticasAlumnos.class);
+
+  static final String COUNT_POR_ESTADO_Y_EDAD =
+      "SELECT estado, edad, COUNT(*) AS total FROM alumnos GROUP BY estado, edad";
+
+  /** Mayor edad que acepta {@link Alumno}; las edades fuera de rango se cuentan en los extremos. */
+  static final int EDAD_MAXIMA = 150;
+
+  private static final Alumno.Estado[] ESTADOS = Alumno.Estado.values();
+  private static final Duration PARA_SIEMPRE = Duration.ofMillis(Long.MAX_VALUE);
+
+  private final LongAdder[][] conteos = new LongAdder[ESTADOS.length][EDAD_MAXIMA + 1];
+  private final int[] limitesEdad;
+
+  /** Conteos de la base menos las altas ya registradas cuando se agruparon, por estado y edad. */
+  private final Mono<long[][]> conteoInicial;
+
+  private final Object cerrojo = new Object();
+  private int escriturasEnCurso;
+
+  /** Presente mientras una carga excluye las escrituras; se completa al terminar la carga. */
+  private Sinks.Empty<Void> cargaEnCurso;
+
+  /** Presente mientras la carga espera a que terminen las escrituras ya empezadas. */
+  private Sinks.Empty<Void> escriturasPendientes;
+
+  public ContadorEstadisticasAlumnos(
+      DatabaseClient databaseClient,
+      @Value("${alumnos.estadisticas.limites-edad:18,25,35,50}") int[] limitesEdad) {
+    this.limitesEdad = validarLimites(limitesEdad);
+    for (LongAdder[] porEdad : conteos) {
+      for (int edad = 0; edad < porEdad.length; edad++) {
+        porEdad[edad] = new LongAdder();
+      }
+    }
+    // Solo se conserva una carga exitosa; si falla, la siguiente lectura la reintenta con una foto
+    // nueva de las altas.
+    this.conteoInicial =
+        Mono.usingWhen(
+                excluirEscrituras(),
+                exclusion -> {
+                  long[][] altasPrevias = sumarAltas();
+                  return databaseClient
+                      .sql(COUNT_POR_ESTADO_Y_EDAD)
+                      .map(
+                          row ->
+                              new ConteoInicial(
+                                  row.get("estado", String.class),
+                                  row.get("edad", Integer.class),
+                                  row.get("total", Long.class)))
+                      .all()
+                      .collectList()
+                      .map(filas -> descontar(filas, altasPrevias));
+                },
+                exclusion -> Mono.fromRunnable(this::readmitirEscrituras))
+            .cache(base -> PARA_SIEMPRE, ex -> Duration.ZERO, () -> PARA_SIEMPRE);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void alIniciar() {
+    conteoInicial.subscribe(
+        null, ex -> logger.warn("No se pudieron cargar las estadísticas de alumnos", ex));
+  }
+
+  public Mono<EstadisticasAlumnos> obtener() {
+    return conteoInicial.map(this::instantanea);
+  }
+
+  public Mono<Long> contar(Alumno.Estado estado) {
+    return conteoInicial.map(
+        base -> {
+          long total = 0;
+          for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            total += base[estado.ordinal()][edad] + conteos[estado.ordinal()][edad].sum();
+          }
+          return total;
+        });
+  }
+
+  /**
+   * Ejecuta una escritura de alumnos, incluido el aviso de sus altas, sin superponerla con la carga
+   * inicial. Si hay una carga en curso, la escritura espera a que termine; la carga, a su vez,
+   * espera a que terminen las escrituras ya empezadas.
+   */
+  public <T> Mono<T> registrarAltas(Mono<T> escritura) {
+    return Mono.usingWhen(
+        admitirEscritura(),
+        permiso -> escritura,
+        permiso -> Mono.fromRunnable(this::terminarEscritura));
+  }
+
+  @Override
+  public void alumnoCreado(Alumno alumno) {
+    if (alumno.getEstado() != null) {
+      contador(alumno.getEstado(), alumno.getEdad()).increment();
+    }
+  }
+
+  private Mono<Boolean> admitirEscritura() {
+    return Mono.defer(
+        () -> {
+          Mono<Void> espera;
+          synchronized (cerrojo) {
+            if (cargaEnCurso == null) {
+              escriturasEnCurso++;
+              return Mono.just(Boolean.TRUE);
+            }
+            espera = cargaEnCurso.asMono();
+          }
+          return espera.then(admitirEscritura());
+        });
+  }
+
+  private void terminarEscritura() {
+    Sinks.Empty<Void> avisar = null;
+    synchronized (cerrojo) {
+      escriturasEnCurso--;
+      if (escriturasEnCurso == 0 && escriturasPendientes != null) {
+        avisar = escriturasPendientes;
+        escriturasPendientes = null;
+      }
+    }
+    if (avisar != null) {
+      avisar.tryEmitEmpty();
+    }
+  }
+
+  private Mono<Boolean> excluirEscrituras() {
+    return Mono.defer(
+            () -> {
+              Mono<Void> espera;
+              synchronized (cerrojo) {
+                cargaEnCurso = Sinks.empty();
+                if (escriturasEnCurso == 0) {
+                  return Mono.just(Boolean.TRUE);
+                }
+                escriturasPendientes = Sinks.empty();
+                espera = escriturasPendientes.asMono();
+              }
+              return espera.thenReturn(Boolean.TRUE);
+            })
+        .doOnCancel(this::readmitirEscrituras);
+  }
+
+  private void readmitirEscrituras() {
+    Sinks.Empty<Void> avisar;
+    synchronized (cerrojo) {
+      avisar = cargaEnCurso;
+      cargaEnCurso = null;
+      escriturasPendientes = null;
+    }
+    if (avisar != null) {
+      avisar.tryEmitEmpty();
+    }
+  }
+
+  private EstadisticasAlumnos instantanea(long[][] base) {
+    Map<Alumno.Estado, Long> porEstado = new EnumMap<>(Alumno.Estado.class);
+    List<EstadisticasAlumnos.RangoEdad> rangos = new ArrayList<>(limitesEdad.length + 1);
+    int desde = 0;
+    for (int i = 0; i <= limitesEdad.length; i++) {
+      int hasta = i < limitesEdad.length ? limitesEdad[i] - 1 : EDAD_MAXIMA;
+      Map<Alumno.Estado, Long> porEstadoEnRango = new EnumMap<>(Alumno.Estado.class);
+      for (Alumno.Estado estado : ESTADOS) {
+        long total = 0;
+        for (int edad = desde; edad <= hasta; edad++) {
+          total += base[estado.ordinal()][edad] + conteos[estado.ordinal()][edad].sum();
+        }
+        porEstadoEnRango.put(estado, total);
+        porEstado.merge(estado, total, Long::sum);
+      }
+      rangos.add(new EstadisticasAlumnos.RangoEdad(desde, hasta, porEstadoEnRango));
+      desde = hasta + 1;
+    }
+    return new EstadisticasAlumnos(porEstado, rangos);
+  }
+
+  private long[][] sumarAltas() {
+    long[][] altas = new long[ESTADOS.length][EDAD_MAXIMA + 1];
+    for (int estado = 0; estado < altas.length; estado++) {
+      for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+        altas[estado][edad] = conteos[estado][edad].sum();
+      }
+    }
+    return altas;
+  }
+
+  private long[][] descontar(List<ConteoInicial> filas, long[][] altasPrevias) {
+    long[][] base = new long[ESTADOS.length][EDAD_MAXIMA + 1];
+    for (int estado = 0; estado < base.length; estado++) {
+      for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+        base[estado][edad] = -altasPrevias[estado][edad];
+      }
+    }
+    for (ConteoInicial fila : filas) {
+      Alumno.Estado estado = aEstado(fila.estado());
+      if (estado == null) {
+        logger.warn(
+            "Se ignoran {} alumnos con estado desconocido '{}'", fila.total(), fila.estado());
+        continue;
+      }
+      base[estado.ordinal()][indiceEdad(fila.edad())] += fila.total();
+    }
+    logger.info("Estadísticas de alumnos cargadas con {} pares de estado y edad", filas.size());
+    return base;
+  }
+
+  private LongAdder contador(Alumno.Estado estado, Integer edad) {
+    return conteos[estado.ordinal()][indiceEdad(edad)];
+  }
+
+  private static int indiceEdad(Integer edad) {
+    return edad == null ? 0 : Math.max(0, Math.min(EDAD_MAXIMA, edad));
+  }
+
+  private static Alumno.Estado aEstado(String estado) {
+    for (Alumno.Estado candidato : ESTADOS) {
+      if (candidato.name().equals(estado)) {
+        return candidato;
+      }
+    }
+    return null;
+  }
+
+  private static int[] validarLimites(int[] limites) {
+    int anterior = 0;
+    for (int limite : limites) {
+      if (limite <= anterior || limite > EDAD_MAXIMA) {
+        throw new IllegalArgumentException(
+            "Los límites de edad deben ser crecientes y estar entre 1 y " + EDAD_MAXIMA);
+      }
+      anterior = limite;
+    }
+    return limites.clone();
+  }
+
+  record ConteoInicial(String estado, Integer edad, long total) {}
+}
@@ -0,0 +1,81 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre claves {@code long} sin boxing. Responde "seguro que no está" o "quizá
+ * está"; nunca da falsos negativos. Admite escrituras y lecturas concurrentes.
+ */
+final class FiltroBloom {
+
+  private final AtomicLongArray palabras;
+  private final long numeroBits;
+  private final int numeroHashes;
+  private final AtomicLong bitsActivos = new AtomicLong();
+
+  FiltroBloom(long capacidad, double probabilidadFalsoPositivo) {
+    if (capacidad <= 0) {
+      throw new IllegalArgumentException("La capacidad del filtro debe ser mayor que 0");
+    }
+    if (probabilidadFalsoPositivo <= 0 || probabilidadFalsoPositivo >= 1) {
+      throw new IllegalArgumentException(
+          "La probabilidad de falso positivo debe estar entre 0 y 1");
+    }
+    long bits =
+        (long)
+            Math.ceil(
+                -capacidad * Math.log(probabilidadFalsoPositivo) / (Math.log(2) * Math.log(2)));
+    int palabrasNecesarias = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+    this.palabras = new AtomicLongArray(palabrasNecesarias);
+    this.numeroBits = palabrasNecesarias * 64L;
+    this.numeroHashes =
+        Math.max(1, (int) Math.round((double) numeroBits / capacidad * Math.log(2)));
+  }
+
+  void agregar(long clave) {
+    long h1 = mezclar(clave);
+    long h2 = mezclar(h1) | 1;
+    for (int i = 0; i < numeroHashes; i++) {
+      long bit = Math.floorMod(h1 + i * h2, numeroBits);
+      long mascara = 1L << bit;
+      long anterior = palabras.getAndAccumulate((int) (bit >>> 6), mascara, (a, b) -> a | b);
+      if ((anterior & mascara) == 0) {
+        bitsActivos.incrementAndGet();
+      }
+    }
+  }
+
+  boolean podriaContener(long clave) {
+    long h1 = mezclar(clave);
+    long h2 = mezclar(h1) | 1;
+    for (int i = 0; i < numeroHashes; i++) {
+      long bit = Math.floorMod(h1 + i * h2, numeroBits);
+      if ((palabras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Probabilidad de falso positivo estimada a partir de los bits ocupados en este momento. */
+  double getProbabilidadFalsoPositivo() {
+    return Math.pow((double) bitsActivos.get() / numeroBits, numeroHashes);
+  }
+
+  long getTamanoBytes() {
+    return (long) palabras.length() * Long.BYTES;
+  }
+
+  int getNumeroHashes() {
+    return numeroHashes;
+  }
+
+  // Finalizador de SplitMix64: los IDs suelen ser consecutivos y hay que dispersarlos.
+  private static long mezclar(long valor) {
+    long z = valor + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
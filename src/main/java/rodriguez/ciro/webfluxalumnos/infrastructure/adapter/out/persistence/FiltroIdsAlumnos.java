@@ -0,0 +1,103 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/**
+ * Filtro en memoria de los IDs de alumnos existentes. Permite responder "no existe" sin consultar
+ * la base de datos; solo un posible acierto obliga a la consulta real.
+ *
+ * <p>Se carga al arrancar leyendo los IDs de la tabla y se actualiza con cada inserción hecha por
+ * esta instancia. Mientras la carga no termina, todos los IDs se tratan como posibles aciertos.
+ */
+@Component
+public class FiltroIdsAlumnos implements ObservadorAltasAlumno {
+
+  private static final Logger logger = LoggerFactory.getLogger(FiltroIdsAlumnos.class);
+
+  static final String SELECT_IDS = "SELECT id FROM alumnos";
+
+  private final DatabaseClient databaseClient;
+  private final FiltroBloom filtro;
+  private final Counter consultasEvitadas;
+  private final Counter posiblesAciertos;
+  private volatile boolean cargado;
+
+  public FiltroIdsAlumnos(
+      DatabaseClient databaseClient,
+      MeterRegistry meterRegistry,
+      @Value("${alumnos.filtro-ids.capacidad:1000000}") long capacidad,
+      @Value("${alumnos.filtro-ids.probabilidad-falso-positivo:0.01}")
+          double probabilidadFalsoPositivo) {
+    this.databaseClient = databaseClient;
+    this.filtro = new FiltroBloom(capacidad, probabilidadFalsoPositivo);
+    Gauge.builder("alumnos.filtro.ids.memoria", filtro, FiltroBloom::getTamanoBytes)
+        .baseUnit("bytes")
+        .description("Memoria ocupada por el filtro de IDs de alumnos")
+        .register(meterRegistry);
+    Gauge.builder("alumnos.filtro.ids.fpp", filtro, FiltroBloom::getProbabilidadFalsoPositivo)
+        .description("Probabilidad estimada de falso positivo del filtro de IDs")
+        .register(meterRegistry);
+    this.consultasEvitadas =
+        Counter.builder("alumnos.filtro.ids.consultas")
+            .tag("resultado", "ausente")
+            .description("Comprobaciones de ID resueltas por el filtro")
+            .register(meterRegistry);
+    this.posiblesAciertos =
+        Counter.builder("alumnos.filtro.ids.consultas")
+            .tag("resultado", "posible")
+            .description("Comprobaciones de ID que requieren consultar la base de datos")
+            .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void alIniciar() {
+    cargar().subscribe();
+  }
+
+  public Mono<Long> cargar() {
+    return databaseClient
+        .sql(SELECT_IDS)
+        .map(row -> row.get("id", Long.class))
+        .all()
+        .doOnNext(filtro::agregar)
+        .count()
+        .doOnSuccess(
+            total -> {
+              cargado = true;
+              logger.info("Filtro de IDs de alumnos cargado con {} IDs", total);
+            })
+        .doOnError(ex -> logger.warn("No se pudo cargar el filtro de IDs de alumnos", ex));
+  }
+
+  @Override
+  public void alumnoCreado(Alumno alumno) {
+    filtro.agregar(alumno.getId());
+  }
+
+  /**
+   * {@code false} solo si el ID seguro no existe; {@code true} exige consultar la base. Un alumno
+   * sin ID todavía no se guardó, así que nunca existe.
+   */
+  public boolean podriaExistir(Long id) {
+    if (id == null) {
+      return false;
+    }
+    if (cargado && !filtro.podriaContener(id)) {
+      consultasEvitadas.increment();
+      return false;
+    }
+    posiblesAciertos.increment();
+    return true;
+  }
+}
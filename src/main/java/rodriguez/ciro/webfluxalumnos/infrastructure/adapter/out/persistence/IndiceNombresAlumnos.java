@@ -0,0 +1,144 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+/**
+ * Índice en memoria de prefijos de nombres para la búsqueda mientras se escribe. Cada alumno se
+ * indexa por cada palabra de su nombre y apellido y por su nombre completo en ambos órdenes, en
+ * minúsculas y sin acentos. Los términos se guardan ordenados en una skip list concurrente: una
+ * búsqueda baja en tiempo logarítmico hasta el primer término con el prefijo y recorre los
+ * siguientes, y las altas no bloquean a las búsquedas.
+ *
+ * <p>Se carga al arrancar leyendo la tabla y se actualiza con cada inserción hecha por esta
+ * instancia. Mientras la carga no termina, las búsquedas pueden devolver resultados incompletos.
+ */
+@Component
+public class IndiceNombresAlumnos implements ObservadorAltasAlumno {
+
+  private static final Logger logger = LoggerFactory.getLogger(IndiceNombresAlumnos.class);
+
+  static final String SELECT_NOMBRES = "SELECT id, nombre, apellido FROM alumnos";
+
+  private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+  private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+  private final DatabaseClient databaseClient;
+  private final ConcurrentSkipListSet<Termino> terminos = new ConcurrentSkipListSet<>();
+  // El tamaño del set se calcula recorriéndolo, así que la métrica lleva su propia cuenta.
+  private final AtomicLong cantidadTerminos = new AtomicLong();
+
+  public IndiceNombresAlumnos(DatabaseClient databaseClient, MeterRegistry meterRegistry) {
+    this.databaseClient = databaseClient;
+    Gauge.builder("alumnos.indice.nombres.terminos", cantidadTerminos, AtomicLong::get)
+        .description("Términos del índice de nombres de alumnos")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void alIniciar() {
+    cargar().subscribe();
+  }
+
+  public Mono<Long> cargar() {
+    return databaseClient
+        .sql(SELECT_NOMBRES)
+        .map(
+            row ->
+                new SugerenciaAlumno(
+                    row.get("id", Long.class),
+                    row.get("nombre", String.class),
+                    row.get("apellido", String.class)))
+        .all()
+        .doOnNext(this::agregar)
+        .count()
+        .doOnSuccess(total -> logger.info("Índice de nombres cargado con {} alumnos", total))
+        .doOnError(ex -> logger.warn("No se pudo cargar el índice de nombres de alumnos", ex));
+  }
+
+  @Override
+  public void alumnoCreado(Alumno alumno) {
+    agregar(new SugerenciaAlumno(alumno.getId(), alumno.getNombre(), alumno.getApellido()));
+  }
+
+  /** Hasta {@code limite} alumnos distintos, por orden alfabético del término que coincide. */
+  public List<SugerenciaAlumno> buscar(String texto, int limite) {
+    String prefijo = normalizar(texto);
+    if (prefijo.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, SugerenciaAlumno> encontrados = new LinkedHashMap<>();
+    for (Termino termino : terminos.tailSet(new Termino(prefijo, Long.MIN_VALUE, null))) {
+      if (encontrados.size() >= limite || !termino.texto().startsWith(prefijo)) {
+        break;
+      }
+      encontrados.putIfAbsent(termino.id(), termino.alumno());
+    }
+    return List.copyOf(encontrados.values());
+  }
+
+  void agregar(SugerenciaAlumno alumno) {
+    for (String texto : terminosDe(alumno)) {
+      if (terminos.add(new Termino(texto, alumno.getId(), alumno))) {
+        cantidadTerminos.incrementAndGet();
+      }
+    }
+  }
+
+  static Set<String> terminosDe(SugerenciaAlumno alumno) {
+    String nombre = normalizar(alumno.getNombre());
+    String apellido = normalizar(alumno.getApellido());
+    Set<String> resultado = new LinkedHashSet<>();
+    agregarPalabras(resultado, nombre);
+    agregarPalabras(resultado, apellido);
+    resultado.add((nombre + " " + apellido).strip());
+    resultado.add((apellido + " " + nombre).strip());
+    resultado.remove("");
+    return resultado;
+  }
+
+  private static void agregarPalabras(Set<String> resultado, String texto) {
+    for (String palabra : texto.split(" ")) {
+      resultado.add(palabra);
+    }
+  }
+
+  /** Minúsculas, sin marcas diacríticas y con los espacios colapsados. */
+  static String normalizar(String texto) {
+    if (texto == null) {
+      return "";
+    }
+    String descompuesto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+    String sinMarcas = MARCAS.matcher(descompuesto).replaceAll("");
+    return ESPACIOS.matcher(sinMarcas.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+  }
+
+  private record Termino(String texto, long id, SugerenciaAlumno alumno)
+      implements Comparable<Termino> {
+
+    @Override
+    public int compareTo(Termino otro) {
+      int comparacion = texto.compareTo(otro.texto);
+      return comparacion != 0 ? comparacion : Long.compare(id, otro.id);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Agrupa las lecturas por clave que llegan dentro de una ventana de tiempo en una sola consulta (al
+ * estilo DataLoader). La primera lectura abre un lote y programa su envío al cerrar la ventana; las
+ * siguientes suman sus claves al mismo lote, que se envía antes si llega al máximo. El máximo
+ * cuenta claves distintas: si una lectura no cabe entera en el lote abierto, el resto de sus claves
+ * abre lotes nuevos y la lectura espera a todos ellos. Cada suscriptor recibe del resultado común
+ * solo los valores de sus claves, en el orden pedido.
+ *
+ * <p>La consulta de un lote no se cancela cuando un suscriptor se va, porque otros pueden estar
+ * esperando el mismo resultado.
+ */
+final class LecturasAgrupadas<K, V> {
+
+  private final Function<Set<K>, Flux<V>> consulta;
+  private final Function<V, K> clave;
+  private final Duration ventana;
+  private final int maximoClaves;
+  private final Object cerrojo = new Object();
+
+  // Protegido por cerrojo.
+  private Lote<K, V> abierto;
+
+  LecturasAgrupadas(
+      Function<Set<K>, Flux<V>> consulta,
+      Function<V, K> clave,
+      Duration ventana,
+      int maximoClaves) {
+    this.consulta = consulta;
+    this.clave = clave;
+    this.ventana = ventana;
+    this.maximoClaves = maximoClaves;
+  }
+
+  Flux<V> leer(Collection<K> claves) {
+    return Flux.defer(
+        () -> {
+          Set<K> pedidas = new LinkedHashSet<>(claves);
+          if (pedidas.isEmpty()) {
+            return Flux.empty();
+          }
+          Mono<Map<K, V>> resultado =
+              ventana.isZero()
+                  ? Flux.fromIterable(pedidas)
+                      .buffer(maximoClaves)
+                      .flatMap(grupo -> consulta.apply(new LinkedHashSet<>(grupo)))
+                      .collectMap(clave)
+                  : Flux.fromIterable(agregar(pedidas))
+                      .flatMap(lote -> Mono.fromFuture(lote, true))
+                      .<Map<K, V>>collect(HashMap::new, Map::putAll);
+          return resultado.flatMapIterable(
+              valores -> pedidas.stream().map(valores::get).filter(Objects::nonNull).toList());
+        });
+  }
+
+  private List<CompletableFuture<Map<K, V>>> agregar(Set<K> pedidas) {
+    List<Lote<K, V>> usados = new ArrayList<>();
+    List<Lote<K, V>> llenos = new ArrayList<>();
+    List<Lote<K, V>> nuevos = new ArrayList<>();
+    synchronized (cerrojo) {
+      for (K pedida : pedidas) {
+        if (abierto == null) {
+          abierto = new Lote<>();
+          nuevos.add(abierto);
+        }
+        if (usados.isEmpty() || usados.get(usados.size() - 1) != abierto) {
+          usados.add(abierto);
+        }
+        abierto.claves.add(pedida);
+        if (abierto.claves.size() >= maximoClaves) {
+          llenos.add(abierto);
+          abierto = null;
+        }
+      }
+    }
+    llenos.forEach(this::enviar);
+    for (Lote<K, V> lote : nuevos) {
+      if (!llenos.contains(lote)) {
+        Mono.delay(ventana).subscribe(ignored -> cerrarYEnviar(lote));
+      }
+    }
+    return usados.stream().map(lote -> lote.resultado).toList();
+  }
+
+  private void cerrarYEnviar(Lote<K, V> lote) {
+    synchronized (cerrojo) {
+      if (abierto == lote) {
+        abierto = null;
+      }
+    }
+    enviar(lote);
+  }
+
+  private void enviar(Lote<K, V> lote) {
+    // Un lote lleno se envía al instante y su temporizador ya no tiene nada que hacer.
+    if (!lote.enviado.compareAndSet(false, true)) {
+      return;
+    }
+    Set<K> claves;
+    synchronized (cerrojo) {
+      claves = Set.copyOf(lote.claves);
+    }
+    Flux.defer(() -> consulta.apply(claves))
+        .collectMap(clave)
+        .subscribe(lote.resultado::complete, lote.resultado::completeExceptionally);
+  }
+
+  private static final class Lote<K, V> {
+    private final Set<K> claves = new LinkedHashSet<>();
+    private final AtomicBoolean enviado = new AtomicBoolean();
+    private final CompletableFuture<Map<K, V>> resultado = new CompletableFuture<>();
+  }
+}
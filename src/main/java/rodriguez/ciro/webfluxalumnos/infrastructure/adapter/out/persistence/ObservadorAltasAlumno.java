@@ -0,0 +1,12 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/**
+ * Recibe cada alumno insertado por esta instancia, una vez confirmada la escritura. Lo usan las
+ * estructuras en memoria que se mantienen al día sin volver a consultar la base de datos.
+ */
+public interface ObservadorAltasAlumno {
+
+  void alumnoCreado(Alumno alumno);
+}
@@ -0,0 +1,82 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.AlumnoJsonDecoder;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.AlumnosJsonEncoder;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.AlumnosJsonStreamEncoder;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.CborEncoder;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.FragmentosJsonAlumnos;
+
+@Configuration
+public class CodecConfiguration implements WebFluxConfigurer {
+
+  public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+  private final FragmentosJsonAlumnos fragmentosJson;
+  private final AlumnosJsonStreamEncoder streamEncoder;
+  private final AlumnoJsonDecoder alumnoDecoder;
+  private final ObjectMapper objectMapper;
+  private final ObjectMapper cborMapper;
+  private final ObjectMapper smileMapper;
+  private final Validator validator;
+
+  public CodecConfiguration(
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${alumnos.json.cache.tamano-maximo-bytes:16777216}") long tamanoMaximoBytes,
+      @Value("${alumnos.json.stream.alumnos-por-bloque:256}") int alumnosPorBloque) {
+    this.fragmentosJson = new FragmentosJsonAlumnos(objectMapper, tamanoMaximoBytes);
+    this.streamEncoder = new AlumnosJsonStreamEncoder(objectMapper.getFactory(), alumnosPorBloque);
+    this.alumnoDecoder = new AlumnoJsonDecoder(objectMapper.getFactory(), validator);
+    this.objectMapper = objectMapper;
+    // Las copias conservan los módulos y opciones del ObjectMapper de la aplicación.
+    this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    this.validator = validator;
+  }
+
+  @Override
+  public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+    // Los codecs propios se consultan antes que Jackson para los tipos que declaran.
+    configurer.customCodecs().register(new AlumnosJsonEncoder(fragmentosJson));
+    configurer.customCodecs().register(streamEncoder);
+    // Con la configuración por defecto el decoder respeta spring.codec.max-in-memory-size.
+    configurer.customCodecs().registerWithDefaultConfig(alumnoDecoder);
+
+    // Formatos binarios para clientes internos, elegidos por Accept y Content-Type. Jackson JSON
+    // se registra antes que ellos para que siga siendo el formato cuando Accept admite cualquiera.
+    // Los codecs de Jackson sin tipos explícitos asumen los de JSON (incluido NDJSON), así que
+    // cada uno se limita a su formato.
+    configurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper));
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(
+            new AlumnoJsonDecoder(cborMapper.getFactory(), validator, MediaType.APPLICATION_CBOR));
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(
+            new AlumnoJsonDecoder(smileMapper.getFactory(), validator, APPLICATION_SMILE));
+    configurer.customCodecs().registerWithDefaultConfig(new CborEncoder(cborMapper));
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+    configurer
+        .customCodecs()
+        .registerWithDefaultConfig(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+  }
+}
@@ -0,0 +1,36 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.CompresionRespuestaFilter;
+
+@Configuration
+@ConditionalOnProperty(
+    name = "alumnos.compresion.habilitada",
+    havingValue = "true",
+    matchIfMissing = true)
+public class CompresionConfiguration {
+
+  @Bean
+  public CompresionRespuestaFilter compresionRespuestaFilter(
+      MeterRegistry meterRegistry,
+      @Value("${alumnos.compresion.tamano-minimo-bytes:1024}") long tamanoMinimoBytes,
+      @Value(
+              "${alumnos.compresion.tipos-mime:"
+                  + "application/json,application/x-ndjson,text/event-stream}")
+          List<String> tiposMime,
+      @Value("${alumnos.compresion.nivel:6}") int nivel,
+      @Value("${alumnos.compresion.compresores-en-pool:64}") int compresoresEnPool) {
+    return new CompresionRespuestaFilter(
+        meterRegistry,
+        tamanoMinimoBytes,
+        MediaType.parseMediaTypes(tiposMime),
+        nivel,
+        compresoresEnPool);
+  }
+}
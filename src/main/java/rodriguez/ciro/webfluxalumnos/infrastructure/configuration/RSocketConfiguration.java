@@ -0,0 +1,33 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.configuration;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.validation.Validator;
+import org.springframework.boot.rsocket.messaging.RSocketStrategiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.AlumnoJsonDecoder;
+
+@Configuration
+public class RSocketConfiguration {
+
+  /**
+   * Lee los alumnos de las rutas RSocket con {@link AlumnoJsonDecoder}, igual que la API REST. Se
+   * insertan al principio para que Jackson no los construya con los setters de {@code Alumno}.
+   */
+  @Bean
+  public RSocketStrategiesCustomizer alumnoDecoderRSocket(
+      ObjectMapper objectMapper, Validator validator) {
+    // Como en CodecConfiguration, la fábrica CBOR conserva la configuración del ObjectMapper.
+    JsonFactory cborFactory = objectMapper.copyWith(new CBORFactory()).getFactory();
+    return strategies ->
+        strategies.decoders(
+            decoders -> {
+              decoders.add(
+                  0, new AlumnoJsonDecoder(cborFactory, validator, MediaType.APPLICATION_CBOR));
+              decoders.add(0, new AlumnoJsonDecoder(objectMapper.getFactory(), validator));
+            });
+  }
+}
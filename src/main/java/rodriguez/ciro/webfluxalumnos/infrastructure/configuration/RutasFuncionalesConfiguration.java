@@ -0,0 +1,31 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.AlumnoHandler;
+
+/**
+ * Perfil "funcional": crear y listar alumnos activos se atienden con {@link AlumnoHandler}. Las
+ * rutas funcionales se consultan antes que las anotadas, así que el resto de {@code /api/alumnos}
+ * sigue en los controladores.
+ */
+@Configuration
+@Profile("funcional")
+public class RutasFuncionalesConfiguration {
+
+  @Bean
+  public RouterFunction<ServerResponse> rutasAlumnos(AlumnoHandler alumnoHandler) {
+    return RouterFunctions.route()
+        .path(
+            "/api/alumnos",
+            rutas ->
+                rutas
+                    .POST("", alumnoHandler::crearAlumno)
+                    .GET("/activos", alumnoHandler::obtenerAlumnosActivos))
+        .build();
+  }
+}
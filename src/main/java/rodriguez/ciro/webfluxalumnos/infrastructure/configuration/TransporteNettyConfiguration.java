@@ -0,0 +1,65 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.configuration;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Perfil de transporte "h2c": HTTP/2 sin TLS (con conocimiento previo o upgrade desde HTTP/1.1),
+ * transporte nativo epoll cuando está disponible y bucles de eventos y keep-alive configurables.
+ * Sin la librería nativa (perfil Maven {@code epoll}) o fuera de Linux se usa NIO.
+ */
+@Configuration
+@Profile("h2c")
+public class TransporteNettyConfiguration {
+
+  private static final Logger logger = LoggerFactory.getLogger(TransporteNettyConfiguration.class);
+
+  @Bean(destroyMethod = "dispose")
+  public LoopResources buclesHttp(
+      @Value("${alumnos.transporte.hilos-seleccion:1}") int hilosSeleccion,
+      @Value("${alumnos.transporte.hilos-trabajo:0}") int hilosTrabajo) {
+    int trabajo = hilosTrabajo > 0 ? hilosTrabajo : LoopResources.DEFAULT_IO_WORKER_COUNT;
+    return LoopResources.create("alumnos-http", hilosSeleccion, trabajo, true);
+  }
+
+  @Bean
+  public NettyServerCustomizer transporteNettyCustomizer(
+      LoopResources buclesHttp,
+      @Value("${alumnos.transporte.nativo:true}") boolean nativo,
+      @Value("${alumnos.transporte.http2.max-streams-concurrentes:256}") long maxStreams,
+      @Value("${alumnos.transporte.keep-alive.inactividad:60s}") Duration inactividad,
+      @Value("${alumnos.transporte.keep-alive.intervalo:10s}") Duration intervalo,
+      @Value("${alumnos.transporte.keep-alive.sondeos:3}") int sondeos) {
+    boolean epoll = nativo && Epoll.isAvailable();
+    logger.info("Transporte HTTP: h2c sobre {}", epoll ? "epoll" : "NIO");
+    return servidor -> {
+      HttpServer configurado =
+          servidor
+              .runOn(buclesHttp, nativo)
+              .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+              .http2Settings(http2 -> http2.maxConcurrentStreams(maxStreams))
+              .childOption(ChannelOption.SO_KEEPALIVE, true);
+      if (!epoll) {
+        return configurado;
+      }
+      // Con epoll los tiempos de keep-alive TCP se ajustan por conexión en vez de usar los del
+      // sistema operativo.
+      return configurado
+          .childOption(EpollChannelOption.TCP_KEEPIDLE, (int) inactividad.toSeconds())
+          .childOption(EpollChannelOption.TCP_KEEPINTVL, (int) intervalo.toSeconds())
+          .childOption(EpollChannelOption.TCP_KEEPCNT, sondeos);
+    };
+  }
+}
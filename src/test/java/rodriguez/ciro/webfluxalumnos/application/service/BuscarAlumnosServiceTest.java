@@ -0,0 +1,53 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarAlumnosServiceTest {
+
+  @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @InjectMocks private BuscarAlumnosService buscarAlumnosService;
+
+  @Test
+  void shouldReturnSuggestionsFromRepository() {
+    // Given
+    SugerenciaAlumno sugerencia = new SugerenciaAlumno(1L, "Juan", "Pérez");
+    when(alumnoRepositoryPort.buscarPorPrefijo("jua", 10)).thenReturn(Flux.just(sugerencia));
+
+    // When & Then
+    StepVerifier.create(buscarAlumnosService.buscarPorPrefijo("jua", 10))
+        .expectNext(sugerencia)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldRejectInvalidTextOrLimitWithoutSearching() {
+    // When & Then
+    StepVerifier.create(buscarAlumnosService.buscarPorPrefijo(" ", 10))
+        .expectErrorMessage("El texto de búsqueda debe tener entre 1 y 100 caracteres")
+        .verify();
+    StepVerifier.create(buscarAlumnosService.buscarPorPrefijo("a".repeat(101), 10))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+    StepVerifier.create(buscarAlumnosService.buscarPorPrefijo("jua", 0))
+        .expectErrorMessage("La cantidad de sugerencias debe ser entre 1 y 50")
+        .verify();
+    StepVerifier.create(buscarAlumnosService.buscarPorPrefijo("jua", 51))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+
+    verify(alumnoRepositoryPort, never()).buscarPorPrefijo(anyString(), anyInt());
+  }
+}
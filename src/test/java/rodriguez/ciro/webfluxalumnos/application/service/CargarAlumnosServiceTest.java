@@ -0,0 +1,98 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+@ExtendWith(MockitoExtension.class)
+class CargarAlumnosServiceTest {
+
+  @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @InjectMocks private CargarAlumnosService cargarAlumnosService;
+
+  private Alumno alumno1;
+  private Alumno alumno2;
+
+  @BeforeEach
+  void setUp() {
+    alumno1 = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+    alumno2 = new Alumno(2L, "Ana", "González", Alumno.Estado.INACTIVO, 30);
+  }
+
+  @Test
+  void shouldSaveValidAlumnosThroughSaveAll() {
+    // Given
+    when(alumnoRepositoryPort.saveAll(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+
+    // When & Then
+    StepVerifier.create(cargarAlumnosService.cargarAlumnos(Flux.just(alumno1, alumno2)))
+        .expectNext(ResultadoCargaAlumno.creado(1L))
+        .expectNext(ResultadoCargaAlumno.creado(2L))
+        .verifyComplete();
+
+    verify(alumnoRepositoryPort).saveAll(any());
+  }
+
+  @Test
+  void shouldReportInvalidAlumnosWithoutSavingThem() {
+    // Given
+    Alumno alumnoInvalido = new Alumno(3L, "", "Pérez", Alumno.Estado.ACTIVO, 25);
+    when(alumnoRepositoryPort.saveAll(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+
+    // When & Then
+    StepVerifier.create(cargarAlumnosService.cargarAlumnos(Flux.just(alumnoInvalido, alumno1)))
+        .expectNext(ResultadoCargaAlumno.invalido(3L, "El nombre es obligatorio"))
+        .expectNext(ResultadoCargaAlumno.creado(1L))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldPropagateDuplicatesFromRepository() {
+    // Given
+    when(alumnoRepositoryPort.saveAll(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.duplicado(alumno.getId()));
+            });
+
+    // When & Then
+    StepVerifier.create(cargarAlumnosService.cargarAlumnos(Flux.just(alumno1)))
+        .expectNext(ResultadoCargaAlumno.duplicado(1L))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldHandleRepositoryError() {
+    // Given
+    when(alumnoRepositoryPort.saveAll(any()))
+        .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+    // When & Then
+    StepVerifier.create(cargarAlumnosService.cargarAlumnos(Flux.just(alumno1)))
+        .expectError(RuntimeException.class)
+        .verify();
+  }
+}
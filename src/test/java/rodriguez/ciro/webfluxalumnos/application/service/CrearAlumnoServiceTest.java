@@ -33,14 +33,13 @@ class CrearAlumnoServiceTest {
   @Test
   void shouldCreateAlumnoSuccessfully() {
     // Given
-    when(alumnoRepositoryPort.existsById(1L)).thenReturn(Mono.just(false));
     when(alumnoRepositoryPort.save(any(Alumno.class))).thenReturn(Mono.empty());
 
     // When & Then
     StepVerifier.create(crearAlumnoService.crearAlumno(alumnoValido)).verifyComplete();
 
-    verify(alumnoRepositoryPort).existsById(1L);
     verify(alumnoRepositoryPort).save(alumnoValido);
+    verify(alumnoRepositoryPort, never()).existsById(any());
   }
 
   @Test
@@ -228,21 +227,22 @@ class CrearAlumnoServiceTest {
   @Test
   void shouldThrowExceptionWhenAlumnoAlreadyExists() {
     // Given
-    when(alumnoRepositoryPort.existsById(1L)).thenReturn(Mono.just(true));
+    when(alumnoRepositoryPort.save(alumnoValido))
+        .thenReturn(Mono.error(new AlumnoYaExisteException("Ya existe un alumno con el ID: 1")));
 
     // When & Then
     StepVerifier.create(crearAlumnoService.crearAlumno(alumnoValido))
         .expectError(AlumnoYaExisteException.class)
         .verify();
 
-    verify(alumnoRepositoryPort).existsById(1L);
-    verify(alumnoRepositoryPort, never()).save(any());
+    verify(alumnoRepositoryPort).save(alumnoValido);
+    verify(alumnoRepositoryPort, never()).existsById(any());
   }
 
   @Test
   void shouldHandleRepositoryError() {
     // Given
-    when(alumnoRepositoryPort.existsById(1L))
+    when(alumnoRepositoryPort.save(alumnoValido))
         .thenReturn(Mono.error(new RuntimeException("Database error")));
 
     // When & Then
@@ -250,7 +250,6 @@ class CrearAlumnoServiceTest {
         .expectError(RuntimeException.class)
         .verify();
 
-    verify(alumnoRepositoryPort).existsById(1L);
-    verify(alumnoRepositoryPort, never()).save(any());
+    verify(alumnoRepositoryPort).save(alumnoValido);
   }
 }
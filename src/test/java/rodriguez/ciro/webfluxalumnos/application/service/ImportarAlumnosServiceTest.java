@@ -0,0 +1,160 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CargarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.out.ImportacionRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FilaImportacion;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarAlumnosServiceTest {
+
+  @Mock private CargarAlumnosUseCase cargarAlumnosUseCase;
+
+  private final ImportacionesEnMemoria importaciones = new ImportacionesEnMemoria();
+
+  private ImportarAlumnosService importarAlumnosService;
+
+  @BeforeEach
+  void setUp() {
+    importarAlumnosService = new ImportarAlumnosService(cargarAlumnosUseCase, importaciones);
+  }
+
+  @Test
+  void shouldRunImportAndCompleteIt() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenReturn(Flux.just(ResultadoCargaAlumno.creado(1L), ResultadoCargaAlumno.duplicado(2L)));
+
+    // When
+    ImportacionAlumnos importacion = importarAlumnosService.iniciarImportacion(Flux.empty(), 2);
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.COMPLETADA, importacion.getEstado());
+    assertEquals(1, importacion.getCreados());
+    assertEquals(1, importacion.getDuplicados());
+    StepVerifier.create(importarAlumnosService.consultarImportacion(importacion.getId()))
+        .expectNext(importacion)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldMarkImportAsFailedOnError() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+    // When
+    ImportacionAlumnos importacion = importarAlumnosService.iniciarImportacion(Flux.empty(), 1);
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.FALLIDA, importacion.getEstado());
+    assertEquals("Database error", importacion.getMensaje());
+  }
+
+  @Test
+  void shouldCancelRunningImport() {
+    // Given
+    Sinks.Many<ResultadoCargaAlumno> resultados = Sinks.many().unicast().onBackpressureBuffer();
+    when(cargarAlumnosUseCase.cargarAlumnos(any())).thenReturn(resultados.asFlux());
+    ImportacionAlumnos importacion =
+        importarAlumnosService.iniciarImportacion(Flux.<FilaImportacion>never(), 10);
+    resultados.tryEmitNext(ResultadoCargaAlumno.creado(1L));
+
+    // When
+    StepVerifier.create(importarAlumnosService.cancelarImportacion(importacion.getId()))
+        .expectNext(importacion)
+        .verifyComplete();
+    resultados.tryEmitNext(ResultadoCargaAlumno.creado(2L));
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.CANCELADA, importacion.getEstado());
+    assertEquals(1, importacion.getCreados());
+  }
+
+  @Test
+  void shouldReturnEmptyForUnknownImport() {
+    // When & Then
+    StepVerifier.create(importarAlumnosService.consultarImportacion("desconocida"))
+        .verifyComplete();
+    StepVerifier.create(importarAlumnosService.cancelarImportacion("desconocida")).verifyComplete();
+  }
+
+  @Test
+  void shouldCountRejectedRowsAsInvalidWithTheirReason() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+    Flux<FilaImportacion> filas =
+        Flux.just(
+            FilaImportacion.valida(new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20)),
+            FilaImportacion.invalida(
+                new Alumno(2L, "Ana", "", Alumno.Estado.ACTIVO, 22), "El apellido es obligatorio"));
+
+    // When
+    ImportacionAlumnos importacion = importarAlumnosService.iniciarImportacion(filas, 2);
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.COMPLETADA, importacion.getEstado());
+    assertEquals(1, importacion.getCreados());
+    assertEquals(1, importacion.getInvalidos());
+    assertEquals(
+        List.of(ResultadoCargaAlumno.invalido(2L, "El apellido es obligatorio")),
+        importacion.getErrores());
+  }
+
+  @Test
+  void shouldSaveImportAgainWhenItFinishes() {
+    // Given
+    Sinks.Many<ResultadoCargaAlumno> resultados = Sinks.many().unicast().onBackpressureBuffer();
+    when(cargarAlumnosUseCase.cargarAlumnos(any())).thenReturn(resultados.asFlux());
+    ImportacionAlumnos importacion = importarAlumnosService.iniciarImportacion(Flux.empty(), 1);
+    assertEquals(1, importaciones.guardados);
+
+    // When
+    resultados.tryEmitComplete();
+
+    // Then
+    assertEquals(2, importaciones.guardados);
+    assertFalse(importacion.estaEnCurso());
+  }
+
+  /** Guarda las importaciones en un mapa y cuenta cuántas veces se guardaron. */
+  private static final class ImportacionesEnMemoria implements ImportacionRepositoryPort {
+
+    private final Map<String, ImportacionAlumnos> importaciones = new ConcurrentHashMap<>();
+    private int guardados;
+
+    @Override
+    public void save(ImportacionAlumnos importacion) {
+      guardados++;
+      importaciones.put(importacion.getId(), importacion);
+    }
+
+    @Override
+    public Optional<ImportacionAlumnos> findById(String id) {
+      return Optional.ofNullable(importaciones.get(id));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+@ExtendWith(MockitoExtension.class)
+class ListarAlumnosServiceTest {
+
+  @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @InjectMocks private ListarAlumnosService listarAlumnosService;
+
+  @Test
+  void shouldListAlumnosMatchingFilterAfterCursor() {
+    // Given
+    FiltroAlumnos filtro = new FiltroAlumnos(Alumno.Estado.INACTIVO, 18, 25);
+    Alumno alumno = new Alumno(2L, "Ana", "Gómez", Alumno.Estado.INACTIVO, 22);
+    when(alumnoRepositoryPort.findAlumnos(filtro, CampoAlumno.TODOS, 1L, 10))
+        .thenReturn(Flux.just(alumno));
+
+    // When & Then
+    StepVerifier.create(listarAlumnosService.listarAlumnos(filtro, CampoAlumno.TODOS, 1L, 10))
+        .expectNext(alumno)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldTreatMissingFilterAndFieldsAsNoFilterAndAllFields() {
+    // Given
+    when(alumnoRepositoryPort.findAlumnos(FiltroAlumnos.sinFiltros(), CampoAlumno.TODOS, null, 5))
+        .thenReturn(Flux.empty());
+
+    // When & Then
+    StepVerifier.create(listarAlumnosService.listarAlumnos(null, null, null, 5)).verifyComplete();
+    StepVerifier.create(listarAlumnosService.listarAlumnos(null, Set.of(), null, 5))
+        .verifyComplete();
+
+    verify(alumnoRepositoryPort, times(2))
+        .findAlumnos(FiltroAlumnos.sinFiltros(), CampoAlumno.TODOS, null, 5);
+  }
+
+  @Test
+  void shouldRejectInvalidParametersWithoutQuerying() {
+    // When & Then
+    StepVerifier.create(
+            listarAlumnosService.listarAlumnos(new FiltroAlumnos(null, 30, 20), null, null, 10))
+        .expectErrorMessage("La edad mínima no puede ser mayor que la edad máxima")
+        .verify();
+    StepVerifier.create(
+            listarAlumnosService.listarAlumnos(new FiltroAlumnos(null, 0, null), null, null, 10))
+        .expectErrorMessage("Las edades del filtro deben estar entre 1 y 150")
+        .verify();
+    StepVerifier.create(
+            listarAlumnosService.listarAlumnos(new FiltroAlumnos(null, null, 151), null, null, 10))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+    StepVerifier.create(
+            listarAlumnosService.listarAlumnos(FiltroAlumnos.sinFiltros(), null, -1L, 10))
+        .expectErrorMessage("El cursor de paginación no es válido")
+        .verify();
+    StepVerifier.create(
+            listarAlumnosService.listarAlumnos(FiltroAlumnos.sinFiltros(), null, null, 101))
+        .expectErrorMessage("El tamaño de página debe ser entre 1 y 100")
+        .verify();
+
+    verify(alumnoRepositoryPort, never()).findAlumnos(any(), any(), any(), anyInt());
+  }
+}
@@ -1,5 +1,6 @@
 package rodriguez.ciro.webfluxalumnos.application.service;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -10,15 +11,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.application.port.out.VersionAlumnosPort;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
 
 @ExtendWith(MockitoExtension.class)
 class ObtenerAlumnosActivosServiceTest {
 
   @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
 
+  @Mock private VersionAlumnosPort versionAlumnosPort;
+
   @InjectMocks private ObtenerAlumnosActivosService obtenerAlumnosActivosService;
 
   private Alumno alumno1;
@@ -35,16 +41,17 @@ class ObtenerAlumnosActivosServiceTest {
     // Given
     int page = 1;
     int size = 10;
-    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size))
+    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
         .thenReturn(Flux.just(alumno1, alumno2));
 
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size, CampoAlumno.TODOS))
         .expectNext(alumno1)
         .expectNext(alumno2)
         .verifyComplete();
 
-    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size);
+    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS);
   }
 
   @Test
@@ -52,13 +59,15 @@ class ObtenerAlumnosActivosServiceTest {
     // Given
     int page = 1;
     int size = 10;
-    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size)).thenReturn(Flux.empty());
+    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
+        .thenReturn(Flux.empty());
 
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size, CampoAlumno.TODOS))
         .verifyComplete();
 
-    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size);
+    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS);
   }
 
   @Test
@@ -66,15 +75,16 @@ class ObtenerAlumnosActivosServiceTest {
     // Given
     int page = 1;
     int size = 10;
-    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size))
+    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
         .thenReturn(Flux.error(new RuntimeException("Database error")));
 
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size, CampoAlumno.TODOS))
         .expectError(RuntimeException.class)
         .verify();
 
-    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size);
+    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS);
   }
 
   @Test
@@ -82,15 +92,16 @@ class ObtenerAlumnosActivosServiceTest {
     // Given
     int page = 2;
     int size = 5;
-    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size))
+    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
         .thenReturn(Flux.just(alumno1));
 
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size, CampoAlumno.TODOS))
         .expectNext(alumno1)
         .verifyComplete();
 
-    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size);
+    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS);
   }
 
   @Test
@@ -98,52 +109,128 @@ class ObtenerAlumnosActivosServiceTest {
     // Given
     int page = 3;
     int size = 15;
-    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size)).thenReturn(Flux.empty());
+    when(alumnoRepositoryPort.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
+        .thenReturn(Flux.empty());
 
     // When
-    obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size).blockLast();
+    obtenerAlumnosActivosService.obtenerAlumnosActivos(page, size, CampoAlumno.TODOS).blockLast();
 
     // Then
-    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size);
+    verify(alumnoRepositoryPort).findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS);
   }
 
   @Test
   void shouldThrowExceptionWhenPageIsZero() {
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(0, 10))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(0, 10, CampoAlumno.TODOS))
         .expectError(IllegalArgumentException.class)
         .verify();
 
-    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt());
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt(), any());
   }
 
   @Test
   void shouldThrowExceptionWhenPageIsNegative() {
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(-1, 10))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(-1, 10, CampoAlumno.TODOS))
         .expectError(IllegalArgumentException.class)
         .verify();
 
-    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt());
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt(), any());
   }
 
   @Test
   void shouldThrowExceptionWhenSizeIsZero() {
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(1, 0))
+    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(1, 0, CampoAlumno.TODOS))
         .expectError(IllegalArgumentException.class)
         .verify();
 
-    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt());
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt(), any());
   }
 
   @Test
   void shouldThrowExceptionWhenSizeIsTooLarge() {
     // When & Then
-    StepVerifier.create(obtenerAlumnosActivosService.obtenerAlumnosActivos(1, 101))
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivos(1, 101, CampoAlumno.TODOS))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldReturnAlumnosActivosAfterCursorSuccessfully() {
+    // Given
+    when(alumnoRepositoryPort.findAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno2));
+
+    // When & Then
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .expectNext(alumno2)
+        .verifyComplete();
+
+    verify(alumnoRepositoryPort).findAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenCursorIsNegative() {
+    // When & Then
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivosDespuesDe(-1L, 10, CampoAlumno.TODOS))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosDespuesDe(any(), anyInt(), any());
+  }
+
+  @Test
+  void shouldThrowExceptionWhenCursorSizeIsTooLarge() {
+    // When & Then
+    StepVerifier.create(
+            obtenerAlumnosActivosService.obtenerAlumnosActivosDespuesDe(1L, 101, CampoAlumno.TODOS))
         .expectError(IllegalArgumentException.class)
         .verify();
 
-    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt());
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosDespuesDe(any(), anyInt(), any());
+  }
+
+  @Test
+  void shouldExportAllAlumnosActivosWithoutPagination() {
+    // Given
+    when(alumnoRepositoryPort.streamAlumnosActivos(CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno2));
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosActivosService.exportarAlumnosActivos(null))
+        .expectNext(alumno1, alumno2)
+        .verifyComplete();
+
+    verify(alumnoRepositoryPort).streamAlumnosActivos(CampoAlumno.TODOS);
+    verify(alumnoRepositoryPort, never()).findAlumnosActivosPaginados(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldReturnDataVersionFromVersionPort() {
+    // Given
+    when(versionAlumnosPort.obtenerVersion()).thenReturn(42L);
+
+    // When & Then
+    assertEquals(42L, obtenerAlumnosActivosService.obtenerVersionAlumnos());
+  }
+
+  @Test
+  void shouldCountAlumnosActivosFromRepository() {
+    // Given
+    when(alumnoRepositoryPort.contarAlumnosActivos()).thenReturn(Mono.just(7L));
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosActivosService.contarAlumnosActivos())
+        .expectNext(7L)
+        .verifyComplete();
   }
 }
@@ -0,0 +1,94 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+@ExtendWith(MockitoExtension.class)
+class ObtenerAlumnosPorIdServiceTest {
+
+  @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @InjectMocks private ObtenerAlumnosPorIdService obtenerAlumnosPorIdService;
+
+  private Alumno alumno1;
+  private Alumno alumno2;
+
+  @BeforeEach
+  void setUp() {
+    alumno1 = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+    alumno2 = new Alumno(2L, "Ana", "González", Alumno.Estado.INACTIVO, 30);
+  }
+
+  @Test
+  void shouldReturnAlumnoById() {
+    // Given
+    when(alumnoRepositoryPort.findAllById(List.of(1L))).thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumno(1L))
+        .expectNext(alumno1)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldFailWithNotFoundWhenAlumnoDoesNotExist() {
+    // Given
+    when(alumnoRepositoryPort.findAllById(List.of(99L))).thenReturn(Flux.empty());
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumno(99L))
+        .expectErrorMatches(
+            ex ->
+                ex instanceof AlumnoNoEncontradoException
+                    && ex.getMessage().equals("No existe un alumno con el ID: 99"))
+        .verify();
+  }
+
+  @Test
+  void shouldReturnAlumnosForRequestedIds() {
+    // Given
+    when(alumnoRepositoryPort.findAllById(List.of(2L, 1L))).thenReturn(Flux.just(alumno2, alumno1));
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumnos(List.of(2L, 1L)))
+        .expectNext(alumno2)
+        .expectNext(alumno1)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldRejectInvalidIdsWithoutQuerying() {
+    // Given
+    List<Long> demasiados = LongStream.rangeClosed(1, 101).boxed().toList();
+
+    // When & Then
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumno(0L))
+        .expectErrorMessage("El ID del alumno debe ser un número positivo")
+        .verify();
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumnos(List.of()))
+        .expectErrorMessage("Se deben indicar entre 1 y 100 IDs")
+        .verify();
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumnos(demasiados))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+    StepVerifier.create(obtenerAlumnosPorIdService.obtenerAlumnos(List.of(1L, -5L)))
+        .expectErrorMessage("El ID del alumno debe ser un número positivo")
+        .verify();
+
+    verify(alumnoRepositoryPort, never()).findAllById(any());
+  }
+}
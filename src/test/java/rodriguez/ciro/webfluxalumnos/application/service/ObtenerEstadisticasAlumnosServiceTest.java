@@ -0,0 +1,37 @@
+package rodriguez.ciro.webfluxalumnos.application.service;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+@ExtendWith(MockitoExtension.class)
+class ObtenerEstadisticasAlumnosServiceTest {
+
+  @Mock private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @InjectMocks private ObtenerEstadisticasAlumnosService obtenerEstadisticasAlumnosService;
+
+  @Test
+  void shouldReturnStatisticsFromRepository() {
+    // Given
+    EstadisticasAlumnos estadisticas =
+        new EstadisticasAlumnos(Map.of(Alumno.Estado.ACTIVO, 7L), List.of());
+    when(alumnoRepositoryPort.obtenerEstadisticas()).thenReturn(Mono.just(estadisticas));
+
+    // When & Then
+    StepVerifier.create(obtenerEstadisticasAlumnosService.obtenerEstadisticas())
+        .expectNext(estadisticas)
+        .verifyComplete();
+  }
+}
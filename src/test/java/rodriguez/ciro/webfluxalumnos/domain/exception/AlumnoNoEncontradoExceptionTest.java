@@ -0,0 +1,29 @@
+package rodriguez.ciro.webfluxalumnos.domain.exception;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class AlumnoNoEncontradoExceptionTest {
+
+  @Test
+  void shouldCreateExceptionWithMessage() {
+    // Given
+    String expectedMessage = "No existe un alumno con el ID: 1";
+
+    // When
+    AlumnoNoEncontradoException exception = new AlumnoNoEncontradoException(expectedMessage);
+
+    // Then
+    assertEquals(expectedMessage, exception.getMessage());
+  }
+
+  @Test
+  void shouldBeRuntimeException() {
+    // Given
+    AlumnoNoEncontradoException exception = new AlumnoNoEncontradoException("Test message");
+
+    // Then
+    assertInstanceOf(RuntimeException.class, exception);
+  }
+}
@@ -0,0 +1,41 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CampoAlumnoTest {
+
+  @Test
+  void shouldParseCommaSeparatedFields() {
+    // When
+    Set<CampoAlumno> campos = CampoAlumno.parsear("nombre, id,nombre");
+
+    // Then
+    assertEquals(Set.of(CampoAlumno.ID, CampoAlumno.NOMBRE), campos);
+  }
+
+  @Test
+  void shouldReturnAllFieldsWhenNoneRequested() {
+    // When & Then
+    assertEquals(CampoAlumno.TODOS, CampoAlumno.parsear(null));
+    assertEquals(CampoAlumno.TODOS, CampoAlumno.parsear(" "));
+    assertEquals(5, CampoAlumno.TODOS.size());
+  }
+
+  @Test
+  void shouldRejectFieldsOutsideWhitelist() {
+    // When
+    IllegalArgumentException ex =
+        assertThrows(IllegalArgumentException.class, () -> CampoAlumno.parsear("id,password"));
+
+    // Then
+    assertEquals(
+        "Campo desconocido: 'password'. Los campos permitidos son id, nombre, apellido, estado,"
+            + " edad",
+        ex.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> CampoAlumno.parsear("id,,nombre"));
+    assertThrows(IllegalArgumentException.class, () -> CampoAlumno.parsear("ID"));
+  }
+}
@@ -0,0 +1,100 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImportacionAlumnosTest {
+
+  private ImportacionAlumnos importacion;
+
+  @BeforeEach
+  void setUp() {
+    importacion = new ImportacionAlumnos("imp-1", 4, Instant.now().minusSeconds(2));
+  }
+
+  @Test
+  void shouldStartInProgressWithoutProcessedRows() {
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.EN_CURSO, importacion.getEstado());
+    assertTrue(importacion.estaEnCurso());
+    assertEquals(0, importacion.getFilasProcesadas());
+    assertEquals(0.0, importacion.getProgreso());
+    assertNull(importacion.getFin());
+  }
+
+  @Test
+  void shouldCountEachResultType() {
+    // When
+    importacion.registrar(ResultadoCargaAlumno.creado(1L));
+    importacion.registrar(ResultadoCargaAlumno.creado(2L));
+    importacion.registrar(ResultadoCargaAlumno.duplicado(3L));
+    importacion.registrar(ResultadoCargaAlumno.invalido(4L, "El nombre es obligatorio"));
+
+    // Then
+    assertEquals(2, importacion.getCreados());
+    assertEquals(1, importacion.getDuplicados());
+    assertEquals(1, importacion.getInvalidos());
+    assertEquals(4, importacion.getFilasProcesadas());
+    assertEquals(100.0, importacion.getProgreso());
+    assertTrue(importacion.getFilasPorSegundo() > 0);
+  }
+
+  @Test
+  void shouldKeepOnlyTheFirstInvalidRowsWithTheirReason() {
+    // When
+    for (long id = 1; id <= ImportacionAlumnos.MAXIMO_ERRORES + 5; id++) {
+      importacion.registrar(ResultadoCargaAlumno.invalido(id, "El nombre es obligatorio"));
+    }
+    importacion.registrar(ResultadoCargaAlumno.creado(1000L));
+
+    // Then
+    assertEquals(ImportacionAlumnos.MAXIMO_ERRORES + 5, importacion.getInvalidos());
+    assertEquals(ImportacionAlumnos.MAXIMO_ERRORES, importacion.getErrores().size());
+    assertEquals(
+        ResultadoCargaAlumno.invalido(1L, "El nombre es obligatorio"),
+        importacion.getErrores().get(0));
+  }
+
+  @Test
+  void shouldCapProgressAtOneHundred() {
+    // When
+    for (long id = 1; id <= 6; id++) {
+      importacion.registrar(ResultadoCargaAlumno.creado(id));
+    }
+
+    // Then
+    assertEquals(100.0, importacion.getProgreso());
+  }
+
+  @Test
+  void shouldCompleteOnlyOnce() {
+    // When & Then
+    assertTrue(importacion.completar());
+    assertFalse(importacion.cancelar());
+    assertEquals(ImportacionAlumnos.Estado.COMPLETADA, importacion.getEstado());
+    assertNotNull(importacion.getFin());
+  }
+
+  @Test
+  void shouldKeepCancelledStateWhenCompletedAfterCancel() {
+    // When
+    importacion.cancelar();
+    importacion.completar();
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.CANCELADA, importacion.getEstado());
+  }
+
+  @Test
+  void shouldStoreFailureMessage() {
+    // When
+    importacion.fallar("Database error");
+
+    // Then
+    assertEquals(ImportacionAlumnos.Estado.FALLIDA, importacion.getEstado());
+    assertEquals("Database error", importacion.getMensaje());
+  }
+}
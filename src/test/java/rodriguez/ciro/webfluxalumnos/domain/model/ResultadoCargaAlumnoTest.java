@@ -0,0 +1,48 @@
+package rodriguez.ciro.webfluxalumnos.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class ResultadoCargaAlumnoTest {
+
+  @Test
+  void shouldCreateCreadoResult() {
+    // When
+    ResultadoCargaAlumno resultado = ResultadoCargaAlumno.creado(1L);
+
+    // Then
+    assertEquals(1L, resultado.getId());
+    assertEquals(ResultadoCargaAlumno.Tipo.CREADO, resultado.getTipo());
+    assertNull(resultado.getMensaje());
+  }
+
+  @Test
+  void shouldCreateDuplicadoResultWithMessage() {
+    // When
+    ResultadoCargaAlumno resultado = ResultadoCargaAlumno.duplicado(1L);
+
+    // Then
+    assertEquals(ResultadoCargaAlumno.Tipo.DUPLICADO, resultado.getTipo());
+    assertEquals("Ya existe un alumno con el ID: 1", resultado.getMensaje());
+  }
+
+  @Test
+  void shouldCreateInvalidoResultWithMessage() {
+    // When
+    ResultadoCargaAlumno resultado = ResultadoCargaAlumno.invalido(1L, "El nombre es obligatorio");
+
+    // Then
+    assertEquals(ResultadoCargaAlumno.Tipo.INVALIDO, resultado.getTipo());
+    assertEquals("El nombre es obligatorio", resultado.getMensaje());
+  }
+
+  @Test
+  void shouldBeEqualWhenAllFieldsMatch() {
+    // Then
+    assertEquals(ResultadoCargaAlumno.creado(1L), ResultadoCargaAlumno.creado(1L));
+    assertEquals(
+        ResultadoCargaAlumno.creado(1L).hashCode(), ResultadoCargaAlumno.creado(1L).hashCode());
+    assertNotEquals(ResultadoCargaAlumno.creado(1L), ResultadoCargaAlumno.duplicado(1L));
+  }
+}
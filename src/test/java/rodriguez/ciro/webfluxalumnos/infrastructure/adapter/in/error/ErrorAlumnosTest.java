@@ -0,0 +1,54 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.error;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
+
+class ErrorAlumnosTest {
+
+  @Test
+  void shouldKeepDomainMessages() {
+    // When & Then
+    assertEquals(
+        new ErrorAlumnos(ErrorAlumnos.Tipo.CONFLICTO, "ALUMNO_YA_EXISTE", "Duplicado"),
+        ErrorAlumnos.desde(new AlumnoYaExisteException("Duplicado")));
+    assertEquals(
+        new ErrorAlumnos(ErrorAlumnos.Tipo.NO_ENCONTRADO, "ALUMNO_NO_ENCONTRADO", "No existe"),
+        ErrorAlumnos.desde(new AlumnoNoEncontradoException("No existe")));
+    assertEquals(
+        new ErrorAlumnos(ErrorAlumnos.Tipo.SOLICITUD_INVALIDA, "ALUMNO_INVALIDO", "Inválido"),
+        ErrorAlumnos.desde(new AlumnoInvalidoException("Inválido")));
+    assertEquals(
+        new ErrorAlumnos(ErrorAlumnos.Tipo.SOLICITUD_INVALIDA, "PARAMETROS_INVALIDOS", "Página"),
+        ErrorAlumnos.desde(new IllegalArgumentException("Página")));
+  }
+
+  @Test
+  void shouldReportUnreadableBodiesAsInvalidData() {
+    // When
+    ErrorAlumnos decodificacion = ErrorAlumnos.desde(new DecodingException("Cuerpo"));
+    ErrorAlumnos sintaxis = ErrorAlumnos.formatoInvalido(new JsonParseException(null, "JSON"));
+
+    // Then
+    assertEquals(ErrorAlumnos.Tipo.SOLICITUD_INVALIDA, decodificacion.tipo());
+    assertEquals("DATOS_INVALIDOS", decodificacion.codigo());
+    assertEquals("Error en el formato de los datos enviados", decodificacion.mensaje());
+    assertEquals("El JSON enviado no es válido", sintaxis.mensaje());
+  }
+
+  @Test
+  void shouldHideInternalErrorDetails() {
+    // When
+    ErrorAlumnos error = ErrorAlumnos.desde(new IllegalStateException("Conexión perdida"));
+
+    // Then
+    assertEquals(ErrorAlumnos.Tipo.INTERNO, error.tipo());
+    assertEquals("ERROR_INTERNO", error.codigo());
+    assertEquals("Ha ocurrido un error interno del servidor", error.mensaje());
+  }
+}
@@ -1,8 +1,13 @@
 package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,21 +17,37 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CargarAlumnosUseCase;
 import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ListarAlumnosUseCase;
 import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosPorIdUseCase;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
 
 @WebFluxTest(AlumnoController.class)
 class AlumnoControllerTest {
 
   @Autowired private WebTestClient webTestClient;
 
+  @Autowired private Validator validator;
+
   @MockitoBean private CrearAlumnoUseCase crearAlumnoUseCase;
 
   @MockitoBean private ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
 
+  @MockitoBean private CargarAlumnosUseCase cargarAlumnosUseCase;
+
+  @MockitoBean private ObtenerAlumnosPorIdUseCase obtenerAlumnosPorIdUseCase;
+
+  @MockitoBean private ListarAlumnosUseCase listarAlumnosUseCase;
+
   private Alumno alumno1;
   private Alumno alumno2;
 
@@ -34,6 +55,7 @@ class AlumnoControllerTest {
   void setUp() {
     alumno1 = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
     alumno2 = new Alumno(2L, "Ana", "González", Alumno.Estado.ACTIVO, 30);
+    when(obtenerAlumnosActivosUseCase.contarAlumnosActivos()).thenReturn(Mono.just(2L));
   }
 
   @Test
@@ -154,10 +176,59 @@ class AlumnoControllerTest {
         .exists();
   }
 
+  @Test
+  void shouldRejectUnknownEstadoBeforeCallingUseCase() {
+    // Given
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "SUSPENDIDO", "edad": 25}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_INVALIDO")
+        .jsonPath("$.mensaje")
+        .isEqualTo("El estado debe ser ACTIVO o INACTIVO");
+
+    verify(crearAlumnoUseCase, never()).crearAlumno(any(Alumno.class));
+  }
+
+  @Test
+  void shouldPassLowercaseEstadoToUseCaseAsEnum() {
+    // Given
+    when(crearAlumnoUseCase.crearAlumno(any(Alumno.class))).thenReturn(Mono.empty());
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "activo", "edad": 25}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isCreated();
+
+    verify(crearAlumnoUseCase)
+        .crearAlumno(argThat(alumno -> alumno.getEstado() == Alumno.Estado.ACTIVO));
+  }
+
   @Test
   void shouldGetAlumnosActivosSuccessfully() {
     // Given
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10))
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
         .thenReturn(Flux.just(alumno1, alumno2));
 
     // When & Then
@@ -170,13 +241,14 @@ class AlumnoControllerTest {
         .expectBodyList(Object.class)
         .hasSize(2);
 
-    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(1, 10);
+    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS);
   }
 
   @Test
   void shouldGetAlumnosActivosWithDefaultPagination() {
     // Given
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10)).thenReturn(Flux.just(alumno1));
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
 
     // When & Then
     webTestClient
@@ -188,13 +260,14 @@ class AlumnoControllerTest {
         .expectBodyList(Object.class)
         .hasSize(1);
 
-    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(1, 10);
+    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS);
   }
 
   @Test
   void shouldGetAlumnosActivosWithCustomPagination() {
     // Given
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(2, 5)).thenReturn(Flux.just(alumno1));
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(2, 5, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
 
     // When & Then
     webTestClient
@@ -206,13 +279,13 @@ class AlumnoControllerTest {
         .expectBodyList(Object.class)
         .hasSize(1);
 
-    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(2, 5);
+    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(2, 5, CampoAlumno.TODOS);
   }
 
   @Test
   void shouldHandlePageZeroCorrectly() {
     // Given - page=0 debería causar error de validación en el servicio
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(0, 10))
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(0, 10, CampoAlumno.TODOS))
         .thenReturn(
             Flux.error(
                 new IllegalArgumentException("El número de página debe ser mayor o igual a 1")));
@@ -228,13 +301,14 @@ class AlumnoControllerTest {
         .jsonPath("$.codigo")
         .isEqualTo("PARAMETROS_INVALIDOS");
 
-    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(0, 10);
+    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivos(0, 10, CampoAlumno.TODOS);
   }
 
   @Test
   void shouldReturnEmptyListWhenNoAlumnosFound() {
     // Given
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10)).thenReturn(Flux.empty());
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.empty());
 
     // When & Then
     webTestClient
@@ -250,7 +324,7 @@ class AlumnoControllerTest {
   @Test
   void shouldHandleInternalServerError() {
     // Given
-    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(anyInt(), anyInt()))
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(anyInt(), anyInt(), any()))
         .thenReturn(Flux.error(new RuntimeException("Database error")));
 
     // When & Then
@@ -266,4 +340,617 @@ class AlumnoControllerTest {
         .jsonPath("$.mensaje")
         .isEqualTo("Ha ocurrido un error interno del servidor");
   }
+
+  @Test
+  void shouldReturnNextCursorWhenPageIsFull() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=1&size=2")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, CursorPaginacion.codificar(2L));
+  }
+
+  @Test
+  void shouldNotReturnNextCursorWhenPageIsNotFull() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .doesNotExist(CursorPaginacion.HEADER_SIGUIENTE_CURSOR);
+  }
+
+  @Test
+  void shouldGetAlumnosActivosWithCursor() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?after=" + CursorPaginacion.codificar(1L))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Object.class)
+        .hasSize(1);
+
+    verify(obtenerAlumnosActivosUseCase).obtenerAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS);
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldReturnEtagDerivedFromDataVersion() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(7L);
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(
+            "ETag",
+            EtagPaginacion.porPagina(7L, 1, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWithoutQueryingWhenEtagMatches() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(7L);
+    String etag = EtagPaginacion.porPagina(7L, 2, 5, CampoAlumno.TODOS, MediaType.APPLICATION_JSON);
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=2&size=5")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus()
+        .isNotModified()
+        .expectHeader()
+        .valueEquals("ETag", etag)
+        .expectBody()
+        .isEmpty();
+
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldReturnNotModifiedForCursorPageWhenEtagMatches() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(3L);
+    String etag =
+        EtagPaginacion.porCursor(3L, 1L, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON);
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?after=" + CursorPaginacion.codificar(1L))
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus()
+        .isNotModified();
+
+    verify(obtenerAlumnosActivosUseCase, never())
+        .obtenerAlumnosActivosDespuesDe(any(), anyInt(), any());
+  }
+
+  @Test
+  void shouldNotReuseEtagOfFullPageForRequestedFields() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(7L);
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(
+            1, 10, Set.of(CampoAlumno.ID, CampoAlumno.NOMBRE)))
+        .thenReturn(Flux.just(new Alumno(1L, "Juan", null, null, null)));
+    when(obtenerAlumnosActivosUseCase.contarAlumnosActivos()).thenReturn(Mono.just(1L));
+
+    // When & Then - El orden de 'fields' no cambia la representación
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?fields=nombre,id")
+        .header(
+            "If-None-Match",
+            EtagPaginacion.porPagina(7L, 1, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(
+            "ETag",
+            EtagPaginacion.porPagina(
+                7L, 1, 10, CampoAlumno.parsear("id,nombre"), MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  void shouldReturnPageWhenDataVersionChanged() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(8L);
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .header(
+            "If-None-Match",
+            EtagPaginacion.porPagina(7L, 1, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(
+            "ETag",
+            EtagPaginacion.porPagina(8L, 1, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON))
+        .expectBodyList(Object.class)
+        .hasSize(1);
+  }
+
+  @Test
+  void shouldReturnTotalCountHeader() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+    when(obtenerAlumnosActivosUseCase.contarAlumnosActivos()).thenReturn(Mono.just(42L));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(AlumnoController.HEADER_TOTAL, "42");
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() {
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?after=no-es-un-cursor")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("PARAMETROS_INVALIDOS")
+        .jsonPath("$.mensaje")
+        .isEqualTo("El cursor de paginación no es válido");
+  }
+
+  @Test
+  void shouldStreamBulkLoadResultsAsNdjson() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "ACTIVO", "edad": 25}
+        {"id": 2, "nombre": "Ana", "apellido": "González", "estado": "activo", "edad": 30}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBodyList(Map.class)
+        .hasSize(2)
+        .value(
+            resultados -> {
+              assertEquals(1, resultados.get(0).get("id"));
+              assertEquals("CREADO", resultados.get(0).get("resultado"));
+              assertEquals("CREADO", resultados.get(1).get("resultado"));
+            });
+  }
+
+  @Test
+  void shouldReportUnknownEstadoAsInvalidInBulkLoad() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "SUSPENDIDO", "edad": 25}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Map.class)
+        .hasSize(1)
+        .value(
+            resultados -> {
+              assertEquals("INVALIDO", resultados.get(0).get("resultado"));
+              assertEquals(
+                  "El estado debe ser ACTIVO o INACTIVO", resultados.get(0).get("mensaje"));
+            });
+  }
+
+  @Test
+  void shouldApplyTheSingleCreationLimitsInBulkLoad() {
+    // Given
+    when(cargarAlumnosUseCase.cargarAlumnos(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.creado(alumno.getId()));
+            });
+
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "ACTIVO", "edad": 130}
+        {"id": 2, "nombre": "Ana", "apellido": " ", "estado": "ACTIVO", "edad": 30}
+        {"id": 3, "nombre": "Luis", "apellido": "Gómez", "estado": "ACTIVO", "edad": 120}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Map.class)
+        .hasSize(3)
+        .value(
+            resultados -> {
+              Map<?, ?> edadFueraDeRango = resultados.get(0);
+              assertEquals(1, edadFueraDeRango.get("id"));
+              assertEquals("INVALIDO", edadFueraDeRango.get("resultado"));
+              assertEquals(mensajeDelValidador("edad", 130), edadFueraDeRango.get("mensaje"));
+              assertEquals(mensajeDelValidador("apellido", " "), resultados.get(1).get("mensaje"));
+              assertEquals(3, resultados.get(2).get("id"));
+              assertEquals("CREADO", resultados.get(2).get("resultado"));
+            });
+  }
+
+  @Test
+  void shouldExportAlumnosActivosAsNdjson() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.exportarAlumnosActivos(CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos/stream")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBodyList(Map.class)
+        .hasSize(2);
+
+    verify(obtenerAlumnosActivosUseCase).exportarAlumnosActivos(CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldExportAlumnosActivosAsServerSentEvents() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.exportarAlumnosActivos(CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos/stream")
+        .accept(MediaType.TEXT_EVENT_STREAM)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+        .expectBody(String.class)
+        .value(cuerpo -> assertTrue(cuerpo.startsWith("data:")));
+  }
+
+  @Test
+  void shouldGetAlumnoById() {
+    // Given
+    when(obtenerAlumnosPorIdUseCase.obtenerAlumno(2L)).thenReturn(Mono.just(alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/2")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.id")
+        .isEqualTo(2)
+        .jsonPath("$.nombre")
+        .isEqualTo("Ana");
+  }
+
+  @Test
+  void shouldReturnNotFoundWhenAlumnoDoesNotExist() {
+    // Given
+    String mensaje = "No existe un alumno con el ID: 99";
+    when(obtenerAlumnosPorIdUseCase.obtenerAlumno(99L))
+        .thenReturn(Mono.error(new AlumnoNoEncontradoException(mensaje)));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/99")
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_NO_ENCONTRADO")
+        .jsonPath("$.mensaje")
+        .isEqualTo(mensaje);
+  }
+
+  @Test
+  void shouldGetAlumnosByIdsInRequestedOrder() {
+    // Given
+    when(obtenerAlumnosPorIdUseCase.obtenerAlumnos(List.of(2L, 1L)))
+        .thenReturn(Flux.just(alumno2, alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos?ids=2,1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$[0].id")
+        .isEqualTo(2)
+        .jsonPath("$[1].id")
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectNonNumericIds() {
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos?ids=1,dos")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("DATOS_INVALIDOS");
+
+    verify(obtenerAlumnosPorIdUseCase, never()).obtenerAlumnos(any());
+  }
+
+  @Test
+  void shouldListAlumnosWithFiltersAndNextCursor() {
+    // Given
+    FiltroAlumnos filtro = new FiltroAlumnos(Alumno.Estado.ACTIVO, 20, 30);
+    when(listarAlumnosUseCase.listarAlumnos(filtro, CampoAlumno.TODOS, 1L, 1))
+        .thenReturn(Flux.just(alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri(
+            "/api/alumnos?estado=ACTIVO&edadMin=20&edadMax=30&size=1&after={cursor}",
+            CursorPaginacion.codificar(1L))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, CursorPaginacion.codificar(2L))
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(1)
+        .jsonPath("$[0].id")
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldListAlumnosWithoutFiltersFromTheStart() {
+    // Given
+    when(listarAlumnosUseCase.listarAlumnos(
+            FiltroAlumnos.sinFiltros(), CampoAlumno.TODOS, null, 10))
+        .thenReturn(Flux.just(alumno1, alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .doesNotExist(CursorPaginacion.HEADER_SIGUIENTE_CURSOR)
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectUnknownEstadoOrInvalidAgeRangeInListing() {
+    // Given
+    when(listarAlumnosUseCase.listarAlumnos(
+            new FiltroAlumnos(null, 30, 20), CampoAlumno.TODOS, null, 10))
+        .thenReturn(
+            Flux.error(
+                new IllegalArgumentException(
+                    "La edad mínima no puede ser mayor que la edad máxima")));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos?estado=SUSPENDIDO")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("DATOS_INVALIDOS");
+    webTestClient
+        .get()
+        .uri("/api/alumnos?edadMin=30&edadMax=20")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("PARAMETROS_INVALIDOS");
+  }
+
+  @Test
+  void shouldReturnOnlyRequestedFieldsWithCursorFromOmittedId() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(
+            1, 2, Set.of(CampoAlumno.NOMBRE, CampoAlumno.EDAD)))
+        .thenReturn(
+            Flux.just(
+                new Alumno(1L, "Juan", null, null, 25), new Alumno(2L, "Ana", null, null, 30)));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?size=2&fields=nombre,edad")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, CursorPaginacion.codificar(2L))
+        .expectBody()
+        .jsonPath("$[0].nombre")
+        .isEqualTo("Juan")
+        .jsonPath("$[0].edad")
+        .isEqualTo(25)
+        .jsonPath("$[0].id")
+        .doesNotExist()
+        .jsonPath("$[0].apellido")
+        .doesNotExist();
+  }
+
+  @Test
+  void shouldListOnlyRequestedFields() {
+    // Given
+    Set<CampoAlumno> campos = Set.of(CampoAlumno.ID, CampoAlumno.NOMBRE);
+    when(listarAlumnosUseCase.listarAlumnos(FiltroAlumnos.sinFiltros(), campos, null, 10))
+        .thenReturn(Flux.just(new Alumno(1L, "Juan", null, null, null)));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos?fields=id,nombre")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$[0].id")
+        .isEqualTo(1)
+        .jsonPath("$[0].nombre")
+        .isEqualTo("Juan")
+        .jsonPath("$[0].estado")
+        .doesNotExist();
+  }
+
+  @Test
+  void shouldExportOnlyRequestedFields() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.exportarAlumnosActivos(Set.of(CampoAlumno.ID)))
+        .thenReturn(Flux.just(new Alumno(1L, null, null, null, null)));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos/stream?fields=id")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(String.class)
+        .value(cuerpo -> assertEquals("{\"id\":1}", cuerpo.strip()));
+  }
+
+  @Test
+  void shouldRejectUnknownFieldsWithoutQuerying() {
+    // When & Then
+    for (String uri :
+        List.of(
+            "/api/alumnos?fields=id,password",
+            "/api/alumnos/activos?fields=password",
+            "/api/alumnos/activos/stream?fields=password")) {
+      webTestClient
+          .get()
+          .uri(uri)
+          .exchange()
+          .expectStatus()
+          .isBadRequest()
+          .expectBody()
+          .jsonPath("$.codigo")
+          .isEqualTo("PARAMETROS_INVALIDOS");
+    }
+
+    verifyNoInteractions(listarAlumnosUseCase);
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+    verify(obtenerAlumnosActivosUseCase, never()).exportarAlumnosActivos(any());
+  }
+
+  // Los mensajes por defecto del validador dependen del idioma de la máquina.
+  private String mensajeDelValidador(String campo, Object valor) {
+    return validator
+        .validateValue(AlumnoRequestDTO.class, campo, valor)
+        .iterator()
+        .next()
+        .getMessage();
+  }
 }
@@ -0,0 +1,317 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.RutasFuncionalesConfiguration;
+
+@WebFluxTest(AlumnoHandler.class)
+@Import(RutasFuncionalesConfiguration.class)
+@ActiveProfiles("funcional")
+class AlumnoHandlerTest {
+
+  private static final String ALUMNO_JSON =
+      """
+      {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "ACTIVO", "edad": 25}
+      """;
+
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private CrearAlumnoUseCase crearAlumnoUseCase;
+
+  @MockitoBean private ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+
+  private Alumno alumno1;
+  private Alumno alumno2;
+
+  @BeforeEach
+  void setUp() {
+    alumno1 = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+    alumno2 = new Alumno(2L, "Ana", "González", Alumno.Estado.ACTIVO, 30);
+    when(obtenerAlumnosActivosUseCase.contarAlumnosActivos()).thenReturn(Mono.just(2L));
+  }
+
+  @Test
+  void shouldCreateAlumnoSuccessfully() {
+    // Given
+    when(crearAlumnoUseCase.crearAlumno(any(Alumno.class))).thenReturn(Mono.empty());
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(ALUMNO_JSON)
+        .exchange()
+        .expectStatus()
+        .isCreated()
+        .expectBody()
+        .isEmpty();
+
+    verify(crearAlumnoUseCase).crearAlumno(any(Alumno.class));
+  }
+
+  @Test
+  void shouldRejectUnknownEstadoBeforeCallingUseCase() {
+    // Given
+    String requestBody =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "SUSPENDIDO", "edad": 25}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_INVALIDO")
+        .jsonPath("$.mensaje")
+        .isEqualTo("El estado debe ser ACTIVO o INACTIVO");
+
+    verify(crearAlumnoUseCase, never()).crearAlumno(any(Alumno.class));
+  }
+
+  @Test
+  void shouldMapDomainIllegalArgumentToAlumnoInvalido() {
+    // Given
+    when(crearAlumnoUseCase.crearAlumno(any(Alumno.class)))
+        .thenReturn(Mono.error(new IllegalArgumentException("El nombre es obligatorio")));
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(ALUMNO_JSON)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_INVALIDO")
+        .jsonPath("$.mensaje")
+        .isEqualTo("El nombre es obligatorio");
+  }
+
+  @Test
+  void shouldReturnConflictWhenAlumnoAlreadyExists() {
+    // Given
+    when(crearAlumnoUseCase.crearAlumno(any(Alumno.class)))
+        .thenReturn(Mono.error(new AlumnoYaExisteException("Ya existe un alumno con el ID: 1")));
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(ALUMNO_JSON)
+        .exchange()
+        .expectStatus()
+        .isEqualTo(409)
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_YA_EXISTE")
+        .jsonPath("$.mensaje")
+        .isEqualTo("Ya existe un alumno con el ID: 1");
+  }
+
+  @Test
+  void shouldReturnDatosInvalidosWhenJsonIsInvalidOrMissing() {
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{ invalid json }")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("DATOS_INVALIDOS");
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("DATOS_INVALIDOS");
+
+    verify(crearAlumnoUseCase, never()).crearAlumno(any(Alumno.class));
+  }
+
+  @Test
+  void shouldGetAlumnosActivosWithHeaders() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=1&size=2")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+        .expectHeader()
+        .valueEquals(AlumnoController.HEADER_TOTAL, "2")
+        .expectHeader()
+        .valueEquals(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, CursorPaginacion.codificar(2L))
+        .expectHeader()
+        .valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(2)
+        .jsonPath("$[0].nombre")
+        .isEqualTo("Juan");
+  }
+
+  @Test
+  void shouldGetAlumnosActivosWithCursor() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno2));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?after={cursor}", CursorPaginacion.codificar(1L))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$[0].id")
+        .isEqualTo(2);
+
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldReturnOnlyRequestedFieldsLikeController() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 1, Set.of(CampoAlumno.APELLIDO)))
+        .thenReturn(Flux.just(new Alumno(1L, null, "Pérez", null, null)));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?size=1&fields=apellido")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals(CursorPaginacion.HEADER_SIGUIENTE_CURSOR, CursorPaginacion.codificar(1L))
+        .expectBody()
+        .jsonPath("$[0].apellido")
+        .isEqualTo("Pérez")
+        .jsonPath("$[0].id")
+        .doesNotExist();
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?fields=clave")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("PARAMETROS_INVALIDOS");
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenEtagMatches() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(7L);
+    String etag =
+        EtagPaginacion.porPagina(7L, 1, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON);
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        .exchange()
+        .expectStatus()
+        .isNotModified()
+        .expectHeader()
+        .valueEquals(HttpHeaders.ETAG, etag);
+
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+  }
+
+  @Test
+  void shouldNegotiateCborFromAcceptHeader() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos")
+        .accept(MediaType.APPLICATION_CBOR)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_CBOR);
+  }
+
+  @Test
+  void shouldMapPaginationErrorsLikeController() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivos(0, 10, CampoAlumno.TODOS))
+        .thenReturn(
+            Flux.error(
+                new IllegalArgumentException("El número de página debe ser mayor o igual a 1")));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=0&size=10")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("PARAMETROS_INVALIDOS");
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=uno")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("DATOS_INVALIDOS");
+  }
+}
@@ -0,0 +1,236 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+
+class AlumnoJsonDecoderTest {
+
+  private static final ResolvableType ALUMNO = ResolvableType.forClass(Alumno.class);
+
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AlumnoJsonDecoder decoder = new AlumnoJsonDecoder(new JsonFactory(), validator);
+
+  @Test
+  void shouldDecodeOnlyAlumnoFromUtf8Json() {
+    // When & Then
+    assertTrue(decoder.canDecode(ALUMNO, MediaType.APPLICATION_JSON));
+    assertTrue(decoder.canDecode(ALUMNO, null));
+    assertFalse(
+        decoder.canDecode(
+            ResolvableType.forClass(AlumnoRequestDTO.class), MediaType.APPLICATION_JSON));
+    assertFalse(decoder.canDecode(ALUMNO, MediaType.APPLICATION_NDJSON));
+    assertFalse(
+        decoder.canDecode(ALUMNO, new MimeType("application", "json", StandardCharsets.UTF_16)));
+  }
+
+  @Test
+  void shouldDecodeAlumnoWithCaseInsensitiveEstado() {
+    // Given
+    String json =
+        """
+        {"id": 7, "nombre": "Ana", "apellido": "Rios", "estado": "inActivo", "edad": 20}
+        """;
+
+    // When
+    Alumno alumno = decodificar(json);
+
+    // Then
+    assertEquals(7L, alumno.getId());
+    assertEquals("Ana", alumno.getNombre());
+    assertEquals("Rios", alumno.getApellido());
+    assertEquals(Alumno.Estado.INACTIVO, alumno.getEstado());
+    assertEquals(20, alumno.getEdad());
+  }
+
+  @Test
+  void shouldIgnoreUnknownFields() {
+    // Given
+    String json =
+        """
+        {"extra": {"a": [1, 2]}, "nombre": "Ana", "apellido": "Rios", "estado": "ACTIVO",
+         "edad": 20, "otro": null}
+        """;
+
+    // When
+    Alumno alumno = decodificar(json);
+
+    // Then
+    assertNull(alumno.getId());
+    assertEquals(Alumno.Estado.ACTIVO, alumno.getEstado());
+  }
+
+  @Test
+  void shouldDecodeBodySplitAcrossBuffers() {
+    // Given
+    DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    Flux<DataBuffer> cuerpo =
+        Flux.just(
+                "{\"id\": 1, \"nombre\": \"Ana\", \"apel",
+                "lido\": \"Rios\", \"estado\":",
+                " \"activo\", \"edad\": 20}")
+            .map(parte -> bufferFactory.wrap(parte.getBytes(StandardCharsets.UTF_8)));
+
+    // When & Then
+    StepVerifier.create(decoder.decodeToMono(cuerpo, ALUMNO, MediaType.APPLICATION_JSON, Map.of()))
+        .assertNext(alumno -> assertEquals("Rios", alumno.getApellido()))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldDecodeCborWithSameRules() throws Exception {
+    // Given
+    ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    AlumnoJsonDecoder cborDecoder =
+        new AlumnoJsonDecoder(cborMapper.getFactory(), validator, MediaType.APPLICATION_CBOR);
+    byte[] cuerpo =
+        cborMapper.writeValueAsBytes(
+            Map.of("id", 3, "nombre", "Ana", "apellido", "Rios", "estado", "Activo", "edad", 20));
+
+    // When
+    Alumno alumno =
+        cborDecoder.decode(
+            DefaultDataBufferFactory.sharedInstance.wrap(cuerpo),
+            ALUMNO,
+            MediaType.APPLICATION_CBOR,
+            Map.of());
+
+    // Then
+    assertTrue(cborDecoder.canDecode(ALUMNO, MediaType.APPLICATION_CBOR));
+    assertFalse(cborDecoder.canDecode(ALUMNO, MediaType.APPLICATION_JSON));
+    assertEquals(3L, alumno.getId());
+    assertEquals(Alumno.Estado.ACTIVO, alumno.getEstado());
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "{\"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 20}"
+            + "|El nombre es obligatorio",
+        "{\"nombre\": \"  \", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 20}"
+            + "|El nombre es obligatorio",
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"edad\": 20}" + "|El estado es obligatorio",
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \" \", \"edad\": 20}"
+            + "|El estado es obligatorio",
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"SUSPENDIDO\", \"edad\": 20}"
+            + "|El estado debe ser ACTIVO o INACTIVO"
+      })
+  void shouldRejectInvalidAlumnoWithRequestDtoMessages(String json, String mensaje) {
+    // When & Then
+    AlumnoInvalidoException ex =
+        assertThrows(AlumnoInvalidoException.class, () -> decodificar(json));
+    assertEquals(mensaje, ex.getMessage());
+  }
+
+  @Test
+  void shouldRejectInvalidAlumnoWithValidatorDefaultMessages() {
+    // When & Then - Los mensajes por defecto dependen del idioma, se piden al validador
+    assertEquals(
+        mensajeDelValidador("apellido", ""),
+        mensajeDeRechazo(
+            "{\"nombre\": \"Ana\", \"apellido\": \"\", \"estado\": \"ACTIVO\", \"edad\": 20}"));
+    assertEquals(
+        mensajeDelValidador("edad", null),
+        mensajeDeRechazo(
+            "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": null}"));
+    assertEquals(
+        mensajeDelValidador("edad", 121),
+        mensajeDeRechazo(
+            "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 121}"));
+    assertEquals(
+        mensajeDelValidador("edad", 0),
+        mensajeDeRechazo(
+            "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 0}"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"id\": \"5\", \"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": \"20\"}",
+        "{\"id\": \" 5 \", \"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": \" 20\"}",
+        "{\"id\": \"\", \"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 20.9}",
+        "{\"id\": 5.5, \"nombre\": 123, \"apellido\": true, \"estado\": \"activo\", \"edad\": 20}"
+      })
+  void shouldCoerceValuesLikeJackson(String json) throws Exception {
+    // When
+    Alumno alumno = decodificar(json);
+
+    // Then
+    assertEquals(objectMapper.readValue(json, AlumnoRequestDTO.class).toDomain(), alumno);
+  }
+
+  @Test
+  void shouldRejectEmptyEdadTextAsMissing() {
+    // When & Then
+    assertEquals(
+        mensajeDelValidador("edad", null),
+        mensajeDeRechazo(
+            "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": \"\"}"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": true}",
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": {}}",
+        "{\"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": [20]}",
+        "{\"id\": false, \"nombre\": \"Ana\", \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 20}",
+        "{\"nombre\": [\"Ana\"], \"apellido\": \"Rios\", \"estado\": \"ACTIVO\", \"edad\": 20}"
+      })
+  void shouldRejectValuesJacksonDoesNotCoerce(String json) {
+    // When & Then
+    assertThrows(DecodingException.class, () -> decodificar(json));
+    assertThrows(Exception.class, () -> objectMapper.readValue(json, AlumnoRequestDTO.class));
+  }
+
+  @Test
+  void shouldRejectMalformedJsonAsDecodingError() {
+    // When & Then
+    assertThrows(DecodingException.class, () -> decodificar("{ invalid json }"));
+    assertThrows(DecodingException.class, () -> decodificar("[1, 2]"));
+    assertThrows(DecodingException.class, () -> decodificar("{\"nombre\": \"Ana\""));
+    assertThrows(DecodingException.class, () -> decodificar("{\"edad\": \"veinte\"}"));
+    assertThrows(DecodingException.class, () -> decodificar("{\"edad\": 99999999999}"));
+  }
+
+  private String mensajeDeRechazo(String json) {
+    return assertThrows(AlumnoInvalidoException.class, () -> decodificar(json)).getMessage();
+  }
+
+  private String mensajeDelValidador(String campo, Object valor) {
+    return validator
+        .validateValue(AlumnoRequestDTO.class, campo, valor)
+        .iterator()
+        .next()
+        .getMessage();
+  }
+
+  private Alumno decodificar(String json) {
+    DataBuffer buffer =
+        DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    return decoder.decode(buffer, ALUMNO, MediaType.APPLICATION_JSON, Map.of());
+  }
+}
@@ -0,0 +1,156 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+class AlumnosJsonEncoderTest {
+
+  private static final ResolvableType LISTA_ALUMNOS =
+      ResolvableType.forClassWithGenerics(List.class, AlumnoResponseDTO.class);
+
+  private ObjectMapper objectMapper;
+  private AlumnosJsonEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    encoder = new AlumnosJsonEncoder(new FragmentosJsonAlumnos(objectMapper, 1024 * 1024));
+  }
+
+  @Test
+  void shouldEncodeListOfAlumnosAsJson() {
+    // When & Then
+    assertTrue(encoder.canEncode(LISTA_ALUMNOS, MediaType.APPLICATION_JSON));
+    assertTrue(encoder.canEncode(LISTA_ALUMNOS, null));
+    assertTrue(
+        encoder.canEncode(
+            LISTA_ALUMNOS, new MimeType("application", "json", StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void shouldNotEncodeOtherTypesOrMediaTypes() {
+    // When & Then
+    assertFalse(
+        encoder.canEncode(
+            ResolvableType.forClassWithGenerics(List.class, String.class),
+            MediaType.APPLICATION_JSON));
+    assertFalse(
+        encoder.canEncode(
+            ResolvableType.forClass(AlumnoResponseDTO.class), MediaType.APPLICATION_JSON));
+    assertFalse(encoder.canEncode(ResolvableType.forClass(List.class), MediaType.APPLICATION_JSON));
+    assertFalse(encoder.canEncode(LISTA_ALUMNOS, MediaType.APPLICATION_NDJSON));
+    assertFalse(
+        encoder.canEncode(
+            LISTA_ALUMNOS, new MimeType("application", "json", StandardCharsets.ISO_8859_1)));
+  }
+
+  @Test
+  void shouldWriteSameBytesAsJackson() throws Exception {
+    // Given
+    List<AlumnoResponseDTO> alumnos =
+        List.of(
+            new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25),
+            new AlumnoResponseDTO(2L, "Ana", "González", "ACTIVO", 30));
+
+    // When
+    DataBuffer buffer =
+        encoder.encodeValue(
+            alumnos,
+            DefaultDataBufferFactory.sharedInstance,
+            LISTA_ALUMNOS,
+            MediaType.APPLICATION_JSON,
+            Map.of());
+
+    // Then
+    assertEquals(objectMapper.writeValueAsString(alumnos), leer(buffer));
+  }
+
+  @Test
+  void shouldReuseFragmentsOfVersionedListsOnly() {
+    // Given
+    FragmentosJsonAlumnos fragmentos = new FragmentosJsonAlumnos(objectMapper, 1024 * 1024);
+    AlumnosJsonEncoder conFragmentos = new AlumnosJsonEncoder(fragmentos);
+    List<AlumnoResponseDTO> alumnos =
+        List.of(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25));
+
+    // When
+    String sinVersion =
+        leer(
+            conFragmentos.encodeValue(
+                alumnos,
+                DefaultDataBufferFactory.sharedInstance,
+                LISTA_ALUMNOS,
+                MediaType.APPLICATION_JSON,
+                Map.of()));
+    long guardadosSinVersion = fragmentos.cantidad();
+    String conVersion =
+        leer(
+            conFragmentos.encodeValue(
+                new AlumnosVersionados(alumnos, 3),
+                DefaultDataBufferFactory.sharedInstance,
+                LISTA_ALUMNOS,
+                MediaType.APPLICATION_JSON,
+                Map.of()));
+
+    // Then
+    assertEquals(0, guardadosSinVersion);
+    assertEquals(1, fragmentos.cantidad());
+    assertEquals(sinVersion, conVersion);
+  }
+
+  @Test
+  void shouldWriteEmptyArrayForEmptyList() {
+    // When
+    DataBuffer buffer =
+        encoder.encodeValue(
+            List.of(),
+            DefaultDataBufferFactory.sharedInstance,
+            LISTA_ALUMNOS,
+            MediaType.APPLICATION_JSON,
+            Map.of());
+
+    // Then
+    assertEquals("[]", leer(buffer));
+  }
+
+  @Test
+  void shouldEncodePublisherOfLists() {
+    // Given
+    List<AlumnoResponseDTO> alumnos =
+        List.of(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25));
+
+    // When & Then
+    StepVerifier.create(
+            encoder
+                .encode(
+                    Mono.just(alumnos),
+                    DefaultDataBufferFactory.sharedInstance,
+                    LISTA_ALUMNOS,
+                    MediaType.APPLICATION_JSON,
+                    Map.of())
+                .map(AlumnosJsonEncoderTest::leer))
+        .expectNextMatches(json -> json.startsWith("[{") && json.contains("\"id\":1"))
+        .verifyComplete();
+  }
+
+  private static String leer(DataBuffer buffer) {
+    String contenido = buffer.toString(StandardCharsets.UTF_8);
+    DataBufferUtils.release(buffer);
+    return contenido;
+  }
+}
@@ -0,0 +1,146 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoDTO;
+
+/**
+ * Compara {@link Jackson2JsonEncoder} con {@link AlumnosJsonStreamEncoder} al codificar flujos de
+ * alumnos como NDJSON sobre buffers de Netty. Se ejecuta con {@code mvn test -Pbenchmark}.
+ *
+ * <p>Cada encoder hace primero iteraciones de calentamiento sin medir y luego iteraciones medidas,
+ * alternadas entre ambos para repartir el ruido de la máquina. Se informan la mediana, el mínimo y
+ * el máximo por alumno. Las cantidades se cambian con {@code -Dbenchmark.calentamiento=} y {@code
+ * -Dbenchmark.iteraciones=}.
+ */
+@Tag("benchmark")
+class AlumnosJsonStreamEncoderBenchmarkTest {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(AlumnosJsonStreamEncoderBenchmarkTest.class);
+
+  private static final ResolvableType ALUMNO = ResolvableType.forClass(AlumnoExportadoDTO.class);
+  private static final int ALUMNOS_POR_ITERACION = 200_000;
+  private static final int ITERACIONES_CALENTAMIENTO =
+      Integer.getInteger("benchmark.calentamiento", 5);
+  private static final int ITERACIONES_MEDIDAS = Integer.getInteger("benchmark.iteraciones", 10);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final NettyDataBufferFactory bufferFactory =
+      new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100, 10_000})
+  void compareWithJacksonEncoder(int tamanoPagina) {
+    // Given
+    List<AlumnoExportadoDTO> pagina =
+        LongStream.rangeClosed(1, tamanoPagina)
+            .mapToObj(id -> new AlumnoExportadoDTO(id, "Nombre" + id, "Apellido", "ACTIVO", 20))
+            .toList();
+    Encoder<Object> jackson = new Jackson2JsonEncoder(objectMapper);
+    AlumnosJsonStreamEncoder propio = new AlumnosJsonStreamEncoder(objectMapper.getFactory(), 256);
+    int repeticiones = Math.max(1, ALUMNOS_POR_ITERACION / tamanoPagina);
+
+    // When
+    for (int i = 0; i < ITERACIONES_CALENTAMIENTO; i++) {
+      medir(jackson, pagina, repeticiones);
+      medir(propio, pagina, repeticiones);
+    }
+    double[] nanosJackson = new double[ITERACIONES_MEDIDAS];
+    double[] nanosPropio = new double[ITERACIONES_MEDIDAS];
+    for (int i = 0; i < ITERACIONES_MEDIDAS; i++) {
+      nanosJackson[i] = medir(jackson, pagina, repeticiones);
+      nanosPropio[i] = medir(propio, pagina, repeticiones);
+    }
+
+    // Then - Solo tiene sentido comparar tiempos si ambos escriben los mismos alumnos
+    logger.info(
+        "Página de {} ({} + {} iteraciones): Jackson2JsonEncoder {}, AlumnosJsonStreamEncoder {}",
+        tamanoPagina,
+        ITERACIONES_CALENTAMIENTO,
+        ITERACIONES_MEDIDAS,
+        resumir(nanosJackson),
+        resumir(nanosPropio));
+    assertEquals(leer(jackson, pagina), leer(propio, pagina));
+  }
+
+  private List<JsonNode> leer(
+      Encoder<? super AlumnoExportadoDTO> encoder, List<AlumnoExportadoDTO> pagina) {
+    DataBuffer buffer =
+        DataBufferUtils.join(
+                encoder.encode(
+                    Flux.fromIterable(pagina),
+                    bufferFactory,
+                    ALUMNO,
+                    MediaType.APPLICATION_NDJSON,
+                    Map.of()))
+            .block();
+    assertNotNull(buffer);
+    String ndjson = buffer.toString(StandardCharsets.UTF_8);
+    DataBufferUtils.release(buffer);
+    List<JsonNode> alumnos = new ArrayList<>();
+    try {
+      for (String linea : ndjson.split("\n")) {
+        alumnos.add(objectMapper.readTree(linea));
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return alumnos;
+  }
+
+  private double medir(
+      Encoder<? super AlumnoExportadoDTO> encoder,
+      List<AlumnoExportadoDTO> pagina,
+      int repeticiones) {
+    long inicio = System.nanoTime();
+    for (int i = 0; i < repeticiones; i++) {
+      encoder
+          .encode(
+              Flux.fromIterable(pagina),
+              bufferFactory,
+              ALUMNO,
+              MediaType.APPLICATION_NDJSON,
+              Map.of())
+          .doOnNext(DataBufferUtils::release)
+          .blockLast();
+    }
+    return (double) (System.nanoTime() - inicio) / ((long) repeticiones * pagina.size());
+  }
+
+  private static String resumir(double[] nanos) {
+    double[] ordenados = nanos.clone();
+    Arrays.sort(ordenados);
+    return String.format(
+        Locale.ROOT,
+        "mediana %.1f ns/alumno (mín %.1f, máx %.1f)",
+        ordenados[ordenados.length / 2],
+        ordenados[0],
+        ordenados[ordenados.length - 1]);
+  }
+}
@@ -0,0 +1,176 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoExportadoParcialDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+class AlumnosJsonStreamEncoderTest {
+
+  private static final ResolvableType ALUMNO = ResolvableType.forClass(AlumnoExportadoDTO.class);
+
+  private ObjectMapper objectMapper;
+  private AlumnosJsonStreamEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    encoder = new AlumnosJsonStreamEncoder(objectMapper.getFactory(), 2);
+  }
+
+  @Test
+  void shouldEncodeAlumnosAsJsonAndNdjson() {
+    // When & Then
+    assertTrue(encoder.canEncode(ALUMNO, MediaType.APPLICATION_JSON));
+    assertTrue(encoder.canEncode(ALUMNO, MediaType.APPLICATION_NDJSON));
+    assertTrue(encoder.canEncode(ALUMNO, null));
+    assertFalse(encoder.canEncode(ALUMNO, MediaType.APPLICATION_XML));
+    assertFalse(
+        encoder.canEncode(ALUMNO, new MimeType("application", "json", StandardCharsets.UTF_16)));
+    assertFalse(
+        encoder.canEncode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON));
+    assertEquals(List.of(MediaType.APPLICATION_NDJSON), encoder.getStreamingMediaTypes());
+  }
+
+  @Test
+  void shouldLeaveSingleAlumnoResponsesToJackson() {
+    // When & Then
+    assertFalse(
+        encoder.canEncode(
+            ResolvableType.forClass(AlumnoResponseDTO.class), MediaType.APPLICATION_JSON));
+    assertFalse(
+        encoder.canEncode(
+            ResolvableType.forClass(AlumnoResponseDTO.class), MediaType.APPLICATION_NDJSON));
+  }
+
+  @Test
+  void shouldWriteNdjsonInBoundedChunks() {
+    // Given
+    List<AlumnoExportadoDTO> alumnos = alumnos(5);
+    String esperado =
+        alumnos.stream().map(this::comoJson).map(json -> json + "\n").collect(Collectors.joining());
+
+    // When
+    List<String> bloques = codificar(Flux.fromIterable(alumnos), MediaType.APPLICATION_NDJSON);
+
+    // Then
+    assertEquals(3, bloques.size());
+    assertEquals(esperado, String.join("", bloques));
+  }
+
+  @Test
+  void shouldWriteJsonArrayIdenticalToJackson() throws Exception {
+    // Given
+    List<AlumnoExportadoDTO> alumnos = alumnos(5);
+
+    // When
+    List<String> bloques = codificar(Flux.fromIterable(alumnos), MediaType.APPLICATION_JSON);
+
+    // Then
+    assertEquals(objectMapper.writeValueAsString(alumnos), String.join("", bloques));
+  }
+
+  @Test
+  void shouldWriteEmptyJsonArrayForEmptyFlux() {
+    // When
+    List<String> bloques = codificar(Flux.empty(), MediaType.APPLICATION_JSON);
+
+    // Then
+    assertEquals("[]", String.join("", bloques));
+  }
+
+  @Test
+  void shouldWriteSingleObjectForMono() throws Exception {
+    // Given
+    AlumnoExportadoDTO alumno = new AlumnoExportadoDTO(1L, "Juan", "Pérez", "ACTIVO", 25);
+
+    // When
+    List<String> bloques = codificar(Mono.just(alumno), MediaType.APPLICATION_JSON);
+
+    // Then
+    assertEquals(List.of(objectMapper.writeValueAsString(alumno)), bloques);
+  }
+
+  @Test
+  void shouldOmitUnrequestedFieldsLikeJackson() throws Exception {
+    // Given - Los campos no pedidos con ?fields= llegan en null
+    AlumnoExportadoDTO alumno =
+        new AlumnoExportadoParcialDTO(null, null, "Pérez \"Q\"", null, null);
+
+    // When
+    List<String> bloques = codificar(Flux.just(alumno), MediaType.APPLICATION_NDJSON);
+
+    // Then
+    assertEquals(objectMapper.writeValueAsString(alumno) + "\n", String.join("", bloques));
+    assertEquals("{\"apellido\":\"Pérez \\\"Q\\\"\"}\n", String.join("", bloques));
+  }
+
+  @Test
+  void shouldWriteNullFieldsOfCompleteAlumnosLikeJackson() throws Exception {
+    // Given
+    AlumnoExportadoDTO alumno = new AlumnoExportadoDTO(1L, "Juan", "Pérez", "ACTIVO", null);
+
+    // When
+    List<String> bloques = codificar(Flux.just(alumno), MediaType.APPLICATION_NDJSON);
+
+    // Then
+    assertEquals(objectMapper.writeValueAsString(alumno) + "\n", String.join("", bloques));
+    assertTrue(String.join("", bloques).contains("\"edad\":null"));
+  }
+
+  @Test
+  void shouldRejectNonPositiveChunkSize() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AlumnosJsonStreamEncoder(objectMapper.getFactory(), 0));
+  }
+
+  private List<String> codificar(Publisher<AlumnoExportadoDTO> alumnos, MimeType mimeType) {
+    List<String> bloques =
+        encoder
+            .encode(alumnos, DefaultDataBufferFactory.sharedInstance, ALUMNO, mimeType, Map.of())
+            .map(AlumnosJsonStreamEncoderTest::leer)
+            .collectList()
+            .block();
+    assertNotNull(bloques);
+    return bloques;
+  }
+
+  private String comoJson(AlumnoExportadoDTO alumno) {
+    try {
+      return objectMapper.writeValueAsString(alumno);
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static List<AlumnoExportadoDTO> alumnos(int cantidad) {
+    return LongStream.rangeClosed(1, cantidad)
+        .mapToObj(id -> new AlumnoExportadoDTO(id, "Nombre" + id, "Apellido", "ACTIVO", 20))
+        .toList();
+  }
+
+  private static String leer(DataBuffer buffer) {
+    String contenido = buffer.toString(StandardCharsets.UTF_8);
+    DataBufferUtils.release(buffer);
+    return contenido;
+  }
+}
@@ -0,0 +1,102 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FilaImportacion;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+
+class ArchivoCsvAlumnosTest {
+
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+  private final ArchivoCsvAlumnos archivoCsvAlumnos = new ArchivoCsvAlumnos(validator);
+
+  @Test
+  void shouldStoreAndReadCsvSplitAcrossBuffers() {
+    // Given - Las líneas quedan partidas entre buffers a propósito
+    Flux<DataBuffer> contenido =
+        Flux.just(
+                "id,nombre,apellido,estado,edad\n1,Juan,Pe",
+                "rez,ACTIVO,20\r\n2,Ana,Gomez,inactivo,22\n",
+                "3,Luis,Martinez,ACTIVO,19")
+            .map(this::buffer);
+
+    // When
+    ArchivoCsvAlumnos.ArchivoTemporal archivo = archivoCsvAlumnos.guardar(contenido).block();
+
+    // Then
+    assertNotNull(archivo);
+    assertEquals(3, archivo.totalFilas());
+    StepVerifier.create(
+            archivoCsvAlumnos
+                .leer(archivo)
+                .filter(FilaImportacion::esValida)
+                .map(FilaImportacion::getAlumno))
+        .expectNext(new Alumno(1L, "Juan", "Perez", Alumno.Estado.ACTIVO, 20))
+        .expectNextMatches(
+            alumno ->
+                alumno.getId().equals(2L)
+                    && alumno.getApellido().equals("Gomez")
+                    && alumno.getEstado() == Alumno.Estado.INACTIVO)
+        .expectNextMatches(alumno -> alumno.getId().equals(3L) && alumno.getEdad() == 19)
+        .verifyComplete();
+    assertFalse(Files.exists(archivo.ruta()));
+  }
+
+  @Test
+  void shouldCountRowsWithTrailingNewline() {
+    // Given
+    Flux<DataBuffer> contenido =
+        Flux.just("id,nombre,apellido,estado,edad\n1,Juan,Perez,ACTIVO,20\n").map(this::buffer);
+
+    // When
+    ArchivoCsvAlumnos.ArchivoTemporal archivo = archivoCsvAlumnos.guardar(contenido).block();
+
+    // Then
+    assertNotNull(archivo);
+    assertEquals(1, archivo.totalFilas());
+    StepVerifier.create(archivoCsvAlumnos.leer(archivo)).expectNextCount(1).verifyComplete();
+  }
+
+  @Test
+  void shouldRejectInvalidLinesNamingTheFailingField() {
+    // When
+    FilaImportacion camposFaltantes = archivoCsvAlumnos.aFila("1,Juan,Perez");
+    FilaImportacion estadoDesconocido = archivoCsvAlumnos.aFila("2,Juan,Perez,SUSPENDIDO,20");
+    FilaImportacion apellidoVacio = archivoCsvAlumnos.aFila("3,Juan, ,ACTIVO,20");
+    FilaImportacion edadNoNumerica = archivoCsvAlumnos.aFila("4,Juan,Perez,ACTIVO,veinte");
+    FilaImportacion edadFueraDeRango = archivoCsvAlumnos.aFila("5,Juan,Perez,ACTIVO,130");
+
+    // Then
+    assertEquals(
+        "La fila debe tener los campos id,nombre,apellido,estado,edad", camposFaltantes.getError());
+    assertEquals(1L, camposFaltantes.getAlumno().getId());
+    assertEquals("El estado debe ser ACTIVO o INACTIVO", estadoDesconocido.getError());
+    assertEquals(mensajeDelValidador("apellido", " "), apellidoVacio.getError());
+    assertEquals("La edad debe ser un número entero", edadNoNumerica.getError());
+    assertEquals(mensajeDelValidador("edad", 130), edadFueraDeRango.getError());
+    assertEquals(5L, edadFueraDeRango.getAlumno().getId());
+  }
+
+  // Los mensajes por defecto del validador dependen del idioma de la máquina.
+  private String mensajeDelValidador(String campo, Object valor) {
+    return validator
+        .validateValue(AlumnoRequestDTO.class, campo, valor)
+        .iterator()
+        .next()
+        .getMessage();
+  }
+
+  private DataBuffer buffer(String texto) {
+    return DefaultDataBufferFactory.sharedInstance.wrap(texto.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,69 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class CborEncoderTest {
+
+  private static final ResolvableType LISTA =
+      ResolvableType.forClassWithGenerics(List.class, Map.class);
+
+  private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+  private final CborEncoder encoder = new CborEncoder(cborMapper);
+
+  @Test
+  void shouldOnlyClaimCbor() {
+    // When & Then
+    assertTrue(encoder.canEncode(LISTA, MediaType.APPLICATION_CBOR));
+    assertFalse(encoder.canEncode(LISTA, MediaType.APPLICATION_JSON));
+    assertFalse(encoder.canEncode(LISTA, MediaType.APPLICATION_NDJSON));
+  }
+
+  @Test
+  void shouldEncodeSingleValueAndStreamAsTheSameCborArray() throws IOException {
+    // Given
+    List<Map<String, Object>> alumnos =
+        List.of(Map.of("id", 1, "nombre", "Juan"), Map.of("id", 2, "nombre", "Ana"));
+
+    // When
+    byte[] valor = codificar(Mono.just(alumnos), LISTA);
+    byte[] flujo = codificar(Flux.fromIterable(alumnos), ResolvableType.forClass(Map.class));
+
+    // Then
+    assertEquals(
+        alumnos, cborMapper.readValue(valor, new TypeReference<List<Map<String, Object>>>() {}));
+    assertArrayEquals(valor, flujo);
+  }
+
+  private byte[] codificar(Publisher<?> entrada, ResolvableType tipo) {
+    DataBuffer buffer =
+        DataBufferUtils.join(
+                encoder.encode(
+                    entrada,
+                    DefaultDataBufferFactory.sharedInstance,
+                    tipo,
+                    MediaType.APPLICATION_CBOR,
+                    Map.of()))
+            .block();
+    assertNotNull(buffer);
+    byte[] bytes = new byte[buffer.readableByteCount()];
+    buffer.read(bytes);
+    DataBufferUtils.release(buffer);
+    return bytes;
+  }
+}
@@ -0,0 +1,238 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class CompresionRespuestaFilterTest {
+
+  private static final String CUERPO_GRANDE =
+      "[" + "{\"id\":1,\"nombre\":\"Juan\"},".repeat(100) + "{}]";
+
+  private SimpleMeterRegistry meterRegistry;
+  private CompresionRespuestaFilter filtro;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    filtro =
+        new CompresionRespuestaFilter(
+            meterRegistry,
+            1024,
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON),
+            6,
+            4);
+  }
+
+  @Test
+  void shouldGzipLargeJsonResponse() throws IOException {
+    // Given
+    MockServerWebExchange exchange = exchange("/api/alumnos/activos", "gzip, deflate");
+
+    // When
+    filtrar(exchange, HttpStatus.OK, MediaType.APPLICATION_JSON, CUERPO_GRANDE, "\"v1\"");
+
+    // Then
+    HttpHeaders headers = exchange.getResponse().getHeaders();
+    assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(-1, headers.getContentLength());
+    assertEquals("W/\"v1\"", headers.getETag());
+    assertTrue(headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+    byte[] cuerpo = cuerpo(exchange);
+    assertTrue(cuerpo.length < CUERPO_GRANDE.length());
+    assertEquals(CUERPO_GRANDE, descomprimirGzip(cuerpo));
+  }
+
+  @Test
+  void shouldSendTheCompressedResponseEtagOnNotModified() {
+    // Given
+    MockServerWebExchange comprimida = exchange("/api/alumnos/activos", "gzip");
+    MockServerWebExchange noModificada = exchange("/api/alumnos/activos", "gzip");
+    MockServerWebExchange pequena = exchange("/api/alumnos/activos", "gzip");
+
+    // When
+    filtrar(comprimida, HttpStatus.OK, MediaType.APPLICATION_JSON, CUERPO_GRANDE, "\"v1\"");
+    filtro
+        .filter(
+            noModificada,
+            ex -> {
+              ex.getResponse().setStatusCode(HttpStatus.NOT_MODIFIED);
+              ex.getResponse().getHeaders().setETag("\"v1\"");
+              return ex.getResponse().setComplete();
+            })
+        .block();
+    filtrar(pequena, HttpStatus.OK, MediaType.APPLICATION_JSON, "[]", "\"v1\"");
+
+    // Then
+    String etag = comprimida.getResponse().getHeaders().getETag();
+    assertEquals("W/\"v1\"", etag);
+    assertEquals(etag, noModificada.getResponse().getHeaders().getETag());
+    assertEquals(etag, pequena.getResponse().getHeaders().getETag());
+    assertEquals(
+        List.of(HttpHeaders.ACCEPT_ENCODING), noModificada.getResponse().getHeaders().getVary());
+    assertEquals(
+        List.of(HttpHeaders.ACCEPT_ENCODING), comprimida.getResponse().getHeaders().getVary());
+  }
+
+  @Test
+  void shouldRecordRatioAndCpuTimePerEndpoint() {
+    // Given
+    MockServerWebExchange exchange = exchange("/api/alumnos/activos", "gzip");
+
+    // When
+    filtrar(exchange, HttpStatus.OK, MediaType.APPLICATION_JSON, CUERPO_GRANDE, null);
+
+    // Then
+    DistributionSummary ratio =
+        meterRegistry.get("alumnos.compresion.ratio").tag("codificacion", "gzip").summary();
+    assertEquals(1, ratio.count());
+    assertTrue(ratio.mean() > 1.0);
+    assertEquals(
+        1, meterRegistry.get("alumnos.compresion.cpu").tag("codificacion", "gzip").timer().count());
+  }
+
+  @Test
+  void shouldSkipSmallErrorBodies() {
+    // Given
+    MockServerWebExchange exchange = exchange("/api/alumnos", "gzip");
+    String error = "{\"codigo\":\"ALUMNO_YA_EXISTE\"}";
+
+    // When
+    filtrar(exchange, HttpStatus.CONFLICT, MediaType.APPLICATION_JSON, error, null);
+
+    // Then
+    assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(error, new String(cuerpo(exchange), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldSkipTypesOutsideAllowlist() {
+    // Given
+    MockServerWebExchange exchange = exchange("/api/alumnos/activos", "gzip");
+
+    // When
+    filtrar(exchange, HttpStatus.OK, MediaType.APPLICATION_CBOR, CUERPO_GRANDE, null);
+
+    // Then
+    assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  void shouldSkipRequestsWithoutAcceptEncodingOrOutsideAlumnos() {
+    // Given
+    MockServerWebExchange sinCabecera = exchange("/api/alumnos/activos", null);
+    MockServerWebExchange otraRuta = exchange("/actuator/metrics", "gzip");
+
+    // When
+    filtrar(sinCabecera, HttpStatus.OK, MediaType.APPLICATION_JSON, CUERPO_GRANDE, null);
+    filtrar(otraRuta, HttpStatus.OK, MediaType.APPLICATION_JSON, CUERPO_GRANDE, null);
+
+    // Then
+    assertNull(sinCabecera.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertNull(otraRuta.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  void shouldCompressStreamedElementsWithoutContentLength() throws IOException {
+    // Given
+    MockServerWebExchange exchange = exchange("/api/alumnos/activos/stream", "gzip");
+    WebFilterChain cadena =
+        ex -> {
+          ex.getResponse().getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+          return ex.getResponse()
+              .writeAndFlushWith(
+                  Flux.just("{\"id\":1}\n", "{\"id\":2}\n").map(linea -> Mono.just(buffer(linea))));
+        };
+
+    // When
+    filtro.filter(exchange, cadena).block();
+
+    // Then
+    HttpHeaders headers = exchange.getResponse().getHeaders();
+    assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals("{\"id\":1}\n{\"id\":2}\n", descomprimirGzip(cuerpo(exchange)));
+  }
+
+  @Test
+  void shouldNegotiateEncodingByQuality() {
+    // When & Then
+    assertEquals(Compresor.Codificacion.GZIP, CompresionRespuestaFilter.negociar(List.of("gzip")));
+    assertEquals(
+        Compresor.Codificacion.DEFLATE,
+        CompresionRespuestaFilter.negociar(List.of("gzip;q=0.5, deflate")));
+    assertEquals(
+        Compresor.Codificacion.GZIP, CompresionRespuestaFilter.negociar(List.of("br, *;q=0.1")));
+    assertNull(CompresionRespuestaFilter.negociar(List.of("gzip;q=0, identity")));
+    assertNull(CompresionRespuestaFilter.negociar(List.of("br")));
+    assertNull(CompresionRespuestaFilter.negociar(null));
+  }
+
+  private static MockServerWebExchange exchange(String ruta, String aceptadas) {
+    MockServerHttpRequest.BaseBuilder<?> peticion = MockServerHttpRequest.get(ruta);
+    if (aceptadas != null) {
+      peticion.header(HttpHeaders.ACCEPT_ENCODING, aceptadas);
+    }
+    return MockServerWebExchange.from(peticion);
+  }
+
+  private void filtrar(
+      MockServerWebExchange exchange,
+      HttpStatus estado,
+      MediaType tipo,
+      String contenido,
+      String etag) {
+    filtro.filter(exchange, escribir(estado, tipo, contenido, etag)).block();
+  }
+
+  private static WebFilterChain escribir(
+      HttpStatus estado, MediaType tipo, String contenido, String etag) {
+    return ex -> {
+      DataBuffer buffer = buffer(contenido);
+      ex.getResponse().setStatusCode(estado);
+      ex.getResponse().getHeaders().setContentType(tipo);
+      ex.getResponse().getHeaders().setContentLength(buffer.readableByteCount());
+      if (etag != null) {
+        ex.getResponse().getHeaders().setETag(etag);
+      }
+      return ex.getResponse().writeWith(Mono.just(buffer));
+    };
+  }
+
+  private static DataBuffer buffer(String contenido) {
+    byte[] bytes = contenido.getBytes(StandardCharsets.UTF_8);
+    return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+  }
+
+  private static byte[] cuerpo(MockServerWebExchange exchange) {
+    DataBuffer unido = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+    assertNotNull(unido);
+    byte[] bytes = new byte[unido.readableByteCount()];
+    unido.read(bytes);
+    return bytes;
+  }
+
+  private static String descomprimirGzip(byte[] comprimido) throws IOException {
+    try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+      return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
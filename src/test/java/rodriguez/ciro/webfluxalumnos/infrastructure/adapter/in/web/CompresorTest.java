@@ -0,0 +1,116 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class CompresorTest {
+
+  private static final String CONTENIDO =
+      "{\"id\":1,\"nombre\":\"Juan\",\"apellido\":\"Pérez\",\"estado\":\"ACTIVO\",\"edad\":25}\n"
+          .repeat(200);
+
+  private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+  @Test
+  void shouldProduceValidGzip() throws IOException {
+    // Given
+    Compresor compresor = new Compresor(Compresor.Codificacion.GZIP, 6);
+
+    // When
+    byte[] comprimido = comprimirEnDosPartes(compresor);
+
+    // Then
+    assertTrue(comprimido.length < CONTENIDO.length() / 5);
+    assertEquals(CONTENIDO, leer(new GZIPInputStream(new ByteArrayInputStream(comprimido))));
+    assertEquals(CONTENIDO.getBytes(StandardCharsets.UTF_8).length, compresor.getBytesEntrada());
+    assertEquals(comprimido.length, compresor.getBytesSalida());
+  }
+
+  @Test
+  void shouldProduceValidDeflate() throws IOException {
+    // Given
+    Compresor compresor = new Compresor(Compresor.Codificacion.DEFLATE, 6);
+
+    // When
+    byte[] comprimido = comprimirEnDosPartes(compresor);
+
+    // Then
+    assertEquals(CONTENIDO, leer(new InflaterInputStream(new ByteArrayInputStream(comprimido))));
+  }
+
+  @Test
+  void shouldMakeFlushedDataDecompressibleBeforeFinishing() throws Exception {
+    // Given
+    Compresor compresor = new Compresor(Compresor.Codificacion.DEFLATE, 6);
+    String primeraLinea = "{\"id\":1}\n";
+
+    // When
+    DataBuffer parcial = compresor.comprimir(buffer(primeraLinea), bufferFactory, true);
+
+    // Then
+    Inflater inflater = new Inflater();
+    inflater.setInput(bytes(parcial));
+    byte[] salida = new byte[64];
+    int leidos = inflater.inflate(salida);
+    assertEquals(primeraLinea, new String(salida, 0, leidos, StandardCharsets.UTF_8));
+    inflater.end();
+  }
+
+  @Test
+  void shouldProduceSameOutputAfterReset() {
+    // Given
+    Compresor compresor = new Compresor(Compresor.Codificacion.GZIP, 6);
+    byte[] primero = comprimirEnDosPartes(compresor);
+
+    // When
+    compresor.reiniciar();
+    byte[] segundo = comprimirEnDosPartes(compresor);
+
+    // Then
+    assertArrayEquals(primero, segundo);
+  }
+
+  private byte[] comprimirEnDosPartes(Compresor compresor) {
+    int mitad = CONTENIDO.length() / 2;
+    DataBuffer primeraMitad = buffer(CONTENIDO.substring(0, mitad));
+    DataBuffer segundaMitad = buffer(CONTENIDO.substring(mitad));
+    ByteArrayOutputStream salida = new ByteArrayOutputStream();
+    escribir(salida, compresor.comprimir(primeraMitad, bufferFactory, false));
+    escribir(salida, compresor.comprimir(segundaMitad, bufferFactory, false));
+    escribir(salida, compresor.terminar(bufferFactory));
+    return salida.toByteArray();
+  }
+
+  private DataBuffer buffer(String texto) {
+    return bufferFactory.wrap(texto.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void escribir(ByteArrayOutputStream salida, DataBuffer buffer) {
+    if (buffer != null) {
+      salida.writeBytes(bytes(buffer));
+    }
+  }
+
+  private static byte[] bytes(DataBuffer buffer) {
+    byte[] bytes = new byte[buffer.readableByteCount()];
+    buffer.read(bytes);
+    return bytes;
+  }
+
+  private static String leer(InputStream entrada) throws IOException {
+    try (entrada) {
+      return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+class CursorPaginacionTest {
+
+  @Test
+  void shouldEncodeAndDecodeCursor() {
+    // When
+    String cursor = CursorPaginacion.codificar(42L);
+
+    // Then
+    assertNotEquals("42", cursor);
+    assertEquals(42L, CursorPaginacion.decodificar(cursor));
+  }
+
+  @Test
+  void shouldRejectNullCursor() {
+    // When & Then
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(null));
+    assertEquals("El cursor de paginación no es válido", exception.getMessage());
+  }
+
+  @Test
+  void shouldRejectCursorThatIsNotBase64() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar("%%%"));
+  }
+
+  @Test
+  void shouldRejectCursorWithoutPrefix() {
+    // Given
+    String cursor =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("42".getBytes(StandardCharsets.UTF_8));
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(cursor));
+  }
+
+  @Test
+  void shouldRejectCursorWithNegativeId() {
+    // Given
+    String cursor =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("id:-5".getBytes(StandardCharsets.UTF_8));
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(cursor));
+  }
+
+  @Test
+  void shouldPointNextCursorAtLastAlumnoOnlyWhenPageIsFull() {
+    // Given
+    List<Alumno> alumnos =
+        List.of(
+            new Alumno(3L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25),
+            new Alumno(8L, "Ana", "Gómez", Alumno.Estado.ACTIVO, 30));
+
+    // When & Then
+    assertEquals(8L, CursorPaginacion.decodificar(CursorPaginacion.siguiente(alumnos, 2)));
+    assertNull(CursorPaginacion.siguiente(alumnos, 3));
+    assertNull(CursorPaginacion.siguiente(List.of(), 0));
+  }
+}
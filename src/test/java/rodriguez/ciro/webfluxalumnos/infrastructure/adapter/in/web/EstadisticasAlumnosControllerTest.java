@@ -0,0 +1,65 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerEstadisticasAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+@WebFluxTest(EstadisticasAlumnosController.class)
+class EstadisticasAlumnosControllerTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private ObtenerEstadisticasAlumnosUseCase obtenerEstadisticasAlumnosUseCase;
+
+  @Test
+  void shouldReturnCountsByEstadoAndAgeRange() {
+    // Given
+    when(obtenerEstadisticasAlumnosUseCase.obtenerEstadisticas())
+        .thenReturn(
+            Mono.just(
+                new EstadisticasAlumnos(
+                    Map.of(Alumno.Estado.ACTIVO, 7L, Alumno.Estado.INACTIVO, 3L),
+                    List.of(
+                        new EstadisticasAlumnos.RangoEdad(
+                            0, 17, Map.of(Alumno.Estado.INACTIVO, 1L)),
+                        new EstadisticasAlumnos.RangoEdad(
+                            18,
+                            150,
+                            Map.of(Alumno.Estado.ACTIVO, 7L, Alumno.Estado.INACTIVO, 2L))))));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/estadisticas")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.total")
+        .isEqualTo(10)
+        .jsonPath("$.activos")
+        .isEqualTo(7)
+        .jsonPath("$.inactivos")
+        .isEqualTo(3)
+        .jsonPath("$.rangosEdad.length()")
+        .isEqualTo(2)
+        .jsonPath("$.rangosEdad[0].hasta")
+        .isEqualTo(17)
+        .jsonPath("$.rangosEdad[0].activos")
+        .isEqualTo(0)
+        .jsonPath("$.rangosEdad[1].desde")
+        .isEqualTo(18)
+        .jsonPath("$.rangosEdad[1].total")
+        .isEqualTo(9);
+  }
+}
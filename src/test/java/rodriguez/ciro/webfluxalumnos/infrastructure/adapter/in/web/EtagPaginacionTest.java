@@ -0,0 +1,76 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+
+class EtagPaginacionTest {
+
+  private static final MediaType JSON = MediaType.APPLICATION_JSON;
+
+  @Test
+  void shouldReturnQuotedStrongEtag() {
+    // When
+    String etag = EtagPaginacion.porPagina(1L, 1, 10, CampoAlumno.TODOS, JSON);
+
+    // Then
+    assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    assertFalse(etag.startsWith("W/"));
+  }
+
+  @Test
+  void shouldBeStableForSameVersionAndPosition() {
+    // When & Then
+    assertEquals(
+        EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, JSON),
+        EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, JSON));
+    assertEquals(
+        EtagPaginacion.porCursor(3L, 5L, 10, CampoAlumno.TODOS, JSON),
+        EtagPaginacion.porCursor(3L, 5L, 10, CampoAlumno.TODOS, JSON));
+  }
+
+  @Test
+  void shouldChangeWithVersionPositionOrSize() {
+    // Given
+    String etag = EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, JSON);
+
+    // When & Then
+    assertNotEquals(etag, EtagPaginacion.porPagina(4L, 2, 10, CampoAlumno.TODOS, JSON));
+    assertNotEquals(etag, EtagPaginacion.porPagina(3L, 3, 10, CampoAlumno.TODOS, JSON));
+    assertNotEquals(etag, EtagPaginacion.porPagina(3L, 2, 20, CampoAlumno.TODOS, JSON));
+    assertNotEquals(etag, EtagPaginacion.porCursor(3L, 2L, 10, CampoAlumno.TODOS, JSON));
+  }
+
+  @Test
+  void shouldChangeWithRepresentation() {
+    // Given
+    String etag = EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, JSON);
+
+    // When & Then
+    assertNotEquals(
+        etag, EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, MediaType.APPLICATION_CBOR));
+    assertNotEquals(
+        etag,
+        EtagPaginacion.porPagina(
+            3L, 2, 10, CampoAlumno.TODOS, CodecConfiguration.APPLICATION_SMILE));
+  }
+
+  @Test
+  void shouldChangeWithRequestedFieldsButNotWithTheirOrder() {
+    // Given
+    String etag = EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.TODOS, JSON);
+    String idYNombre = EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.parsear("id,nombre"), JSON);
+
+    // When & Then
+    assertNotEquals(etag, idYNombre);
+    assertEquals(
+        idYNombre, EtagPaginacion.porPagina(3L, 2, 10, CampoAlumno.parsear("nombre, id"), JSON));
+    assertEquals(
+        etag,
+        EtagPaginacion.porPagina(
+            3L, 2, 10, CampoAlumno.parsear("id,nombre,apellido,estado,edad"), JSON));
+  }
+}
@@ -0,0 +1,138 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.util.MimeType;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoRequestDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+
+/**
+ * Compara JSON, CBOR y Smile al codificar una página de alumnos y al decodificarla como
+ * solicitudes: bytes en la red y tiempo por alumno. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class FormatosBinariosBenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(FormatosBinariosBenchmarkTest.class);
+
+  private static final ResolvableType PAGINA =
+      ResolvableType.forClassWithGenerics(List.class, AlumnoResponseDTO.class);
+  private static final ResolvableType SOLICITUDES =
+      ResolvableType.forClassWithGenerics(List.class, AlumnoRequestDTO.class);
+  private static final int ALUMNOS_POR_MEDICION = 200_000;
+  private static final TypeReference<List<Map<String, Object>>> CAMPOS = new TypeReference<>() {};
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100, 1_000})
+  void compareJsonCborAndSmile(int tamanoPagina) {
+    // Given
+    List<AlumnoResponseDTO> pagina =
+        LongStream.rangeClosed(1, tamanoPagina)
+            .mapToObj(id -> new AlumnoResponseDTO(id, "Nombre" + id, "Apellido", "ACTIVO", 20))
+            .toList();
+    ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+    ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+    int repeticiones = Math.max(1, ALUMNOS_POR_MEDICION / tamanoPagina);
+
+    // When - Los codecs se construyen como en CodecConfiguration
+    int bytesJson =
+        medir(
+            "JSON",
+            new Jackson2JsonEncoder(objectMapper),
+            new Jackson2JsonDecoder(objectMapper),
+            MediaType.APPLICATION_JSON,
+            pagina,
+            repeticiones);
+    int bytesCbor =
+        medir(
+            "CBOR",
+            new CborEncoder(cborMapper),
+            new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR),
+            MediaType.APPLICATION_CBOR,
+            pagina,
+            repeticiones);
+    int bytesSmile =
+        medir(
+            "Smile",
+            new Jackson2SmileEncoder(smileMapper, CodecConfiguration.APPLICATION_SMILE),
+            new Jackson2SmileDecoder(smileMapper, CodecConfiguration.APPLICATION_SMILE),
+            CodecConfiguration.APPLICATION_SMILE,
+            pagina,
+            repeticiones);
+
+    // Then
+    assertTrue(bytesCbor < bytesJson);
+    assertTrue(bytesSmile < bytesJson);
+  }
+
+  private int medir(
+      String formato,
+      AbstractJackson2Encoder encoder,
+      Decoder<Object> decoder,
+      MimeType tipo,
+      List<AlumnoResponseDTO> pagina,
+      int repeticiones) {
+    int bytes = 0;
+    Object decodificada = null;
+    long nanosCodificacion = 0;
+    long nanosDecodificacion = 0;
+    // La primera mitad de las repeticiones calienta el JIT y no se mide.
+    for (int i = -repeticiones; i < repeticiones; i++) {
+      long inicio = System.nanoTime();
+      DataBuffer buffer = encoder.encodeValue(pagina, bufferFactory, PAGINA, tipo, Map.of());
+      long codificado = System.nanoTime();
+      bytes = buffer.readableByteCount();
+      // El decoder libera el buffer al terminar.
+      decodificada = decoder.decode(buffer, SOLICITUDES, tipo, Map.of());
+      long decodificado = System.nanoTime();
+      if (i >= 0) {
+        nanosCodificacion += codificado - inicio;
+        nanosDecodificacion += decodificado - codificado;
+      }
+    }
+    double alumnos = (double) repeticiones * pagina.size();
+    logger.info(
+        "{}, página de {}: {} bytes ({} bytes/alumno), codificación {} ns/alumno,"
+            + " decodificación {} ns/alumno",
+        formato,
+        pagina.size(),
+        bytes,
+        String.format(Locale.ROOT, "%.1f", (double) bytes / pagina.size()),
+        String.format(Locale.ROOT, "%.1f", nanosCodificacion / alumnos),
+        String.format(Locale.ROOT, "%.1f", nanosDecodificacion / alumnos));
+    // Un formato más compacto no sirve si pierde datos en el viaje de ida y vuelta.
+    assertEquals(
+        objectMapper.convertValue(pagina, CAMPOS),
+        objectMapper.convertValue(decodificada, CAMPOS),
+        formato);
+    return bytes;
+  }
+}
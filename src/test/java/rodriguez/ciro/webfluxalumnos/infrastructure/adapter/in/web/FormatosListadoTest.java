@@ -0,0 +1,31 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+
+class FormatosListadoTest {
+
+  @Test
+  void shouldPreferHighestQualityAcceptedType() {
+    // When & Then
+    assertEquals(MediaType.APPLICATION_JSON, FormatosListado.negociar(List.of()));
+    assertEquals(MediaType.APPLICATION_JSON, FormatosListado.negociar(List.of(MediaType.ALL)));
+    assertEquals(
+        MediaType.APPLICATION_CBOR,
+        FormatosListado.negociar(
+            MediaType.parseMediaTypes("application/json;q=0.5, application/cbor")));
+    assertEquals(
+        CodecConfiguration.APPLICATION_SMILE,
+        FormatosListado.negociar(List.of(CodecConfiguration.APPLICATION_SMILE)));
+  }
+
+  @Test
+  void shouldReturnNullWhenNoTypeIsAcceptable() {
+    // When & Then
+    assertNull(FormatosListado.negociar(List.of(MediaType.TEXT_PLAIN)));
+  }
+}
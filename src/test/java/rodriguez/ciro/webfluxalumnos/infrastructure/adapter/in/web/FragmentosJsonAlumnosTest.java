@@ -0,0 +1,132 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoParcialDTO;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto.AlumnoResponseDTO;
+
+class FragmentosJsonAlumnosTest {
+
+  private ObjectMapper objectMapper;
+  private FragmentosJsonAlumnos fragmentos;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    fragmentos = new FragmentosJsonAlumnos(objectMapper, 1024 * 1024);
+  }
+
+  @Test
+  void shouldProduceSameJsonAsJackson() throws Exception {
+    // Given
+    AlumnoResponseDTO alumno = new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25);
+
+    // When
+    ByteBuffer json = fragmentos.obtener(alumno, 1);
+
+    // Then
+    assertEquals(objectMapper.writeValueAsString(alumno), texto(json));
+  }
+
+  @Test
+  void shouldKeepFragmentsOffHeap() {
+    // When
+    ByteBuffer json =
+        fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25), 1);
+
+    // Then
+    assertTrue(json.isDirect());
+    assertTrue(json.isReadOnly());
+  }
+
+  @Test
+  void shouldReuseFragmentWithinTheSameVersion() {
+    // Given
+    ByteBuffer primero =
+        fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25), 1);
+    texto(primero);
+
+    // When
+    ByteBuffer segundo =
+        fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "INACTIVO", 25), 1);
+
+    // Then
+    assertEquals(1, fragmentos.cantidad());
+    assertTrue(texto(segundo).contains("\"ACTIVO\""));
+  }
+
+  @Test
+  void shouldSerializeAgainAndEvictPreviousVersionsWhenVersionAdvances() {
+    // Given
+    fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25), 1);
+    fragmentos.obtener(new AlumnoResponseDTO(2L, "Ana", "González", "ACTIVO", 30), 1);
+
+    // When
+    ByteBuffer actual =
+        fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "INACTIVO", 25), 2);
+
+    // Then
+    assertTrue(texto(actual).contains("\"INACTIVO\""));
+    assertEquals(1, fragmentos.cantidad());
+  }
+
+  @Test
+  void shouldNotCacheAlumnoReadWithSupersededVersion() {
+    // Given
+    fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "INACTIVO", 25), 2);
+
+    // When
+    ByteBuffer anterior =
+        fragmentos.obtener(new AlumnoResponseDTO(2L, "Ana", "González", "ACTIVO", 30), 1);
+
+    // Then
+    assertTrue(texto(anterior).contains("\"Ana\""));
+    assertEquals(1, fragmentos.cantidad());
+  }
+
+  @Test
+  void shouldNotCacheAlumnoWithoutIdOrVersion() {
+    // When
+    fragmentos.obtener(new AlumnoResponseDTO(null, "Juan", "Pérez", "ACTIVO", 25), 1);
+    fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25));
+
+    // Then
+    assertEquals(0, fragmentos.cantidad());
+  }
+
+  @Test
+  void shouldNotCachePartialAlumnos() {
+    // When
+    ByteBuffer parcial = fragmentos.obtener(new AlumnoParcialDTO(1L, "Juan", null, null, null), 1);
+    ByteBuffer completo =
+        fragmentos.obtener(new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25), 1);
+
+    // Then
+    assertEquals("{\"id\":1,\"nombre\":\"Juan\"}", texto(parcial));
+    assertTrue(texto(completo).contains("\"Pérez\""));
+    assertEquals(1, fragmentos.cantidad());
+  }
+
+  @Test
+  void shouldEvictWhenMaximumSizeIsExceeded() {
+    // Given
+    FragmentosJsonAlumnos pequenos = new FragmentosJsonAlumnos(objectMapper, 1_000);
+
+    // When
+    for (long id = 1; id <= 100; id++) {
+      pequenos.obtener(new AlumnoResponseDTO(id, "Nombre", "Apellido", "ACTIVO", 20), 1);
+    }
+
+    // Then
+    assertTrue(pequenos.cantidad() < 100);
+  }
+
+  private static String texto(ByteBuffer json) {
+    return StandardCharsets.UTF_8.decode(json).toString();
+  }
+}
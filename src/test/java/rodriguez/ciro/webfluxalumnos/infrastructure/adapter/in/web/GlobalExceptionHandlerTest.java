@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ServerWebInputException;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoInvalidoException;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoNoEncontradoException;
 import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +62,25 @@ class GlobalExceptionHandlerTest {
     assertNotNull(body.get("timestamp"));
   }
 
+  @Test
+  void shouldHandleAlumnoNoEncontradoException() {
+    // Given
+    String expectedMessage = "No existe un alumno con el ID: 99";
+    AlumnoNoEncontradoException exception = new AlumnoNoEncontradoException(expectedMessage);
+
+    // When
+    ResponseEntity<Map<String, Object>> response =
+        globalExceptionHandler.handleAlumnoNoEncontrado(exception);
+
+    // Then
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+
+    Map<String, Object> body = response.getBody();
+    assertNotNull(body);
+    assertEquals("ALUMNO_NO_ENCONTRADO", body.get("codigo"));
+    assertEquals(expectedMessage, body.get("mensaje"));
+  }
+
   @Test
   void shouldHandleServerWebInputException() {
     // Given
@@ -118,4 +138,22 @@ class GlobalExceptionHandlerTest {
     assertEquals("Ha ocurrido un error interno del servidor", body.get("mensaje"));
     assertNotNull(body.get("timestamp"));
   }
+
+  @Test
+  void shouldResolveExceptionsWithSameMappingAsHandlers() {
+    // When & Then
+    assertEquals("ALUMNO_YA_EXISTE", codigoResuelto(new AlumnoYaExisteException("Duplicado")));
+    assertEquals("ALUMNO_INVALIDO", codigoResuelto(new AlumnoInvalidoException("Inválido")));
+    assertEquals(
+        "ALUMNO_NO_ENCONTRADO", codigoResuelto(new AlumnoNoEncontradoException("No existe")));
+    assertEquals("DATOS_INVALIDOS", codigoResuelto(new ServerWebInputException("Entrada")));
+    assertEquals("PARAMETROS_INVALIDOS", codigoResuelto(new IllegalArgumentException("Página")));
+    assertEquals("ERROR_INTERNO", codigoResuelto(new IllegalStateException("Error")));
+  }
+
+  private Object codigoResuelto(Throwable ex) {
+    Map<String, Object> body = globalExceptionHandler.resolver(ex).getBody();
+    assertNotNull(body);
+    return body.get("codigo");
+  }
 }
@@ -0,0 +1,128 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ImportarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+@WebFluxTest(ImportacionAlumnosController.class)
+@Import(ArchivoCsvAlumnos.class)
+class ImportacionAlumnosControllerTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private ImportarAlumnosUseCase importarAlumnosUseCase;
+
+  @Test
+  void shouldStartImportAndReturnAccepted() {
+    // Given
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 2, Instant.now());
+    when(importarAlumnosUseCase.iniciarImportacion(any(), eq(2L))).thenReturn(importacion);
+
+    String csv = "id,nombre,apellido,estado,edad\n1,Juan,Perez,ACTIVO,20\n2,Ana,Gomez,ACTIVO,22\n";
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/importaciones")
+        .contentType(MediaType.parseMediaType("text/csv"))
+        .bodyValue(csv)
+        .exchange()
+        .expectStatus()
+        .isAccepted()
+        .expectHeader()
+        .location("/api/alumnos/importaciones/imp-1")
+        .expectBody()
+        .jsonPath("$.id")
+        .isEqualTo("imp-1")
+        .jsonPath("$.estado")
+        .isEqualTo("EN_CURSO")
+        .jsonPath("$.totalFilas")
+        .isEqualTo(2);
+
+    verify(importarAlumnosUseCase).iniciarImportacion(any(), eq(2L));
+  }
+
+  @Test
+  void shouldReturnImportStatus() {
+    // Given
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 10, Instant.now());
+    importacion.registrar(ResultadoCargaAlumno.invalido(3L, "El apellido es obligatorio"));
+    when(importarAlumnosUseCase.consultarImportacion("imp-1")).thenReturn(Mono.just(importacion));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/importaciones/imp-1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.estado")
+        .isEqualTo("EN_CURSO")
+        .jsonPath("$.progreso")
+        .isEqualTo(10.0)
+        .jsonPath("$.errores[0].id")
+        .isEqualTo(3)
+        .jsonPath("$.errores[0].mensaje")
+        .isEqualTo("El apellido es obligatorio");
+  }
+
+  @Test
+  void shouldReturnNotFoundForUnknownImport() {
+    // Given
+    when(importarAlumnosUseCase.consultarImportacion("desconocida")).thenReturn(Mono.empty());
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/importaciones/desconocida")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+
+  @Test
+  void shouldCancelImport() {
+    // Given
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 10, Instant.now());
+    importacion.cancelar();
+    when(importarAlumnosUseCase.cancelarImportacion("imp-1")).thenReturn(Mono.just(importacion));
+
+    // When & Then
+    webTestClient
+        .delete()
+        .uri("/api/alumnos/importaciones/imp-1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.estado")
+        .isEqualTo("CANCELADA");
+  }
+
+  @Test
+  void shouldReturnNotFoundWhenCancellingUnknownImport() {
+    // Given
+    when(importarAlumnosUseCase.cancelarImportacion("desconocida")).thenReturn(Mono.empty());
+
+    // When & Then
+    webTestClient
+        .delete()
+        .uri("/api/alumnos/importaciones/desconocida")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+}
@@ -0,0 +1,81 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+class PaginaAlumnosActivosTest {
+
+  private ObtenerAlumnosActivosUseCase obtenerAlumnosActivosUseCase;
+  private Alumno alumno;
+
+  @BeforeEach
+  void setUp() {
+    obtenerAlumnosActivosUseCase = mock(ObtenerAlumnosActivosUseCase.class);
+    alumno = new Alumno(5L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+  }
+
+  @Test
+  void shouldResolveEtagWithoutReadingThePage() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(7L);
+
+    // When
+    PaginaAlumnosActivos pagina =
+        PaginaAlumnosActivos.preparar(
+            obtenerAlumnosActivosUseCase,
+            2,
+            5,
+            null,
+            CampoAlumno.TODOS,
+            MediaType.APPLICATION_JSON);
+
+    // Then
+    assertEquals(
+        EtagPaginacion.porPagina(7L, 2, 5, CampoAlumno.TODOS, MediaType.APPLICATION_JSON),
+        pagina.etag());
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+    verify(obtenerAlumnosActivosUseCase, never()).contarAlumnosActivos();
+  }
+
+  @Test
+  void shouldReadPageAfterCursorTogetherWithTotal() {
+    // Given
+    when(obtenerAlumnosActivosUseCase.obtenerVersionAlumnos()).thenReturn(3L);
+    when(obtenerAlumnosActivosUseCase.obtenerAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno));
+    when(obtenerAlumnosActivosUseCase.contarAlumnosActivos()).thenReturn(Mono.just(9L));
+    PaginaAlumnosActivos pagina =
+        PaginaAlumnosActivos.preparar(
+            obtenerAlumnosActivosUseCase,
+            1,
+            10,
+            CursorPaginacion.codificar(1L),
+            CampoAlumno.TODOS,
+            MediaType.APPLICATION_JSON);
+
+    // When & Then
+    assertEquals(
+        EtagPaginacion.porCursor(3L, 1L, 10, CampoAlumno.TODOS, MediaType.APPLICATION_JSON),
+        pagina.etag());
+    StepVerifier.create(pagina.leer())
+        .assertNext(
+            lectura -> {
+              assertEquals(List.of(alumno), lectura.alumnos());
+              assertEquals(9L, lectura.total());
+            })
+        .verifyComplete();
+    verify(obtenerAlumnosActivosUseCase, never()).obtenerAlumnosActivos(anyInt(), anyInt(), any());
+  }
+}
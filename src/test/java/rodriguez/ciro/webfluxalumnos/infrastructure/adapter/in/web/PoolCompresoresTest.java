@@ -0,0 +1,57 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PoolCompresoresTest {
+
+  @Test
+  void shouldReuseReturnedCompressor() {
+    // Given
+    PoolCompresores pool = new PoolCompresores(2, 6);
+    Compresor compresor = pool.tomar(Compresor.Codificacion.GZIP);
+
+    // When
+    pool.devolver(compresor);
+
+    // Then
+    assertSame(compresor, pool.tomar(Compresor.Codificacion.GZIP));
+    assertNotSame(compresor, pool.tomar(Compresor.Codificacion.GZIP));
+  }
+
+  @Test
+  void shouldKeepEncodingsSeparate() {
+    // Given
+    PoolCompresores pool = new PoolCompresores(2, 6);
+    pool.devolver(pool.tomar(Compresor.Codificacion.GZIP));
+
+    // When
+    Compresor deflate = pool.tomar(Compresor.Codificacion.DEFLATE);
+
+    // Then
+    assertEquals(Compresor.Codificacion.DEFLATE, deflate.getCodificacion());
+    assertEquals(1, pool.libres(Compresor.Codificacion.GZIP));
+  }
+
+  @Test
+  void shouldDiscardCompressorsBeyondCapacity() {
+    // Given
+    PoolCompresores pool = new PoolCompresores(1, 6);
+    Compresor primero = pool.tomar(Compresor.Codificacion.DEFLATE);
+    Compresor segundo = pool.tomar(Compresor.Codificacion.DEFLATE);
+
+    // When
+    pool.devolver(primero);
+    pool.devolver(segundo);
+
+    // Then
+    assertEquals(1, pool.libres(Compresor.Codificacion.DEFLATE));
+  }
+
+  @Test
+  void shouldRejectNonPositiveCapacity() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> new PoolCompresores(0, 6));
+  }
+}
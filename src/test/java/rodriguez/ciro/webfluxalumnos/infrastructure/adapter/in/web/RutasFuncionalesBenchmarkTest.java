@@ -0,0 +1,177 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.in.CrearAlumnoUseCase;
+import rodriguez.ciro.webfluxalumnos.application.port.in.ObtenerAlumnosActivosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.RutasFuncionalesConfiguration;
+
+/**
+ * Compara el costo por petición de {@link AlumnoController} y de las rutas funcionales de {@link
+ * AlumnoHandler} con casos de uso que responden al instante, de modo que solo se mide el despacho,
+ * la lectura del cuerpo y la escritura de la respuesta. Se ejecuta con {@code mvn test
+ * -Pbenchmark}.
+ */
+@Tag("benchmark")
+class RutasFuncionalesBenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(RutasFuncionalesBenchmarkTest.class);
+
+  private static final int PETICIONES = 20_000;
+  private static final String ALUMNO_JSON =
+      """
+      {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "ACTIVO", "edad": 25}
+      """;
+
+  private final CrearAlumnoUseCase crear = alumno -> Mono.empty();
+  private final ObtenerAlumnosActivosUseCase obtener = new AlumnosActivosFijos();
+  private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+  private final CodecConfiguration codecs =
+      new CodecConfiguration(
+          new ObjectMapper(),
+          Validation.buildDefaultValidatorFactory().getValidator(),
+          16 * 1024 * 1024,
+          256);
+
+  @Test
+  void compareAnnotatedAndFunctionalEndpoints() {
+    // Given
+    // Las consultas por ID y el listado filtrado no participan en las rutas medidas.
+    AlumnoController controller =
+        new AlumnoController(
+            crear,
+            obtener,
+            alumnos -> Flux.empty(),
+            null,
+            null,
+            Validation.buildDefaultValidatorFactory().getValidator());
+    WebTestClient anotado =
+        WebTestClient.bindToController(controller)
+            .controllerAdvice(exceptionHandler)
+            .httpMessageCodecs(codecs::configureHttpMessageCodecs)
+            .build();
+    WebTestClient funcional =
+        WebTestClient.bindToRouterFunction(
+                new RutasFuncionalesConfiguration()
+                    .rutasAlumnos(new AlumnoHandler(crear, obtener, exceptionHandler)))
+            .handlerStrategies(
+                HandlerStrategies.builder().codecs(codecs::configureHttpMessageCodecs).build())
+            .build();
+
+    // When
+    for (int ronda = 0; ronda < 2; ronda++) {
+      // La primera ronda calienta el JIT y se descarta.
+      boolean informar = ronda == 1;
+      medir("POST anotado", anotado, this::crearAlumno, informar);
+      medir("POST funcional", funcional, this::crearAlumno, informar);
+      medir("GET anotado", anotado, this::listarActivos, informar);
+      medir("GET funcional", funcional, this::listarActivos, informar);
+    }
+
+    // Then - Las dos variantes solo se comparan si responden lo mismo
+    EntityExchangeResult<byte[]> paginaAnotada = listarActivos(anotado);
+    EntityExchangeResult<byte[]> paginaFuncional = listarActivos(funcional);
+    assertArrayEquals(paginaAnotada.getResponseBody(), paginaFuncional.getResponseBody());
+    for (String cabecera :
+        new String[] {
+          HttpHeaders.CONTENT_TYPE,
+          HttpHeaders.ETAG,
+          AlumnoController.HEADER_TOTAL,
+          CursorPaginacion.HEADER_SIGUIENTE_CURSOR
+        }) {
+      assertEquals(
+          paginaAnotada.getResponseHeaders().getFirst(cabecera),
+          paginaFuncional.getResponseHeaders().getFirst(cabecera),
+          cabecera);
+    }
+  }
+
+  private void crearAlumno(WebTestClient cliente) {
+    cliente
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(ALUMNO_JSON)
+        .exchange()
+        .expectStatus()
+        .isCreated();
+  }
+
+  private EntityExchangeResult<byte[]> listarActivos(WebTestClient cliente) {
+    return cliente
+        .get()
+        .uri("/api/alumnos/activos?page=1&size=10")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .returnResult();
+  }
+
+  private static void medir(
+      String ruta, WebTestClient cliente, Consumer<WebTestClient> peticion, boolean informar) {
+    long inicio = System.nanoTime();
+    for (int i = 0; i < PETICIONES; i++) {
+      peticion.accept(cliente);
+    }
+    double microsegundos = (System.nanoTime() - inicio) / 1_000.0 / PETICIONES;
+    if (informar) {
+      logger.info("{}: {} µs/petición", ruta, String.format(Locale.ROOT, "%.1f", microsegundos));
+    }
+  }
+
+  private static final class AlumnosActivosFijos implements ObtenerAlumnosActivosUseCase {
+
+    private final Flux<Alumno> pagina =
+        Flux.fromIterable(
+            LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> new Alumno(id, "Nombre" + id, "Apellido", Alumno.Estado.ACTIVO, 20))
+                .toList());
+
+    @Override
+    public Flux<Alumno> obtenerAlumnosActivos(int page, int size, Set<CampoAlumno> campos) {
+      return pagina;
+    }
+
+    @Override
+    public Flux<Alumno> obtenerAlumnosActivosDespuesDe(
+        Long ultimoId, int size, Set<CampoAlumno> campos) {
+      return pagina;
+    }
+
+    @Override
+    public Flux<Alumno> exportarAlumnosActivos(Set<CampoAlumno> campos) {
+      return pagina;
+    }
+
+    @Override
+    public Mono<Long> contarAlumnosActivos() {
+      return Mono.just(10L);
+    }
+
+    @Override
+    public long obtenerVersionAlumnos() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.in.BuscarAlumnosUseCase;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+@WebFluxTest(SugerenciasAlumnosController.class)
+class SugerenciasAlumnosControllerTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private BuscarAlumnosUseCase buscarAlumnosUseCase;
+
+  @Test
+  void shouldReturnSuggestionsWithDefaultLimit() {
+    // Given
+    when(buscarAlumnosUseCase.buscarPorPrefijo("jua", 10))
+        .thenReturn(
+            Flux.just(
+                new SugerenciaAlumno(1L, "Juan", "Pérez"),
+                new SugerenciaAlumno(3L, "Juana", "Paredes")));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/sugerencias?q=jua")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(2)
+        .jsonPath("$[0].id")
+        .isEqualTo(1)
+        .jsonPath("$[1].apellido")
+        .isEqualTo("Paredes")
+        .jsonPath("$[0].estado")
+        .doesNotExist();
+  }
+
+  @Test
+  void shouldMapValidationErrorsToBadRequest() {
+    // Given
+    when(buscarAlumnosUseCase.buscarPorPrefijo("jua", 99))
+        .thenReturn(
+            Flux.error(
+                new IllegalArgumentException("La cantidad de sugerencias debe ser entre 1 y 50")));
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/sugerencias?q=jua&limit=99")
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("PARAMETROS_INVALIDOS");
+  }
+}
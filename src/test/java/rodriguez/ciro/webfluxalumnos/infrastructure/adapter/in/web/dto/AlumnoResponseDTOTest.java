@@ -2,8 +2,11 @@ package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
 
 class AlumnoResponseDTOTest {
 
@@ -81,4 +84,56 @@ class AlumnoResponseDTOTest {
     assertThrows(
         NullPointerException.class, () -> AlumnoResponseDTO.fromDomain(alumnoWithNullState));
   }
+
+  @Test
+  void shouldBeEqualWhenAllFieldsMatch() {
+    // Given
+    AlumnoResponseDTO dto = new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25);
+    AlumnoResponseDTO igual = new AlumnoResponseDTO(1L, "Juan", "Pérez", "ACTIVO", 25);
+    AlumnoResponseDTO distinto = new AlumnoResponseDTO(1L, "Juan", "Pérez", "INACTIVO", 25);
+
+    // When & Then
+    assertEquals(dto, igual);
+    assertEquals(dto.hashCode(), igual.hashCode());
+    assertNotEquals(dto, distinto);
+  }
+
+  @Test
+  void shouldCreateFromDomainWithRequestedFieldsOnly() {
+    // Given - Alumno leído solo con ID y nombre
+    Alumno alumno = new Alumno(1L, "Juan", null, null, null);
+
+    // When
+    AlumnoResponseDTO dto = AlumnoResponseDTO.fromDomain(alumno, Set.of(CampoAlumno.NOMBRE));
+
+    // Then
+    assertNull(dto.getId());
+    assertEquals("Juan", dto.getNombre());
+    assertNull(dto.getEstado());
+    assertInstanceOf(AlumnoParcialDTO.class, dto);
+    assertEquals(
+        AlumnoResponseDTO.class,
+        AlumnoResponseDTO.fromDomain(
+                new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25), CampoAlumno.TODOS)
+            .getClass());
+  }
+
+  @Test
+  void shouldWriteNullFieldsOnlyInCompleteResponses() throws Exception {
+    // Given
+    ObjectMapper objectMapper = new ObjectMapper();
+    Alumno alumno = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, null);
+
+    // When
+    String completo = objectMapper.writeValueAsString(AlumnoResponseDTO.fromDomain(alumno));
+    String parcial =
+        objectMapper.writeValueAsString(
+            AlumnoResponseDTO.fromDomain(alumno, Set.of(CampoAlumno.NOMBRE, CampoAlumno.EDAD)));
+
+    // Then
+    assertEquals(
+        "{\"id\":1,\"nombre\":\"Juan\",\"apellido\":\"Pérez\",\"estado\":\"ACTIVO\",\"edad\":null}",
+        completo);
+    assertEquals("{\"nombre\":\"Juan\"}", parcial);
+  }
 }
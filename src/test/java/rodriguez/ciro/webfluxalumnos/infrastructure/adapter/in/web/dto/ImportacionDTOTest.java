@@ -0,0 +1,37 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+class ImportacionDTOTest {
+
+  @Test
+  void shouldCreateFromDomainSuccessfully() {
+    // Given
+    Instant inicio = Instant.now();
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 2, inicio);
+    importacion.registrar(ResultadoCargaAlumno.creado(1L));
+    importacion.registrar(ResultadoCargaAlumno.invalido(2L, "El nombre es obligatorio"));
+    importacion.completar();
+
+    // When
+    ImportacionDTO dto = ImportacionDTO.fromDomain(importacion);
+
+    // Then
+    assertEquals("imp-1", dto.getId());
+    assertEquals("COMPLETADA", dto.getEstado());
+    assertEquals(2, dto.getTotalFilas());
+    assertEquals(2, dto.getFilasProcesadas());
+    assertEquals(1, dto.getCreados());
+    assertEquals(0, dto.getDuplicados());
+    assertEquals(1, dto.getInvalidos());
+    assertEquals(100.0, dto.getProgreso());
+    assertEquals(inicio, dto.getInicio());
+    assertNotNull(dto.getFin());
+    assertNull(dto.getMensaje());
+  }
+}
@@ -0,0 +1,30 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+
+class ResultadoCargaDTOTest {
+
+  @Test
+  void shouldCreateFromDomainSuccessfully() {
+    // When
+    ResultadoCargaDTO dto = ResultadoCargaDTO.fromDomain(ResultadoCargaAlumno.duplicado(1L));
+
+    // Then
+    assertEquals(1L, dto.getId());
+    assertEquals("DUPLICADO", dto.getResultado());
+    assertEquals("Ya existe un alumno con el ID: 1", dto.getMensaje());
+  }
+
+  @Test
+  void shouldLeaveMensajeNullForCreatedAlumno() {
+    // When
+    ResultadoCargaDTO dto = ResultadoCargaDTO.fromDomain(ResultadoCargaAlumno.creado(1L));
+
+    // Then
+    assertEquals("CREADO", dto.getResultado());
+    assertNull(dto.getMensaje());
+  }
+}
@@ -0,0 +1,303 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence.AlumnoRepositoryAdapter;
+
+@ExtendWith(MockitoExtension.class)
+class AlumnoRepositoryCacheAdapterTest {
+
+  @Mock private AlumnoRepositoryAdapter delegate;
+
+  private MeterRegistry meterRegistry;
+  private AlumnoRepositoryCacheAdapter cacheAdapter;
+
+  private Alumno alumno1;
+  private Alumno alumno3;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cacheAdapter =
+        new AlumnoRepositoryCacheAdapter(delegate, meterRegistry, 100, Duration.ofMinutes(1));
+    alumno1 = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+    alumno3 = new Alumno(3L, "Luis", "Martinez", Alumno.Estado.ACTIVO, 19);
+  }
+
+  @Test
+  void shouldServeRepeatedPageFromCache() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+
+    // When & Then
+    StepVerifier.create(cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .expectNext(alumno1, alumno3)
+        .verifyComplete();
+    StepVerifier.create(cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .expectNext(alumno1, alumno3)
+        .verifyComplete();
+
+    verify(delegate, times(1)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+    assertEquals(0.5, meterRegistry.get("alumnos.cache.hit.ratio").gauge().value());
+    assertEquals(0.5, meterRegistry.get("alumnos.cache.miss.ratio").gauge().value());
+  }
+
+  @Test
+  void shouldInvalidatePageWhenActiveAlumnoIsInsertedInsideIt() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(2L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldCachePagesOfDifferentFieldsSeparatelyAndInvalidateThemAlike() {
+    // Given
+    Set<CampoAlumno> soloNombre = Set.of(CampoAlumno.NOMBRE);
+    Alumno parcial1 = new Alumno(1L, "Juan", null, null, null);
+    Alumno parcial3 = new Alumno(3L, "Luis", null, null, null);
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+    when(delegate.findAlumnosActivosPaginados(1, 2, soloNombre))
+        .thenReturn(Flux.just(parcial1, parcial3));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+
+    // When & Then
+    StepVerifier.create(cacheAdapter.findAlumnosActivosPaginados(1, 2, soloNombre))
+        .expectNext(parcial1, parcial3)
+        .verifyComplete();
+    StepVerifier.create(cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .expectNext(alumno1, alumno3)
+        .verifyComplete();
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, soloNombre).blockLast();
+    verify(delegate).findAlumnosActivosPaginados(1, 2, soloNombre);
+
+    cacheAdapter.save(new Alumno(2L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, soloNombre).blockLast();
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 2, soloNombre);
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldReloadPageThatWasStillLoadingWhenAlumnoWasSaved() {
+    // Given
+    Alumno alumno2 = new Alumno(2L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22);
+    Sinks.Many<Alumno> anterior = Sinks.many().unicast().onBackpressureBuffer();
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(anterior.asFlux(), Flux.just(alumno1, alumno2));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).subscribe();
+
+    // When
+    cacheAdapter.save(alumno2).block();
+    anterior.tryEmitNext(alumno1);
+    anterior.tryEmitNext(alumno3);
+    anterior.tryEmitComplete();
+
+    // Then
+    StepVerifier.create(cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .expectNext(alumno1, alumno2)
+        .verifyComplete();
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldKeepFullPageWhenInsertedIdIsAfterIt() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(50L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(1)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldInvalidateIncompletePageWhenActiveAlumnoIsInsertedAfterIt() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(50L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldNotInvalidateWhenInactiveAlumnoIsSaved() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(2L, "Ana", "Gomez", Alumno.Estado.INACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(1)).findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldNotInvalidateWhenSaveFails() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+    when(delegate.save(any())).thenReturn(Mono.error(new RuntimeException("Database error")));
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // When
+    StepVerifier.create(cacheAdapter.save(alumno3)).expectError(RuntimeException.class).verify();
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(1)).findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldKeepCursorPageWhenInsertedIdIsBeforeCursor() {
+    // Given
+    when(delegate.findAlumnosActivosDespuesDe(5L, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno3));
+    when(delegate.save(any())).thenReturn(Mono.empty());
+    cacheAdapter.findAlumnosActivosDespuesDe(5L, 10, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(2L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+    cacheAdapter.findAlumnosActivosDespuesDe(5L, 10, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(1)).findAlumnosActivosDespuesDe(5L, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldInvalidateOnlyForCreatedActiveAlumnosInSaveAll() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1));
+    when(delegate.saveAll(any()))
+        .thenAnswer(
+            invocation -> {
+              Flux<Alumno> alumnos = invocation.getArgument(0);
+              return alumnos.map(alumno -> ResultadoCargaAlumno.duplicado(alumno.getId()));
+            });
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.saveAll(Flux.just(alumno3)).blockLast();
+    cacheAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(1)).findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldNotCacheStreamingExport() {
+    // Given
+    when(delegate.streamAlumnosActivos(CampoAlumno.TODOS)).thenReturn(Flux.just(alumno1));
+
+    // When
+    cacheAdapter.streamAlumnosActivos(CampoAlumno.TODOS).blockLast();
+    cacheAdapter.streamAlumnosActivos(CampoAlumno.TODOS).blockLast();
+
+    // Then
+    verify(delegate, times(2)).streamAlumnosActivos(CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldDelegateExistsById() {
+    // Given
+    when(delegate.existsById(1L)).thenReturn(Mono.just(true));
+
+    // When & Then
+    StepVerifier.create(cacheAdapter.existsById(1L)).expectNext(true).verifyComplete();
+  }
+
+  @Test
+  void shouldBumpVersionOnlyAfterInvalidatingAffectedPages() {
+    // Given
+    when(delegate.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno1, alumno3));
+    when(delegate.save(any()))
+        .thenReturn(
+            Mono.fromRunnable(
+                // Mientras la escritura no terminó, la versión todavía no cambió.
+                () -> assertEquals(0L, cacheAdapter.obtenerVersion())));
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+
+    // When
+    cacheAdapter.save(new Alumno(2L, "Ana", "Gomez", Alumno.Estado.ACTIVO, 22)).block();
+
+    // Then
+    assertEquals(1L, cacheAdapter.obtenerVersion());
+    cacheAdapter.findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS).blockLast();
+    verify(delegate, times(2)).findAlumnosActivosPaginados(1, 2, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldBumpVersionForEveryCreatedAlumnoButNotForFailures() {
+    // Given
+    when(delegate.save(any())).thenReturn(Mono.error(new RuntimeException("Database error")));
+    when(delegate.saveAll(any()))
+        .thenReturn(
+            Flux.just(
+                ResultadoCargaAlumno.creado(4L),
+                ResultadoCargaAlumno.duplicado(1L),
+                ResultadoCargaAlumno.creado(5L)));
+
+    // When
+    StepVerifier.create(cacheAdapter.save(alumno1)).verifyError();
+    cacheAdapter.saveAll(Flux.empty()).blockLast();
+
+    // Then
+    assertEquals(2L, cacheAdapter.obtenerVersion());
+  }
+
+  @Test
+  void shouldDelegateActiveCount() {
+    // Given
+    when(delegate.contarAlumnosActivos()).thenReturn(Mono.just(7L));
+
+    // When & Then
+    StepVerifier.create(cacheAdapter.contarAlumnosActivos()).expectNext(7L).verifyComplete();
+  }
+}
@@ -0,0 +1,70 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.domain.model.ImportacionAlumnos;
+
+class ImportacionRepositoryCacheAdapterTest {
+
+  private final AtomicLong reloj = new AtomicLong();
+
+  private ImportacionRepositoryCacheAdapter importaciones;
+
+  @BeforeEach
+  void setUp() {
+    importaciones = new ImportacionRepositoryCacheAdapter(Duration.ofMinutes(10), reloj::get);
+  }
+
+  @Test
+  void shouldFindSavedImport() {
+    // Given
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 1, Instant.now());
+
+    // When
+    importaciones.save(importacion);
+
+    // Then
+    assertEquals(Optional.of(importacion), importaciones.findById("imp-1"));
+    assertEquals(Optional.empty(), importaciones.findById("desconocida"));
+  }
+
+  @Test
+  void shouldForgetFinishedImportAfterRetentionButKeepRunningOnes() {
+    // Given
+    ImportacionAlumnos terminada = new ImportacionAlumnos("imp-1", 1, Instant.now());
+    ImportacionAlumnos enCurso = new ImportacionAlumnos("imp-2", 1, Instant.now());
+    importaciones.save(terminada);
+    importaciones.save(enCurso);
+    terminada.completar();
+    importaciones.save(terminada);
+
+    // When
+    reloj.addAndGet(Duration.ofMinutes(11).toNanos());
+
+    // Then
+    assertEquals(Optional.empty(), importaciones.findById("imp-1"));
+    assertEquals(Optional.of(enCurso), importaciones.findById("imp-2"));
+  }
+
+  @Test
+  void shouldStartRetentionWhenTheImportIsSavedAgainAfterFinishing() {
+    // Given
+    ImportacionAlumnos importacion = new ImportacionAlumnos("imp-1", 1, Instant.now());
+    importaciones.save(importacion);
+    reloj.addAndGet(Duration.ofMinutes(30).toNanos());
+    importacion.completar();
+
+    // When
+    importaciones.save(importacion);
+    reloj.addAndGet(Duration.ofMinutes(9).toNanos());
+
+    // Then
+    assertEquals(Optional.of(importacion), importaciones.findById("imp-1"));
+  }
+}
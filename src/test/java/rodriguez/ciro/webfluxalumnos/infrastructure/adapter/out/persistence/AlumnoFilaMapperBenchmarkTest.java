@@ -0,0 +1,94 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.Function;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+/**
+ * Compara el mapeo anterior (Spring Data → {@link AlumnoEntity} → {@link Alumno}) con el mapeo
+ * directo de {@link AlumnoFilaMapper}. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AlumnoFilaMapperBenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(AlumnoFilaMapperBenchmarkTest.class);
+
+  private static final int FILAS = 10_000;
+  private static final int CALENTAMIENTO = 20;
+  private static final int MEDICIONES = 20;
+
+  private final MappingR2dbcConverter converter =
+      new MappingR2dbcConverter(new R2dbcMappingContext());
+
+  @Test
+  void directMappingShouldAllocateLessPerRow() {
+    // Given
+    FilaAlumnoFalsa[] filas = new FilaAlumnoFalsa[FILAS];
+    for (int i = 0; i < FILAS; i++) {
+      filas[i] = new FilaAlumnoFalsa((long) i, "Nombre" + i, "Apellido" + i, "ACTIVO", 20);
+    }
+    Function<FilaAlumnoFalsa, Alumno> porEntidad =
+        fila -> converter.read(AlumnoEntity.class, fila, fila).toDomain();
+    Function<FilaAlumnoFalsa, Alumno> directo = AlumnoFilaMapper::aAlumno;
+
+    // When
+    Medicion anterior = medir(filas, porEntidad);
+    Medicion actual = medir(filas, directo);
+
+    // Then
+    logger.info("Mapeo por entidad: {}", anterior);
+    logger.info("Mapeo directo:     {}", actual);
+    assertTrue(actual.bytes() < anterior.bytes());
+    for (FilaAlumnoFalsa fila : filas) {
+      Alumno esperado = porEntidad.apply(fila);
+      Alumno obtenido = directo.apply(fila);
+      assertEquals(esperado.getId(), obtenido.getId());
+      assertEquals(esperado.getNombre(), obtenido.getNombre());
+      assertEquals(esperado.getApellido(), obtenido.getApellido());
+      assertEquals(esperado.getEstado(), obtenido.getEstado());
+      assertEquals(esperado.getEdad(), obtenido.getEdad());
+    }
+  }
+
+  private static Medicion medir(FilaAlumnoFalsa[] filas, Function<FilaAlumnoFalsa, Alumno> mapeo) {
+    Alumno[] destino = new Alumno[filas.length];
+    for (int i = 0; i < CALENTAMIENTO; i++) {
+      mapear(filas, mapeo, destino);
+    }
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long bytesInicio = threads.getCurrentThreadAllocatedBytes();
+    long inicio = System.nanoTime();
+    for (int i = 0; i < MEDICIONES; i++) {
+      mapear(filas, mapeo, destino);
+    }
+    long nanos = System.nanoTime() - inicio;
+    long bytes = threads.getCurrentThreadAllocatedBytes() - bytesInicio;
+    double total = (double) filas.length * MEDICIONES;
+    return new Medicion(bytes / total, nanos / total);
+  }
+
+  private static void mapear(
+      FilaAlumnoFalsa[] filas, Function<FilaAlumnoFalsa, Alumno> mapeo, Alumno[] destino) {
+    for (int i = 0; i < filas.length; i++) {
+      destino[i] = mapeo.apply(filas[i]);
+    }
+  }
+
+  private record Medicion(double bytes, double nanos) {
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT, "%.1f bytes/fila, %.1f ns/fila", bytes, nanos);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+
+class AlumnoFilaMapperTest {
+
+  @Test
+  void shouldMapRowToAlumno() {
+    // Given
+    FilaAlumnoFalsa fila = new FilaAlumnoFalsa(1L, "Juan", "Pérez", "ACTIVO", 25);
+
+    // When
+    Alumno alumno = AlumnoFilaMapper.aAlumno(fila);
+
+    // Then
+    assertEquals(1L, alumno.getId());
+    assertEquals("Juan", alumno.getNombre());
+    assertEquals("Pérez", alumno.getApellido());
+    assertEquals(Alumno.Estado.ACTIVO, alumno.getEstado());
+    assertEquals(25, alumno.getEdad());
+  }
+
+  @Test
+  void shouldMapInactiveEstado() {
+    // Given
+    FilaAlumnoFalsa fila = new FilaAlumnoFalsa(2L, "Ana", "Gomez", "INACTIVO", 30);
+
+    // When & Then
+    assertEquals(Alumno.Estado.INACTIVO, AlumnoFilaMapper.aAlumno(fila).getEstado());
+  }
+
+  @Test
+  void shouldMapNullColumns() {
+    // Given
+    FilaAlumnoFalsa fila = new FilaAlumnoFalsa(3L, null, null, null, null);
+
+    // When
+    Alumno alumno = AlumnoFilaMapper.aAlumno(fila);
+
+    // Then
+    assertEquals(3L, alumno.getId());
+    assertNull(alumno.getEstado());
+    assertNull(alumno.getEdad());
+  }
+
+  @Test
+  void shouldRejectUnknownEstado() {
+    // Given
+    FilaAlumnoFalsa fila = new FilaAlumnoFalsa(4L, "Ana", "Gomez", "SUSPENDIDO", 30);
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> AlumnoFilaMapper.aAlumno(fila));
+  }
+
+  @Test
+  void shouldListColumnsInMappedOrder() {
+    // When & Then
+    assertEquals("id, nombre, apellido, estado, edad", AlumnoFilaMapper.COLUMNAS);
+  }
+
+  @Test
+  void shouldSelectIdAndRequestedColumnsInMappedOrder() {
+    // When & Then
+    assertEquals(
+        List.of("id", "nombre", "edad"),
+        AlumnoFilaMapper.columnas(Set.of(CampoAlumno.EDAD, CampoAlumno.NOMBRE)));
+    assertEquals(List.of("id", "estado"), AlumnoFilaMapper.columnas(Set.of(CampoAlumno.ESTADO)));
+    assertEquals(
+        List.of(AlumnoFilaMapper.COLUMNAS.split(", ")),
+        AlumnoFilaMapper.columnas(CampoAlumno.TODOS));
+  }
+
+  @Test
+  void shouldMapProjectedRowByPosition() {
+    // Given - Fila de "SELECT id, nombre, estado": el estado llega en la tercera columna
+    FilaAlumnoFalsa fila = new FilaAlumnoFalsa(5L, "Juan", "INACTIVO", null, null);
+
+    // When
+    Alumno alumno =
+        AlumnoFilaMapper.aAlumnoParcial(fila, Set.of(CampoAlumno.NOMBRE, CampoAlumno.ESTADO));
+
+    // Then
+    assertEquals(5L, alumno.getId());
+    assertEquals("Juan", alumno.getNombre());
+    assertNull(alumno.getApellido());
+    assertEquals(Alumno.Estado.INACTIVO, alumno.getEstado());
+    assertNull(alumno.getEdad());
+  }
+}
@@ -1,31 +1,74 @@
 package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.domain.exception.AlumnoYaExisteException;
 import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+import rodriguez.ciro.webfluxalumnos.domain.model.ResultadoCargaAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
 
 @ExtendWith(MockitoExtension.class)
 class AlumnoRepositoryAdapterTest {
 
   @Mock private AlumnoR2dbcRepository repository;
 
-  @InjectMocks private AlumnoRepositoryAdapter alumnoRepositoryAdapter;
+  @Mock private AlumnoInsercionPorLotes insercionPorLotes;
+
+  @Mock private AlumnoLecturaStreaming lecturaStreaming;
+
+  @Mock private AlumnoLecturaPaginada lecturaPaginada;
+
+  @Mock private AlumnoLecturaPorIds lecturaPorIds;
+
+  @Mock private AlumnoLecturaFiltrada lecturaFiltrada;
+
+  @Mock private IndiceNombresAlumnos indiceNombres;
+
+  @Mock private FiltroIdsAlumnos filtroIds;
+
+  @Mock private ContadorEstadisticasAlumnos contadorEstadisticas;
+
+  @Mock private ObservadorAltasAlumno observadorAltas;
+
+  private AlumnoRepositoryAdapter alumnoRepositoryAdapter;
 
   private Alumno alumno;
 
   @BeforeEach
   void setUp() {
+    alumnoRepositoryAdapter =
+        new AlumnoRepositoryAdapter(
+            repository,
+            insercionPorLotes,
+            lecturaStreaming,
+            lecturaPaginada,
+            lecturaPorIds,
+            lecturaFiltrada,
+            indiceNombres,
+            filtroIds,
+            contadorEstadisticas,
+            List.of(observadorAltas));
     alumno = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 25);
+    lenient()
+        .when(contadorEstadisticas.registrarAltas(any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
   }
 
   @Test
@@ -38,11 +81,24 @@ class AlumnoRepositoryAdapterTest {
     StepVerifier.create(alumnoRepositoryAdapter.save(alumno)).verifyComplete();
 
     verify(repository).insertAlumno(1L, "Juan", "Pérez", "ACTIVO", 25);
+    verify(observadorAltas).alumnoCreado(alumno);
+  }
+
+  @Test
+  void shouldAnswerFalseWithoutQueryWhenFilterRulesIdOut() {
+    // Given
+    when(filtroIds.podriaExistir(99L)).thenReturn(false);
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.existsById(99L)).expectNext(false).verifyComplete();
+
+    verify(repository, never()).existsById(anyLong());
   }
 
   @Test
   void shouldReturnTrueWhenAlumnoExists() {
     // Given
+    when(filtroIds.podriaExistir(1L)).thenReturn(true);
     when(repository.existsById(1L)).thenReturn(Mono.just(true));
 
     // When & Then
@@ -54,6 +110,7 @@ class AlumnoRepositoryAdapterTest {
   @Test
   void shouldReturnFalseWhenAlumnoDoesNotExist() {
     // Given
+    when(filtroIds.podriaExistir(1L)).thenReturn(true);
     when(repository.existsById(1L)).thenReturn(Mono.just(false));
 
     // When & Then
@@ -67,13 +124,14 @@ class AlumnoRepositoryAdapterTest {
     // Given
     int page = 1;
     int size = 10;
-    AlumnoEntity entity1 = new AlumnoEntity(1L, "Juan", "Pérez", "ACTIVO", 25);
-    AlumnoEntity entity2 = new AlumnoEntity(2L, "Ana", "González", "ACTIVO", 30);
+    Alumno otroAlumno = new Alumno(2L, "Ana", "González", Alumno.Estado.ACTIVO, 30);
 
-    when(repository.findAlumnosActivosPaginados(size, 0)).thenReturn(Flux.just(entity1, entity2));
+    when(lecturaPaginada.leerPagina(size, 0, CampoAlumno.TODOS))
+        .thenReturn(Flux.just(alumno, otroAlumno));
 
     // When & Then
-    StepVerifier.create(alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size))
+    StepVerifier.create(
+            alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
         .expectNextMatches(
             alumno1 ->
                 alumno1.getId().equals(1L)
@@ -86,7 +144,7 @@ class AlumnoRepositoryAdapterTest {
                     && alumno2.getEstado().equals(Alumno.Estado.ACTIVO))
         .verifyComplete();
 
-    verify(repository).findAlumnosActivosPaginados(size, 0);
+    verify(lecturaPaginada).leerPagina(size, 0, CampoAlumno.TODOS);
   }
 
   @Test
@@ -96,13 +154,14 @@ class AlumnoRepositoryAdapterTest {
     int size = 5;
     int expectedOffset = 2 * 5; // (page - 1) * size
 
-    when(repository.findAlumnosActivosPaginados(size, expectedOffset)).thenReturn(Flux.empty());
+    when(lecturaPaginada.leerPagina(size, expectedOffset, CampoAlumno.TODOS))
+        .thenReturn(Flux.empty());
 
     // When
-    alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size).blockLast();
+    alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS).blockLast();
 
     // Then
-    verify(repository).findAlumnosActivosPaginados(size, expectedOffset);
+    verify(lecturaPaginada).leerPagina(size, expectedOffset, CampoAlumno.TODOS);
   }
 
   @Test
@@ -110,13 +169,14 @@ class AlumnoRepositoryAdapterTest {
     // Given
     int page = 1;
     int size = 10;
-    when(repository.findAlumnosActivosPaginados(size, 0)).thenReturn(Flux.empty());
+    when(lecturaPaginada.leerPagina(size, 0, CampoAlumno.TODOS)).thenReturn(Flux.empty());
 
     // When & Then
-    StepVerifier.create(alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size))
+    StepVerifier.create(
+            alumnoRepositoryAdapter.findAlumnosActivosPaginados(page, size, CampoAlumno.TODOS))
         .verifyComplete();
 
-    verify(repository).findAlumnosActivosPaginados(size, 0);
+    verify(lecturaPaginada).leerPagina(size, 0, CampoAlumno.TODOS);
   }
 
   @Test
@@ -133,9 +193,27 @@ class AlumnoRepositoryAdapterTest {
     verify(repository).insertAlumno(1L, "Juan", "Pérez", "ACTIVO", 25);
   }
 
+  @Test
+  void shouldMapDuplicateKeyToAlumnoYaExisteException() {
+    // Given
+    when(repository.insertAlumno(anyLong(), anyString(), anyString(), anyString(), anyInt()))
+        .thenReturn(Mono.error(new DuplicateKeyException("PRIMARY KEY violation")));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.save(alumno))
+        .expectErrorMatches(
+            ex ->
+                ex instanceof AlumnoYaExisteException
+                    && ex.getMessage().equals("Ya existe un alumno con el ID: 1"))
+        .verify();
+
+    verify(repository, never()).existsById(anyLong());
+  }
+
   @Test
   void shouldHandleExistsByIdError() {
     // Given
+    when(filtroIds.podriaExistir(1L)).thenReturn(true);
     when(repository.existsById(1L)).thenReturn(Mono.error(new RuntimeException("Database error")));
 
     // When & Then
@@ -149,12 +227,154 @@ class AlumnoRepositoryAdapterTest {
   @Test
   void shouldHandleFindAlumnosActivosError() {
     // Given
-    when(repository.findAlumnosActivosPaginados(anyInt(), anyInt()))
+    when(lecturaPaginada.leerPagina(anyInt(), anyLong(), any()))
         .thenReturn(Flux.error(new RuntimeException("Database error")));
 
     // When & Then
-    StepVerifier.create(alumnoRepositoryAdapter.findAlumnosActivosPaginados(1, 10))
+    StepVerifier.create(
+            alumnoRepositoryAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
         .expectError(RuntimeException.class)
         .verify();
   }
+
+  @Test
+  void shouldFindAlumnosActivosDespuesDeSuccessfully() {
+    // Given
+    Alumno siguiente = new Alumno(3L, "Luis", "Martinez", Alumno.Estado.ACTIVO, 19);
+    when(lecturaPaginada.leerDespuesDe(1L, 10, CampoAlumno.TODOS)).thenReturn(Flux.just(siguiente));
+
+    // When & Then
+    StepVerifier.create(
+            alumnoRepositoryAdapter.findAlumnosActivosDespuesDe(1L, 10, CampoAlumno.TODOS))
+        .expectNextMatches(alumno1 -> alumno1.getId().equals(3L) && alumno1.estaActivo())
+        .verifyComplete();
+
+    verify(lecturaPaginada).leerDespuesDe(1L, 10, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldNotReuseAPageReadStillInFlightForALaterRead() {
+    // Given - Una lectura que empezó antes de una escritura no debe responder a las posteriores
+    Sinks.Many<Alumno> anterior = Sinks.many().unicast().onBackpressureBuffer();
+    when(lecturaPaginada.leerPagina(10, 0, CampoAlumno.TODOS))
+        .thenReturn(anterior.asFlux(), Flux.just(alumno));
+    alumnoRepositoryAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS).subscribe();
+
+    // When & Then
+    StepVerifier.create(
+            alumnoRepositoryAdapter.findAlumnosActivosPaginados(1, 10, CampoAlumno.TODOS))
+        .expectNext(alumno)
+        .verifyComplete();
+
+    verify(lecturaPaginada, times(2)).leerPagina(10, 0, CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldDelegateSaveAllToBatchInsert() {
+    // Given
+    Flux<Alumno> alumnos = Flux.just(alumno);
+    when(insercionPorLotes.insertar(alumnos))
+        .thenReturn(Flux.just(ResultadoCargaAlumno.creado(1L)));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.saveAll(alumnos))
+        .expectNext(ResultadoCargaAlumno.creado(1L))
+        .verifyComplete();
+
+    verify(insercionPorLotes).insertar(alumnos);
+  }
+
+  @Test
+  void shouldStreamAlumnosActivos() {
+    // Given
+    when(lecturaStreaming.leerActivos(CampoAlumno.TODOS)).thenReturn(Flux.just(alumno));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.streamAlumnosActivos(CampoAlumno.TODOS))
+        .expectNext(alumno)
+        .verifyComplete();
+
+    verify(lecturaStreaming).leerActivos(CampoAlumno.TODOS);
+  }
+
+  @Test
+  void shouldNotNotifyObserversWhenSaveFails() {
+    // Given
+    when(repository.insertAlumno(anyLong(), anyString(), anyString(), anyString(), anyInt()))
+        .thenReturn(Mono.error(new DuplicateKeyException("PRIMARY KEY violation")));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.save(alumno))
+        .expectError(AlumnoYaExisteException.class)
+        .verify();
+
+    verify(observadorAltas, never()).alumnoCreado(any());
+  }
+
+  @Test
+  void shouldCountAlumnosActivosFromMaintainedCounter() {
+    // Given
+    when(contadorEstadisticas.contar(Alumno.Estado.ACTIVO)).thenReturn(Mono.just(7L));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.contarAlumnosActivos())
+        .expectNext(7L)
+        .verifyComplete();
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldDelegateFindAllByIdToBatchedReader() {
+    // Given
+    when(lecturaPorIds.leer(List.of(1L, 2L))).thenReturn(Flux.just(alumno));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.findAllById(List.of(1L, 2L)))
+        .expectNext(alumno)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldSearchNamesInMemoryWithoutQuerying() {
+    // Given
+    SugerenciaAlumno sugerencia = new SugerenciaAlumno(1L, "Juan", "Pérez");
+    when(indiceNombres.buscar("jua", 5)).thenReturn(List.of(sugerencia));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.buscarPorPrefijo("jua", 5))
+        .expectNext(sugerencia)
+        .verifyComplete();
+
+    verifyNoInteractions(repository, lecturaPaginada, lecturaPorIds);
+  }
+
+  @Test
+  void shouldServeStatisticsFromInMemoryCounters() {
+    // Given
+    EstadisticasAlumnos estadisticas =
+        new EstadisticasAlumnos(Map.of(Alumno.Estado.ACTIVO, 7L), List.of());
+    when(contadorEstadisticas.obtener()).thenReturn(Mono.just(estadisticas));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.obtenerEstadisticas())
+        .expectNext(estadisticas)
+        .verifyComplete();
+
+    verifyNoInteractions(repository, lecturaPaginada);
+  }
+
+  @Test
+  void shouldDelegateFilteredListingToCriteriaReader() {
+    // Given
+    FiltroAlumnos filtro = new FiltroAlumnos(Alumno.Estado.ACTIVO, 18, 30);
+    when(lecturaFiltrada.leer(filtro, CampoAlumno.TODOS, 5L, 10)).thenReturn(Flux.just(alumno));
+
+    // When & Then
+    StepVerifier.create(alumnoRepositoryAdapter.findAlumnos(filtro, CampoAlumno.TODOS, 5L, 10))
+        .expectNext(alumno)
+        .verifyComplete();
+
+    verifyNoInteractions(repository, lecturaPaginada);
+  }
 }
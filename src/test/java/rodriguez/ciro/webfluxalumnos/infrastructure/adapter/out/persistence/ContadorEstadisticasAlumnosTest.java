@@ -0,0 +1,240 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+class ContadorEstadisticasAlumnosTest {
+
+  private static final int[] LIMITES = {18, 25};
+
+  private DatabaseClient databaseClient;
+
+  @BeforeEach
+  void setUp() {
+    databaseClient = mock(DatabaseClient.class, RETURNS_DEEP_STUBS);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSeedFromTableOnceAndAddEveryCreatedAlumno() {
+    // Given
+    AtomicInteger consultas = new AtomicInteger();
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(
+            Flux.<Object>just(
+                    fila("ACTIVO", 20, 3L), fila("INACTIVO", 17, 2L), fila("SUSPENDIDO", 30, 5L))
+                .doOnSubscribe(suscripcion -> consultas.incrementAndGet()));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+
+    // When
+    contador.alIniciar();
+    contador.alumnoCreado(new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 30));
+    contador.alumnoCreado(new Alumno(2L, "Ana", "Gómez", Alumno.Estado.INACTIVO, 18));
+    EstadisticasAlumnos estadisticas = contador.obtener().block();
+    contador.obtener().block();
+
+    // Then - El estado desconocido se ignora y la tabla se agrupa una sola vez
+    assertNotNull(estadisticas);
+    assertEquals(7, estadisticas.getTotal());
+    assertEquals(4, estadisticas.contar(Alumno.Estado.ACTIVO));
+    assertEquals(3, estadisticas.contar(Alumno.Estado.INACTIVO));
+    List<EstadisticasAlumnos.RangoEdad> rangos = estadisticas.getPorRangoEdad();
+    assertEquals(3, rangos.size());
+    assertRango(rangos.get(0), 0, 17, 0, 2);
+    assertRango(rangos.get(1), 18, 24, 3, 1);
+    assertRango(rangos.get(2), 25, ContadorEstadisticasAlumnos.EDAD_MAXIMA, 1, 0);
+    assertEquals(1, consultas.get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldRetrySeedAfterFailure() {
+    // Given
+    AtomicInteger consultas = new AtomicInteger();
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(
+            Flux.defer(
+                () ->
+                    consultas.incrementAndGet() == 1
+                        ? Flux.<Object>error(new IllegalStateException("Sin conexión"))
+                        : Flux.<Object>just(fila("ACTIVO", 20, 3L))));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+
+    // When & Then
+    assertThrows(IllegalStateException.class, () -> contador.obtener().block());
+    assertEquals(3, contador.obtener().block().contar(Alumno.Estado.ACTIVO));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldNotAddAltasAlreadyIncludedInTheInitialCount() {
+    // Given - El primer alta ocurre antes de agrupar, así que la tabla ya la incluye
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(Flux.<Object>just(fila("ACTIVO", 30, 8L)));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+    contador.alumnoCreado(new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 30));
+
+    // When
+    contador.alIniciar();
+    contador.alumnoCreado(new Alumno(2L, "Ana", "Gómez", Alumno.Estado.ACTIVO, 20));
+    contador.alumnoCreado(new Alumno(3L, "Luis", "Díaz", Alumno.Estado.INACTIVO, 20));
+
+    // Then
+    assertEquals(9L, contador.contar(Alumno.Estado.ACTIVO).block());
+    assertEquals(10, contador.obtener().block().getTotal());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldNotAddAltasPriorToARetriedSeed() {
+    // Given
+    AtomicInteger consultas = new AtomicInteger();
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(
+            Flux.defer(
+                () ->
+                    consultas.incrementAndGet() == 1
+                        ? Flux.<Object>error(new IllegalStateException("Sin conexión"))
+                        : Flux.<Object>just(fila("ACTIVO", 20, 5L))));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+
+    // When & Then - La segunda carga ya ve el alta hecha tras el fallo
+    assertThrows(IllegalStateException.class, () -> contador.contar(Alumno.Estado.ACTIVO).block());
+    contador.alumnoCreado(new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20));
+    assertEquals(5L, contador.contar(Alumno.Estado.ACTIVO).block());
+    contador.alumnoCreado(new Alumno(2L, "Ana", "Gómez", Alumno.Estado.ACTIVO, 20));
+    assertEquals(6L, contador.contar(Alumno.Estado.ACTIVO).block());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldWaitForAnInsertInProgressBeforeSeeding() {
+    // Given - La fila ya está confirmada en la tabla, pero su alta todavía no se avisó
+    AtomicInteger consultas = new AtomicInteger();
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(
+            Flux.<Object>just(fila("ACTIVO", 20, 4L))
+                .doOnSubscribe(suscripcion -> consultas.incrementAndGet()));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+    Alumno alumno = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20);
+    Sinks.Empty<Void> insercion = Sinks.empty();
+    contador
+        .registrarAltas(insercion.asMono().doOnSuccess(ignored -> contador.alumnoCreado(alumno)))
+        .subscribe();
+    AtomicReference<Long> activos = new AtomicReference<>();
+
+    // When
+    contador.contar(Alumno.Estado.ACTIVO).subscribe(activos::set);
+    assertEquals(0, consultas.get());
+    insercion.tryEmitEmpty();
+
+    // Then - El alta está en el GROUP BY y en la foto, así que se cuenta una sola vez
+    assertEquals(1, consultas.get());
+    assertEquals(4L, activos.get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldHoldInsertsUntilTheSeedCompletes() {
+    // Given
+    Sinks.Many<Object> filas = Sinks.many().unicast().onBackpressureBuffer();
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all()).thenReturn(filas.asFlux());
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+    Alumno alumno = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20);
+    AtomicBoolean insertado = new AtomicBoolean();
+    contador.alIniciar();
+
+    // When - El alta llega mientras la consulta está en curso
+    contador
+        .registrarAltas(
+            Mono.fromRunnable(
+                () -> {
+                  insertado.set(true);
+                  contador.alumnoCreado(alumno);
+                }))
+        .subscribe();
+    assertFalse(insertado.get());
+    filas.tryEmitNext(fila("ACTIVO", 20, 4L));
+    filas.tryEmitComplete();
+
+    // Then - La consulta no la vio, así que se suma a lo agrupado
+    assertTrue(insertado.get());
+    assertEquals(5L, contador.contar(Alumno.Estado.ACTIVO).block());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldCountEveryAltaOnceUnderConcurrentInserts() throws Exception {
+    // Given - Cada consulta ve las altas ya confirmadas, como lo haría la tabla
+    AtomicLong confirmadas = new AtomicLong(100);
+    when(databaseClient.sql(anyString()).map(any(Function.class)).all())
+        .thenReturn(
+            Flux.defer(() -> Flux.<Object>just(fila("ACTIVO", 20, confirmadas.get())))
+                .subscribeOn(Schedulers.parallel()));
+    ContadorEstadisticasAlumnos contador = new ContadorEstadisticasAlumnos(databaseClient, LIMITES);
+    Alumno alumno = new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20);
+    int altas = 2_000;
+
+    // When - La carga inicial corre en paralelo con las inserciones
+    Flux<Void> inserciones =
+        Flux.range(0, altas)
+            .flatMap(
+                i ->
+                    contador
+                        .registrarAltas(
+                            Mono.<Void>fromRunnable(confirmadas::incrementAndGet)
+                                .then(Mono.<Void>fromRunnable(() -> contador.alumnoCreado(alumno))))
+                        .subscribeOn(Schedulers.parallel()));
+    Mono<Long> carga = Mono.delay(Duration.ofMillis(1)).then(contador.contar(Alumno.Estado.ACTIVO));
+    Mono.when(inserciones, carga).block(Duration.ofSeconds(10));
+
+    // Then
+    assertEquals(100L + altas, contador.contar(Alumno.Estado.ACTIVO).block());
+  }
+
+  @Test
+  void shouldRejectUnorderedOrOutOfRangeLimits() {
+    // When & Then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ContadorEstadisticasAlumnos(databaseClient, new int[] {25, 18}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ContadorEstadisticasAlumnos(databaseClient, new int[] {0}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ContadorEstadisticasAlumnos(databaseClient, new int[] {151}));
+  }
+
+  private static ContadorEstadisticasAlumnos.ConteoInicial fila(
+      String estado, int edad, long total) {
+    return new ContadorEstadisticasAlumnos.ConteoInicial(estado, edad, total);
+  }
+
+  private static void assertRango(
+      EstadisticasAlumnos.RangoEdad rango, int desde, int hasta, long activos, long inactivos) {
+    assertEquals(desde, rango.getDesde());
+    assertEquals(hasta, rango.getHasta());
+    assertEquals(activos, rango.contar(Alumno.Estado.ACTIVO));
+    assertEquals(inactivos, rango.contar(Alumno.Estado.INACTIVO));
+    assertEquals(activos + inactivos, rango.getTotal());
+  }
+}
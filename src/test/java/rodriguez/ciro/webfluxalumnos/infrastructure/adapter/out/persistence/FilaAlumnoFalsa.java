@@ -0,0 +1,86 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+import java.util.List;
+import java.util.Locale;
+
+/** Fila de {@code alumnos} en memoria para probar los mapeos sin base de datos. */
+final class FilaAlumnoFalsa implements Row, RowMetadata {
+
+  private static final List<String> COLUMNAS =
+      List.of("id", "nombre", "apellido", "estado", "edad");
+  private static final List<Type> TIPOS =
+      List.of(
+          R2dbcType.BIGINT,
+          R2dbcType.VARCHAR,
+          R2dbcType.VARCHAR,
+          R2dbcType.VARCHAR,
+          R2dbcType.INTEGER);
+
+  private final Object[] valores;
+
+  FilaAlumnoFalsa(Long id, String nombre, String apellido, String estado, Integer edad) {
+    this.valores = new Object[] {id, nombre, apellido, estado, edad};
+  }
+
+  @Override
+  public <T> T get(int index, Class<T> type) {
+    return type.cast(valores[index]);
+  }
+
+  @Override
+  public <T> T get(String name, Class<T> type) {
+    return get(indice(name), type);
+  }
+
+  @Override
+  public RowMetadata getMetadata() {
+    return this;
+  }
+
+  @Override
+  public ColumnMetadata getColumnMetadata(int index) {
+    return columna(index);
+  }
+
+  @Override
+  public ColumnMetadata getColumnMetadata(String name) {
+    return columna(indice(name));
+  }
+
+  @Override
+  public List<? extends ColumnMetadata> getColumnMetadatas() {
+    return List.of(columna(0), columna(1), columna(2), columna(3), columna(4));
+  }
+
+  @Override
+  public boolean contains(String columnName) {
+    return COLUMNAS.contains(columnName.toLowerCase(Locale.ROOT));
+  }
+
+  private static int indice(String name) {
+    int indice = COLUMNAS.indexOf(name.toLowerCase(Locale.ROOT));
+    if (indice < 0) {
+      throw new IllegalArgumentException("Columna desconocida: " + name);
+    }
+    return indice;
+  }
+
+  private static ColumnMetadata columna(int index) {
+    return new ColumnMetadata() {
+      @Override
+      public Type getType() {
+        return TIPOS.get(index);
+      }
+
+      @Override
+      public String getName() {
+        return COLUMNAS.get(index);
+      }
+    };
+  }
+}
@@ -0,0 +1,73 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class FiltroBloomTest {
+
+  @Test
+  void shouldNeverReturnFalseNegatives() {
+    // Given
+    FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+    // When
+    for (long id = 1; id <= 10_000; id++) {
+      filtro.agregar(id);
+    }
+
+    // Then
+    for (long id = 1; id <= 10_000; id++) {
+      assertTrue(filtro.podriaContener(id), "Falso negativo para el ID " + id);
+    }
+  }
+
+  @Test
+  void shouldKeepFalsePositiveRateNearConfiguredValue() {
+    // Given
+    FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+    for (long id = 1; id <= 10_000; id++) {
+      filtro.agregar(id);
+    }
+
+    // When
+    int falsosPositivos = 0;
+    for (long id = 1_000_000; id < 1_100_000; id++) {
+      if (filtro.podriaContener(id)) {
+        falsosPositivos++;
+      }
+    }
+
+    // Then
+    assertTrue(falsosPositivos < 2_000, "Falsos positivos: " + falsosPositivos);
+    assertTrue(filtro.getProbabilidadFalsoPositivo() < 0.02);
+  }
+
+  @Test
+  void shouldStartEmpty() {
+    // Given
+    FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+
+    // When & Then
+    assertFalse(filtro.podriaContener(1L));
+    assertEquals(0.0, filtro.getProbabilidadFalsoPositivo());
+  }
+
+  @Test
+  void shouldSizeBitArrayFromCapacityAndProbability() {
+    // Given
+    FiltroBloom filtro = new FiltroBloom(1_000_000, 0.01);
+
+    // When & Then
+    // 1M claves al 1% requieren ~9,6 millones de bits (~1,2 MB) y 7 funciones hash.
+    assertEquals(1_198_136, filtro.getTamanoBytes());
+    assertEquals(7, filtro.getNumeroHashes());
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+    assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(100, 0));
+    assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(100, 1));
+  }
+}
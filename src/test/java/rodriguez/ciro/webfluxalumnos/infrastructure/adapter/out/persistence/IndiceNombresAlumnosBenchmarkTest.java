@@ -0,0 +1,99 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+/**
+ * Mide el tiempo de búsqueda de {@link IndiceNombresAlumnos} con 200.000 alumnos y prefijos de uno
+ * a cuatro caracteres, que son los más frecuentes al escribir. Se ejecuta con {@code mvn test
+ * -Pbenchmark}.
+ */
+@Tag("benchmark")
+class IndiceNombresAlumnosBenchmarkTest {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(IndiceNombresAlumnosBenchmarkTest.class);
+
+  private static final int ALUMNOS = 200_000;
+  private static final int BUSQUEDAS = 500_000;
+  private static final int PREFIJOS_COMPROBADOS = 64;
+  private static final List<String> NOMBRES =
+      List.of("Juan", "Ana", "Luis", "María", "José", "Lucía", "Pedro", "Sofía", "Tomás", "Inés");
+  private static final List<String> APELLIDOS =
+      List.of("Pérez", "Gómez", "Martínez", "Núñez", "Rodríguez", "López", "Díaz", "Álvarez");
+
+  @Test
+  void measurePrefixSearch() {
+    // Given
+    Random random = new Random(42);
+    IndiceNombresAlumnos indice =
+        new IndiceNombresAlumnos(mock(DatabaseClient.class), new SimpleMeterRegistry());
+    SugerenciaAlumno[] alumnos = new SugerenciaAlumno[ALUMNOS];
+    for (int i = 0; i < ALUMNOS; i++) {
+      String nombre = NOMBRES.get(random.nextInt(NOMBRES.size())) + ((i + 1) % 1000);
+      String apellido = APELLIDOS.get(random.nextInt(APELLIDOS.size()));
+      alumnos[i] = new SugerenciaAlumno(i + 1L, nombre, apellido);
+    }
+    long inicioCarga = System.nanoTime();
+    for (SugerenciaAlumno alumno : alumnos) {
+      indice.agregar(alumno);
+    }
+    double segundosCarga = (System.nanoTime() - inicioCarga) / 1e9;
+    String[] prefijos = new String[1024];
+    for (int i = 0; i < prefijos.length; i++) {
+      String nombre = NOMBRES.get(random.nextInt(NOMBRES.size())) + random.nextInt(1000);
+      prefijos[i] = nombre.substring(0, 1 + random.nextInt(Math.min(4, nombre.length())));
+    }
+
+    // When
+    long encontrados = 0;
+    long inicio = 0;
+    // La primera mitad de las búsquedas calienta el JIT y no se mide.
+    for (int i = -BUSQUEDAS; i < BUSQUEDAS; i++) {
+      if (i == 0) {
+        inicio = System.nanoTime();
+      }
+      encontrados += indice.buscar(prefijos[i & (prefijos.length - 1)], 10).size();
+    }
+    double nanos = (double) (System.nanoTime() - inicio) / BUSQUEDAS;
+
+    // Then
+    logger.info(
+        "Índice de {} alumnos cargado en {} s; búsqueda de 10 sugerencias: {} µs ({} resultados)",
+        ALUMNOS,
+        String.format(Locale.ROOT, "%.2f", segundosCarga),
+        String.format(Locale.ROOT, "%.2f", nanos / 1_000),
+        encontrados);
+    for (int i = 0; i < PREFIJOS_COMPROBADOS; i++) {
+      String prefijo = IndiceNombresAlumnos.normalizar(prefijos[i]);
+      List<SugerenciaAlumno> sugerencias = indice.buscar(prefijos[i], 10);
+      assertEquals(Math.min(10, contarCoincidencias(alumnos, prefijo)), sugerencias.size());
+      assertTrue(sugerencias.stream().allMatch(s -> coincide(s, prefijo)), prefijos[i]);
+    }
+  }
+
+  private static long contarCoincidencias(SugerenciaAlumno[] alumnos, String prefijo) {
+    long coincidencias = 0;
+    for (SugerenciaAlumno alumno : alumnos) {
+      if (coincide(alumno, prefijo)) {
+        coincidencias++;
+      }
+    }
+    return coincidencias;
+  }
+
+  private static boolean coincide(SugerenciaAlumno alumno, String prefijo) {
+    return IndiceNombresAlumnos.terminosDe(alumno).stream().anyMatch(t -> t.startsWith(prefijo));
+  }
+}
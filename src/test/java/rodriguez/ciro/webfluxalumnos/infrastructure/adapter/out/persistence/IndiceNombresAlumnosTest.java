@@ -0,0 +1,89 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.SugerenciaAlumno;
+
+class IndiceNombresAlumnosTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private IndiceNombresAlumnos indice;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    indice = new IndiceNombresAlumnos(mock(DatabaseClient.class), meterRegistry);
+    indice.alumnoCreado(new Alumno(1L, "Juan", "Pérez", Alumno.Estado.ACTIVO, 20));
+    indice.alumnoCreado(new Alumno(2L, "Ángela", "Núñez", Alumno.Estado.INACTIVO, 22));
+    indice.alumnoCreado(new Alumno(3L, "Juana", "Paredes", Alumno.Estado.ACTIVO, 30));
+    indice.alumnoCreado(new Alumno(4L, "María José", "Juárez", Alumno.Estado.ACTIVO, 25));
+  }
+
+  @Test
+  void shouldFindByPrefixIgnoringCaseAndAccents() {
+    // When & Then
+    assertEquals(List.of(2L), ids(indice.buscar("ANGE", 10)));
+    assertEquals(List.of(2L), ids(indice.buscar("nun", 10)));
+    assertEquals(List.of(1L), ids(indice.buscar("pé", 10)));
+  }
+
+  @Test
+  void shouldMatchEveryWordAndFullNameInBothOrders() {
+    // When & Then
+    assertEquals(List.of(4L), ids(indice.buscar("jose", 10)));
+    assertEquals(List.of(1L), ids(indice.buscar("juan  pe", 10)));
+    assertEquals(List.of(3L), ids(indice.buscar("paredes j", 10)));
+  }
+
+  @Test
+  void shouldReturnDistinctAlumnosInTermOrderUpToLimit() {
+    // When
+    List<SugerenciaAlumno> sugerencias = indice.buscar("ju", 10);
+
+    // Then - "juan", "juana", "juarez" en orden alfabético, cada alumno una sola vez
+    assertEquals(List.of(1L, 3L, 4L), ids(sugerencias));
+    assertEquals(List.of(1L, 3L), ids(indice.buscar("ju", 2)));
+    assertEquals(new SugerenciaAlumno(1L, "Juan", "Pérez"), sugerencias.get(0));
+  }
+
+  @Test
+  void shouldReturnNothingForUnknownOrBlankText() {
+    // When & Then
+    assertTrue(indice.buscar("xyz", 10).isEmpty());
+    assertTrue(indice.buscar("   ", 10).isEmpty());
+  }
+
+  @Test
+  void shouldNotDuplicateTermsWhenAlumnoIsIndexedTwice() {
+    // Given
+    double antes = meterRegistry.get("alumnos.indice.nombres.terminos").gauge().value();
+
+    // When
+    indice.agregar(new SugerenciaAlumno(1L, "Juan", "Pérez"));
+
+    // Then
+    assertEquals(antes, meterRegistry.get("alumnos.indice.nombres.terminos").gauge().value());
+    assertEquals(List.of(1L), ids(indice.buscar("juan p", 10)));
+  }
+
+  @Test
+  void shouldBuildTermsFromFoldedWords() {
+    // When & Then
+    assertEquals("maria jose", IndiceNombresAlumnos.normalizar("  MARÍA   José "));
+    assertEquals(
+        Set.of("maria", "jose", "juarez", "maria jose juarez", "juarez maria jose"),
+        IndiceNombresAlumnos.terminosDe(new SugerenciaAlumno(4L, "María José", "Juárez")));
+  }
+
+  private static List<Long> ids(List<SugerenciaAlumno> sugerencias) {
+    return sugerencias.stream().map(SugerenciaAlumno::getId).toList();
+  }
+}
@@ -0,0 +1,160 @@
+package rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class LecturasAgrupadasTest {
+
+  private List<Set<Long>> consultas;
+
+  @BeforeEach
+  void setUp() {
+    consultas = new CopyOnWriteArrayList<>();
+  }
+
+  @Test
+  void shouldMergeConcurrentReadsWithinWindowIntoOneQuery() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ofMillis(50), 100);
+
+    // When
+    List<List<String>> resultados =
+        Flux.range(1, 20)
+            .flatMap(id -> lecturas.leer(List.of((long) id)).collectList())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+    // Then
+    assertEquals(1, consultas.size());
+    assertEquals(20, consultas.get(0).size());
+    assertNotNull(resultados);
+    assertEquals(20, resultados.size());
+    resultados.forEach(resultado -> assertEquals(1, resultado.size()));
+  }
+
+  @Test
+  void shouldFanOutOnlyRequestedKeysInRequestedOrder() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ofMillis(50), 100);
+
+    // When & Then
+    StepVerifier.create(
+            lecturas
+                .leer(List.of(3L, 1L, 3L, 99L))
+                .collectList()
+                .zipWith(lecturas.leer(List.of(2L)).collectList()))
+        .assertNext(
+            tupla -> {
+              assertEquals(List.of("alumno-3", "alumno-1"), tupla.getT1());
+              assertEquals(List.of("alumno-2"), tupla.getT2());
+            })
+        .verifyComplete();
+    assertEquals(List.of(Set.of(1L, 2L, 3L, 99L)), consultas);
+  }
+
+  @Test
+  void shouldSendBatchEarlyWhenMaximumIsReached() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ofMinutes(1), 3);
+
+    // When & Then
+    StepVerifier.create(lecturas.leer(List.of(1L, 2L, 3L)))
+        .expectNext("alumno-1", "alumno-2", "alumno-3")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+    assertEquals(1, consultas.size());
+  }
+
+  @Test
+  void shouldSplitReadsLargerThanMaximumIntoSeveralBatches() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ofMinutes(1), 3);
+
+    // When & Then
+    StepVerifier.create(lecturas.leer(List.of(1L, 2L, 3L, 4L, 5L, 6L, 2L)))
+        .expectNext("alumno-1", "alumno-2", "alumno-3", "alumno-4", "alumno-5", "alumno-6")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+    assertEquals(List.of(Set.of(1L, 2L, 3L), Set.of(4L, 5L, 6L)), consultas);
+  }
+
+  @Test
+  void shouldNeverQueryMoreDistinctKeysThanMaximum() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ofMillis(50), 4);
+
+    // When
+    List<List<String>> resultados =
+        Flux.range(0, 10)
+            .flatMap(i -> lecturas.leer(List.of(3L * i + 1, 3L * i + 2, 3L * i + 3)).collectList())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+    // Then
+    assertNotNull(resultados);
+    resultados.forEach(resultado -> assertEquals(3, resultado.size()));
+    consultas.forEach(ids -> assertTrue(ids.size() <= 4, "Consulta con " + ids.size() + " IDs"));
+    assertEquals(30, consultas.stream().mapToInt(Set::size).sum());
+  }
+
+  @Test
+  void shouldSplitReadsLargerThanMaximumWhenWindowIsZero() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ZERO, 2);
+
+    // When & Then
+    StepVerifier.create(lecturas.leer(List.of(5L, 4L, 3L)))
+        .expectNext("alumno-5", "alumno-4", "alumno-3")
+        .verifyComplete();
+    assertEquals(List.of(Set.of(5L, 4L), Set.of(3L)), consultas);
+  }
+
+  @Test
+  void shouldQueryEachReadWhenWindowIsZero() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas = lecturas(Duration.ZERO, 100);
+
+    // When
+    lecturas.leer(List.of(1L)).blockLast();
+    lecturas.leer(List.of(2L)).blockLast();
+
+    // Then
+    assertEquals(List.of(Set.of(1L), Set.of(2L)), consultas);
+  }
+
+  @Test
+  void shouldPropagateQueryErrorToEverySubscriberOfTheBatch() {
+    // Given
+    LecturasAgrupadas<Long, String> lecturas =
+        new LecturasAgrupadas<>(
+            ids -> Flux.error(new IllegalStateException("Base de datos caída")),
+            valor -> 0L,
+            Duration.ofMillis(20),
+            100);
+
+    // When & Then
+    StepVerifier.create(lecturas.leer(List.of(1L)).mergeWith(lecturas.leer(List.of(2L))))
+        .expectErrorMessage("Base de datos caída")
+        .verify(Duration.ofSeconds(5));
+  }
+
+  private LecturasAgrupadas<Long, String> lecturas(Duration ventana, int maximo) {
+    return new LecturasAgrupadas<>(
+        ids -> {
+          consultas.add(ids);
+          // Simula la tabla: existen los IDs del 1 al 50.
+          return Flux.fromIterable(ids).filter(id -> id <= 50).map(id -> "alumno-" + id);
+        },
+        valor -> Long.parseLong(valor.substring("alumno-".length())),
+        ventana,
+        maximo);
+  }
+}
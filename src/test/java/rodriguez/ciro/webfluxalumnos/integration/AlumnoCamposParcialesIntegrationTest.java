@@ -0,0 +1,94 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AlumnoCamposParcialesIntegrationTest {
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @Test
+  void shouldReadOnlyRequestedColumnsInFilteredListing() {
+    // Given - Edad fuera de las del resto de las pruebas para no mezclar resultados
+    alumnoRepositoryPort
+        .saveAll(
+            Flux.just(
+                new Alumno(9_001L, "Parcial", "Uno", Alumno.Estado.INACTIVO, 137),
+                new Alumno(9_002L, "Parcial", "Dos", Alumno.Estado.INACTIVO, 137)))
+        .blockLast();
+    FiltroAlumnos filtro = new FiltroAlumnos(Alumno.Estado.INACTIVO, 137, 137);
+
+    // When
+    List<Alumno> pagina =
+        alumnoRepositoryPort
+            .findAlumnos(filtro, Set.of(CampoAlumno.APELLIDO), null, 10)
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(pagina);
+    assertEquals(List.of(9_001L, 9_002L), pagina.stream().map(Alumno::getId).toList());
+    assertEquals(List.of("Uno", "Dos"), pagina.stream().map(Alumno::getApellido).toList());
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getNombre() == null));
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getEdad() == null));
+  }
+
+  @Test
+  void shouldReadOnlyRequestedColumnsInActivePages() {
+    // When
+    List<Alumno> pagina =
+        alumnoRepositoryPort
+            .findAlumnosActivosPaginados(1, 5, Set.of(CampoAlumno.EDAD))
+            .collectList()
+            .block();
+    List<Alumno> siguiente =
+        alumnoRepositoryPort
+            .findAlumnosActivosDespuesDe(0L, 5, Set.of(CampoAlumno.NOMBRE))
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(pagina);
+    assertFalse(pagina.isEmpty());
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getId() != null));
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getEdad() != null));
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getNombre() == null));
+    assertTrue(pagina.stream().allMatch(alumno -> alumno.getEstado() == null));
+    assertNotNull(siguiente);
+    assertEquals(
+        pagina.stream().map(Alumno::getId).toList(),
+        siguiente.stream().map(Alumno::getId).toList());
+    assertTrue(siguiente.stream().allMatch(alumno -> alumno.getNombre() != null));
+    assertTrue(siguiente.stream().allMatch(alumno -> alumno.getEdad() == null));
+  }
+
+  @Test
+  void shouldExportOnlyRequestedColumns() {
+    // When
+    Alumno primero =
+        alumnoRepositoryPort
+            .streamAlumnosActivos(Set.of(CampoAlumno.NOMBRE, CampoAlumno.EDAD))
+            .blockFirst();
+
+    // Then
+    assertNotNull(primero);
+    assertNotNull(primero.getId());
+    assertNotNull(primero.getNombre());
+    assertNotNull(primero.getEdad());
+    assertNull(primero.getApellido());
+    assertNull(primero.getEstado());
+  }
+}
@@ -0,0 +1,55 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence.AlumnoLecturaPaginada;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AlumnoConsultaPlanIntegrationTest {
+
+  private static final String INDICE_ESTADO_ID = "IDX_ALUMNOS_ESTADO_ID";
+
+  @Autowired private DatabaseClient databaseClient;
+
+  @Test
+  void shouldUseEstadoIdIndexForOffsetPagination() {
+    // Given
+    String query =
+        AlumnoLecturaPaginada.SELECT_ACTIVOS_PAGINADOS.replace("$1", "10").replace("$2", "0");
+
+    // When
+    String plan = explicar(query);
+
+    // Then
+    assertTrue(plan.contains(INDICE_ESTADO_ID), () -> "El plan no usa el índice: " + plan);
+    assertFalse(plan.contains("TABLESCAN"), () -> "El plan recorre toda la tabla: " + plan);
+  }
+
+  @Test
+  void shouldUseEstadoIdIndexForKeysetPagination() {
+    // Given
+    String query =
+        AlumnoLecturaPaginada.SELECT_ACTIVOS_DESPUES_DE.replace("$1", "0").replace("$2", "10");
+
+    // When
+    String plan = explicar(query);
+
+    // Then
+    assertTrue(plan.contains(INDICE_ESTADO_ID), () -> "El plan no usa el índice: " + plan);
+    assertFalse(plan.contains("TABLESCAN"), () -> "El plan recorre toda la tabla: " + plan);
+  }
+
+  private String explicar(String query) {
+    String plan =
+        databaseClient.sql("EXPLAIN " + query).map(row -> row.get(0, String.class)).one().block();
+    assertNotNull(plan);
+    return plan.toUpperCase(Locale.ROOT);
+  }
+}
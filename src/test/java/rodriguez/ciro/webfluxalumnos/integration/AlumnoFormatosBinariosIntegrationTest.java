@@ -0,0 +1,175 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rodriguez.ciro.webfluxalumnos.infrastructure.configuration.CodecConfiguration;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class AlumnoFormatosBinariosIntegrationTest {
+
+  private static final TypeReference<List<Map<String, Object>>> LISTA = new TypeReference<>() {};
+
+  private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+  private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void shouldServeActivePageAsCbor() throws IOException {
+    // When
+    byte[] cuerpo = obtenerPagina(MediaType.APPLICATION_CBOR);
+
+    // Then
+    List<Map<String, Object>> alumnos = cborMapper.readValue(cuerpo, LISTA);
+    assertEquals(3, alumnos.size());
+    assertEquals("ACTIVO", alumnos.get(0).get("estado"));
+  }
+
+  @Test
+  void shouldServeActivePageAsSmile() throws IOException {
+    // When
+    byte[] cuerpo = obtenerPagina(CodecConfiguration.APPLICATION_SMILE);
+
+    // Then
+    List<Map<String, Object>> alumnos = smileMapper.readValue(cuerpo, LISTA);
+    assertEquals(3, alumnos.size());
+  }
+
+  @Test
+  void shouldCreateAlumnoFromCborBody() throws IOException {
+    // Given
+    byte[] cuerpo =
+        cborMapper.writeValueAsBytes(
+            Map.of(
+                "id",
+                4001,
+                "nombre",
+                "Cbor",
+                "apellido",
+                "Binario",
+                "estado",
+                "activo",
+                "edad",
+                30));
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_CBOR)
+        .bodyValue(cuerpo)
+        .exchange()
+        .expectStatus()
+        .isCreated();
+  }
+
+  @Test
+  void shouldRejectInvalidSmileBodyWithSameMessage() throws IOException {
+    // Given
+    byte[] cuerpo =
+        smileMapper.writeValueAsBytes(
+            Map.of(
+                "id", 4002, "nombre", "", "apellido", "Binario", "estado", "ACTIVO", "edad", 30));
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(CodecConfiguration.APPLICATION_SMILE)
+        .bodyValue(cuerpo)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_INVALIDO")
+        .jsonPath("$.mensaje")
+        .isEqualTo("El nombre es obligatorio");
+  }
+
+  @Test
+  void shouldUseDifferentEtagForEachRepresentation() {
+    // When
+    String json = obtenerEtag(MediaType.APPLICATION_JSON);
+    String cbor = obtenerEtag(MediaType.APPLICATION_CBOR);
+    String smile = obtenerEtag(CodecConfiguration.APPLICATION_SMILE);
+
+    // Then
+    assertNotEquals(json, cbor);
+    assertNotEquals(json, smile);
+    assertNotEquals(cbor, smile);
+  }
+
+  @Test
+  void shouldStillReadNdjsonBulkLoadWithBinaryCodecsRegistered() {
+    // Given
+    String cuerpo =
+        """
+        {"id": 13001, "nombre": "Lote", "apellido": "Ndjson", "estado": "ACTIVO", "edad": 20}
+        {"id": 13002, "nombre": "Lote", "apellido": "Ndjson", "estado": "INACTIVO", "edad": 21}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue(cuerpo)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Map.class)
+        .hasSize(2);
+  }
+
+  private String obtenerEtag(MediaType tipo) {
+    String etag =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/activos?page=1&size=3")
+            .accept(tipo)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(byte[].class)
+            .getResponseHeaders()
+            .getETag();
+    assertNotNull(etag);
+    return etag;
+  }
+
+  private byte[] obtenerPagina(MediaType tipo) {
+    byte[] cuerpo =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/activos?page=1&size=3")
+            .accept(tipo)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(tipo)
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(cuerpo);
+    return cuerpo;
+  }
+}
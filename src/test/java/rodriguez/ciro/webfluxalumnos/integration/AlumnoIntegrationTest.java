@@ -2,6 +2,8 @@ package rodriguez.ciro.webfluxalumnos.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.web.CursorPaginacion;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebTestClient
@@ -216,4 +219,157 @@ class AlumnoIntegrationTest {
         .jsonPath("$.length()")
         .isEqualTo(0);
   }
+
+  @Test
+  void shouldPaginateWithCursor() {
+    // Given - Primera página por offset, que entrega el cursor de la siguiente
+    String cursor =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/activos?page=1&size=2")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(Object.class)
+            .getResponseHeaders()
+            .getFirst(CursorPaginacion.HEADER_SIGUIENTE_CURSOR);
+    assertNotNull(cursor);
+
+    // When & Then - La siguiente página por keyset continúa después del último ID
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?size=2&after=" + cursor)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.length()")
+        .isEqualTo(2)
+        .jsonPath("$[0].id")
+        .isEqualTo(4)
+        .jsonPath("$[1].id")
+        .isEqualTo(6);
+  }
+
+  @Test
+  void shouldBulkLoadAlumnosReportingEachOutcome() {
+    // Given - Un alumno nuevo, uno repetido en el mismo envío, uno existente y uno inválido
+    String requestBody =
+        """
+        {"id": 2001, "nombre": "Bulk", "apellido": "Nuevo", "estado": "ACTIVO", "edad": 20}
+        {"id": 2001, "nombre": "Bulk", "apellido": "Repetido", "estado": "ACTIVO", "edad": 20}
+        {"id": 1, "nombre": "Juan", "apellido": "Perez", "estado": "ACTIVO", "edad": 20}
+        {"id": 2002, "nombre": "", "apellido": "Invalido", "estado": "ACTIVO", "edad": 20}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos/bulk")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .accept(MediaType.APPLICATION_NDJSON)
+        .bodyValue(requestBody)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Map.class)
+        .hasSize(4)
+        .value(
+            resultados -> {
+              List<Object> tipos = resultados.stream().map(r -> r.get("resultado")).toList();
+              assertEquals(1, tipos.stream().filter("CREADO"::equals).count());
+              assertEquals(2, tipos.stream().filter("DUPLICADO"::equals).count());
+              assertEquals(1, tipos.stream().filter("INVALIDO"::equals).count());
+            });
+
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?size=1&after=" + CursorPaginacion.codificar(2000L))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$[0].id")
+        .isEqualTo(2001)
+        .jsonPath("$[0].apellido")
+        .isEqualTo("Nuevo");
+  }
+
+  @Test
+  void shouldExportAllAlumnosActivosAsNdjson() {
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos/stream")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(Map.class)
+        .value(
+            alumnos -> {
+              assertTrue(alumnos.size() >= 7);
+              assertTrue(alumnos.stream().allMatch(a -> "ACTIVO".equals(a.get("estado"))));
+            });
+  }
+
+  @Test
+  void shouldReturnTotalCountOfActiveAlumnos() {
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?size=1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .value("X-Total-Count", total -> assertTrue(Long.parseLong(total) >= 7));
+  }
+
+  @Test
+  void shouldAnswerNotModifiedUntilAnAlumnoIsSaved() {
+    // Given
+    String etag =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/activos?page=1&size=3")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(Object.class)
+            .getResponseHeaders()
+            .getETag();
+    assertNotNull(etag);
+
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=1&size=3")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus()
+        .isNotModified();
+
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(
+            """
+            {"id": 12001, "nombre": "Version", "apellido": "Nueva", "estado": "INACTIVO", "edad": 30}
+            """)
+        .exchange()
+        .expectStatus()
+        .isCreated();
+
+    webTestClient
+        .get()
+        .uri("/api/alumnos/activos?page=1&size=3")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .value("ETag", nuevo -> assertNotEquals(etag, nuevo));
+  }
 }
@@ -0,0 +1,92 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.CampoAlumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.FiltroAlumnos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AlumnoListadoFiltradoIntegrationTest {
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @Autowired private DatabaseClient databaseClient;
+
+  @Test
+  void shouldWalkFilteredResultsByCursorWithoutGapsOrRepeats() {
+    // Given - Edades fuera de las del resto de las pruebas para no mezclar resultados
+    alumnoRepositoryPort
+        .saveAll(
+            Flux.just(
+                new Alumno(8_001L, "Filtro", "Uno", Alumno.Estado.INACTIVO, 141),
+                new Alumno(8_002L, "Filtro", "Dos", Alumno.Estado.ACTIVO, 142),
+                new Alumno(8_003L, "Filtro", "Tres", Alumno.Estado.INACTIVO, 143),
+                new Alumno(8_004L, "Filtro", "Cuatro", Alumno.Estado.INACTIVO, 144),
+                new Alumno(8_005L, "Filtro", "Cinco", Alumno.Estado.INACTIVO, 149)))
+        .blockLast();
+    FiltroAlumnos filtro = new FiltroAlumnos(Alumno.Estado.INACTIVO, 141, 145);
+
+    // When
+    List<Long> ids = new ArrayList<>();
+    Long ultimoId = null;
+    List<Alumno> pagina;
+    do {
+      pagina =
+          alumnoRepositoryPort
+              .findAlumnos(filtro, CampoAlumno.TODOS, ultimoId, 2)
+              .collectList()
+              .block();
+      assertNotNull(pagina);
+      pagina.forEach(alumno -> ids.add(alumno.getId()));
+      ultimoId = pagina.isEmpty() ? ultimoId : pagina.get(pagina.size() - 1).getId();
+    } while (pagina.size() == 2);
+
+    // Then
+    assertEquals(List.of(8_001L, 8_003L, 8_004L), ids);
+  }
+
+  @Test
+  void shouldListFromTheStartWithoutFilters() {
+    // When
+    List<Alumno> pagina =
+        alumnoRepositoryPort
+            .findAlumnos(FiltroAlumnos.sinFiltros(), CampoAlumno.TODOS, null, 3)
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(pagina);
+    assertEquals(List.of(1L, 2L, 3L), pagina.stream().map(Alumno::getId).toList());
+  }
+
+  @Test
+  void shouldCreateIndexesForFilteredListing() {
+    // When
+    List<String> indices =
+        databaseClient
+            .sql(
+                "SELECT index_name FROM information_schema.indexes"
+                    + " WHERE table_name = 'ALUMNOS'")
+            .map(row -> row.get(0, String.class).toUpperCase(Locale.ROOT))
+            .all()
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(indices);
+    assertTrue(indices.contains("IDX_ALUMNOS_ESTADO_EDAD_ID"), () -> "Índices: " + indices);
+    assertTrue(indices.contains("IDX_ALUMNOS_EDAD_ID"), () -> "Índices: " + indices);
+  }
+}
@@ -0,0 +1,88 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AlumnoPorIdIntegrationTest {
+
+  private static final ParameterizedTypeReference<Map<String, Object>> ALUMNO =
+      new ParameterizedTypeReference<>() {};
+
+  @LocalServerPort private int port;
+
+  @Autowired private AlumnoRepositoryPort alumnoRepository;
+
+  @Test
+  void shouldGetAlumnoByIdAndReportMissingOnes() {
+    // Given
+    WebClient webClient = WebClient.create("http://localhost:" + port);
+
+    // When
+    Map<String, Object> alumno =
+        webClient.get().uri("/api/alumnos/1").retrieve().bodyToMono(ALUMNO).block();
+    int estadoInexistente =
+        webClient
+            .get()
+            .uri("/api/alumnos/987654")
+            .exchangeToMono(respuesta -> respuesta.releaseBody().thenReturn(respuesta))
+            .map(respuesta -> respuesta.statusCode().value())
+            .block();
+
+    // Then
+    assertNotNull(alumno);
+    assertEquals(1, ((Number) alumno.get("id")).intValue());
+    assertEquals(404, estadoInexistente);
+  }
+
+  @Test
+  void shouldGetSeveralAlumnosInRequestedOrder() {
+    // Given
+    WebClient webClient = WebClient.create("http://localhost:" + port);
+
+    // When
+    List<Map<String, Object>> alumnos =
+        webClient
+            .get()
+            .uri("/api/alumnos?ids=3,1,987654,2")
+            .retrieve()
+            .bodyToFlux(ALUMNO)
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(alumnos);
+    assertEquals(
+        List.of(3, 1, 2),
+        alumnos.stream().map(alumno -> ((Number) alumno.get("id")).intValue()).toList());
+  }
+
+  @Test
+  void shouldResolveConcurrentLookupsEachToItsOwnAlumno() {
+    // When
+    List<Alumno> alumnos =
+        Flux.range(1, 10)
+            .repeat(4)
+            .flatMap(id -> alumnoRepository.findAllById(List.of((long) id)), 50)
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(alumnos);
+    assertEquals(50, alumnos.size());
+    assertEquals(5, alumnos.stream().filter(alumno -> alumno.getId() == 7L).count());
+  }
+}
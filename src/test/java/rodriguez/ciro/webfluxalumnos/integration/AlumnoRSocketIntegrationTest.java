@@ -0,0 +1,149 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.rsocket.exceptions.ApplicationErrorException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.rsocket.AlumnoRSocketController;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AlumnoRSocketIntegrationTest {
+
+  private static final ParameterizedTypeReference<Map<String, Object>> ALUMNO =
+      new ParameterizedTypeReference<>() {};
+
+  @Autowired private RSocketRequester.Builder requesterBuilder;
+
+  @LocalRSocketServerPort private int port;
+
+  private RSocketRequester requester;
+
+  @BeforeEach
+  void setUp() {
+    requester = requesterBuilder.tcp("localhost", port);
+  }
+
+  @AfterEach
+  void tearDown() {
+    requester.dispose();
+  }
+
+  @Test
+  void shouldCreateAlumnoWithRequestResponse() {
+    // When
+    requester
+        .route(AlumnoRSocketController.RUTA_CREAR)
+        .data(alumno(5001, "Rsocket", "activo"))
+        .retrieveMono(Void.class)
+        .block(Duration.ofSeconds(5));
+
+    // Then
+    assertTrue(
+        activos().stream().anyMatch(alumno -> ((Number) alumno.get("id")).intValue() == 5001));
+  }
+
+  @Test
+  void shouldReturnSameValidationMessagesAsRest() {
+    // When & Then
+    StepVerifier.create(
+            requester
+                .route(AlumnoRSocketController.RUTA_CREAR)
+                .data(alumno(5003, "Rsocket", "SUSPENDIDO"))
+                .retrieveMono(Void.class))
+        .expectErrorSatisfies(
+            ex -> {
+              assertInstanceOf(ApplicationErrorException.class, ex);
+              assertEquals("El estado debe ser ACTIVO o INACTIVO", ex.getMessage());
+            })
+        .verify(Duration.ofSeconds(5));
+    StepVerifier.create(
+            requester
+                .route(AlumnoRSocketController.RUTA_CREAR)
+                .data(alumno(1, "Juan", "ACTIVO"))
+                .retrieveMono(Void.class))
+        .expectErrorMessage("Ya existe un alumno con el ID: 1")
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldAnswerMalformedOrUnexpectedBodiesLikeRest() {
+    // When & Then
+    StepVerifier.create(
+            requester
+                .route(AlumnoRSocketController.RUTA_CREAR)
+                .data("{\"nombre\": \"Ana\"")
+                .retrieveMono(Void.class))
+        .expectErrorMessage("Error en el formato de los datos enviados")
+        .verify(Duration.ofSeconds(5));
+    StepVerifier.create(
+            requester
+                .route(AlumnoRSocketController.RUTA_CREAR)
+                .data(Map.of("nombre", "Ana", "apellido", "Rios", "estado", "ACTIVO", "edad", true))
+                .retrieveMono(Void.class))
+        .expectErrorMessage("Error en el formato de los datos enviados")
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldRegisterAlumnoWithFireAndForget() throws InterruptedException {
+    // When
+    requester
+        .route(AlumnoRSocketController.RUTA_REGISTRAR)
+        .data(alumno(5002, "Rsocket", "ACTIVO"))
+        .send()
+        .block(Duration.ofSeconds(5));
+
+    // Then - Se consulta hasta que aparece
+    Instant limite = Instant.now().plus(Duration.ofSeconds(10));
+    boolean registrado = false;
+    while (!registrado && Instant.now().isBefore(limite)) {
+      registrado =
+          activos().stream().anyMatch(alumno -> ((Number) alumno.get("id")).intValue() == 5002);
+      Thread.sleep(50);
+    }
+    assertTrue(registrado);
+  }
+
+  @Test
+  void shouldStreamActiveAlumnosHonouringClientDemand() {
+    // When & Then
+    StepVerifier.create(
+            requester.route(AlumnoRSocketController.RUTA_ACTIVOS).retrieveFlux(ALUMNO), 2)
+        .assertNext(alumno -> assertEquals("ACTIVO", alumno.get("estado")))
+        .assertNext(alumno -> assertEquals("ACTIVO", alumno.get("estado")))
+        .expectNoEvent(Duration.ofMillis(200))
+        .thenRequest(1)
+        .assertNext(alumno -> assertEquals("ACTIVO", alumno.get("estado")))
+        .thenCancel()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  private List<Map<String, Object>> activos() {
+    List<Map<String, Object>> alumnos =
+        requester
+            .route(AlumnoRSocketController.RUTA_ACTIVOS)
+            .retrieveFlux(ALUMNO)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+    assertNotNull(alumnos);
+    return alumnos;
+  }
+
+  private static Map<String, Object> alumno(long id, String nombre, String estado) {
+    return Map.of("id", id, "nombre", nombre, "apellido", "Prueba", "estado", estado, "edad", 30);
+  }
+}
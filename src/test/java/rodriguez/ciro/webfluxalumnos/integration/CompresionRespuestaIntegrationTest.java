@@ -0,0 +1,76 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class CompresionRespuestaIntegrationTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void shouldGzipStreamedExport() throws IOException {
+    // When
+    byte[] cuerpo =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/activos/stream")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+    // Then
+    assertNotNull(cuerpo);
+    try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(cuerpo))) {
+      String ndjson = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+      assertTrue(ndjson.lines().count() >= 7);
+      assertTrue(ndjson.lines().allMatch(linea -> linea.contains("\"estado\":\"ACTIVO\"")));
+    }
+  }
+
+  @Test
+  void shouldNotCompressSmallConflictBody() {
+    // Given
+    String existente =
+        """
+        {"id": 1, "nombre": "Juan", "apellido": "Pérez", "estado": "ACTIVO", "edad": 25}
+        """;
+
+    // When & Then
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+        .bodyValue(existente)
+        .exchange()
+        .expectStatus()
+        .isEqualTo(409)
+        .expectHeader()
+        .doesNotExist(HttpHeaders.CONTENT_ENCODING)
+        .expectBody()
+        .jsonPath("$.codigo")
+        .isEqualTo("ALUMNO_YA_EXISTE");
+  }
+}
@@ -0,0 +1,60 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ContadorAlumnosActivosIntegrationTest {
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @Test
+  void shouldCountAtLeastTheSeededActiveAlumnos() {
+    // When & Then
+    assertTrue(alumnoRepositoryPort.contarAlumnosActivos().block() >= 7);
+  }
+
+  @Test
+  void shouldIncrementOnlyWhenActiveAlumnoIsSaved() {
+    // Given
+    long inicial = alumnoRepositoryPort.contarAlumnosActivos().block();
+
+    // When
+    alumnoRepositoryPort
+        .save(new Alumno(11_001L, "Conteo", "Activo", Alumno.Estado.ACTIVO, 20))
+        .block();
+    alumnoRepositoryPort
+        .save(new Alumno(11_002L, "Conteo", "Inactivo", Alumno.Estado.INACTIVO, 20))
+        .block();
+
+    // Then
+    assertEquals(inicial + 1, alumnoRepositoryPort.contarAlumnosActivos().block());
+  }
+
+  @Test
+  void shouldIncrementForActiveAlumnosCreatedInBulk() {
+    // Given
+    long inicial = alumnoRepositoryPort.contarAlumnosActivos().block();
+
+    // When
+    alumnoRepositoryPort
+        .saveAll(
+            Flux.just(
+                new Alumno(11_101L, "Lote", "Uno", Alumno.Estado.ACTIVO, 20),
+                new Alumno(11_102L, "Lote", "Dos", Alumno.Estado.ACTIVO, 21),
+                new Alumno(11_103L, "Lote", "Tres", Alumno.Estado.INACTIVO, 22),
+                new Alumno(1L, "Lote", "Duplicado", Alumno.Estado.ACTIVO, 23)))
+        .blockLast();
+
+    // Then
+    assertEquals(inicial + 2, alumnoRepositoryPort.contarAlumnosActivos().block());
+  }
+}
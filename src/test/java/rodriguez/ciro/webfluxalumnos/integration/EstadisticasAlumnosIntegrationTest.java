@@ -0,0 +1,60 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.domain.model.EstadisticasAlumnos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class EstadisticasAlumnosIntegrationTest {
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @Test
+  void shouldCountAtLeastTheSeededAlumnos() {
+    // When
+    EstadisticasAlumnos estadisticas = alumnoRepositoryPort.obtenerEstadisticas().block();
+
+    // Then
+    assertNotNull(estadisticas);
+    assertTrue(estadisticas.contar(Alumno.Estado.ACTIVO) >= 7);
+    assertTrue(estadisticas.getTotal() >= 10);
+  }
+
+  @Test
+  void shouldAddSingleAndBulkCreationsToTheirAgeRange() {
+    // Given - Rango de 35 a 49 años con los límites por defecto
+    EstadisticasAlumnos inicial = alumnoRepositoryPort.obtenerEstadisticas().block();
+
+    // When
+    alumnoRepositoryPort
+        .save(new Alumno(7_001L, "Estadistica", "Inactivo", Alumno.Estado.INACTIVO, 40))
+        .block();
+    alumnoRepositoryPort
+        .saveAll(
+            Flux.just(
+                new Alumno(7_002L, "Estadistica", "Lote", Alumno.Estado.ACTIVO, 35),
+                new Alumno(7_003L, "Estadistica", "Lote", Alumno.Estado.ACTIVO, 49),
+                new Alumno(1L, "Estadistica", "Duplicado", Alumno.Estado.ACTIVO, 40)))
+        .blockLast();
+
+    // Then
+    EstadisticasAlumnos actual = alumnoRepositoryPort.obtenerEstadisticas().block();
+    assertNotNull(inicial);
+    assertNotNull(actual);
+    assertEquals(inicial.getTotal() + 3, actual.getTotal());
+    EstadisticasAlumnos.RangoEdad antes = inicial.getPorRangoEdad().get(3);
+    EstadisticasAlumnos.RangoEdad despues = actual.getPorRangoEdad().get(3);
+    assertEquals(35, despues.getDesde());
+    assertEquals(49, despues.getHasta());
+    assertEquals(antes.contar(Alumno.Estado.ACTIVO) + 2, despues.contar(Alumno.Estado.ACTIVO));
+    assertEquals(antes.contar(Alumno.Estado.INACTIVO) + 1, despues.contar(Alumno.Estado.INACTIVO));
+  }
+}
@@ -0,0 +1,79 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.domain.model.Alumno;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.out.persistence.FiltroIdsAlumnos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class FiltroIdsAlumnosIntegrationTest {
+
+  @Autowired private FiltroIdsAlumnos filtroIds;
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    // La carga de arranque es asíncrona; se repite aquí para no depender de su tiempo.
+    filtroIds.cargar().block();
+  }
+
+  @Test
+  void shouldLoadExistingIds() {
+    // When & Then
+    assertTrue(filtroIds.cargar().block() >= 10);
+  }
+
+  @Test
+  void shouldTreatSeededIdsAsPossiblyExisting() {
+    // When & Then
+    for (long id = 1; id <= 10; id++) {
+      assertTrue(filtroIds.podriaExistir(id), "El ID sembrado " + id + " no está en el filtro");
+    }
+  }
+
+  @Test
+  void shouldTreatMissingIdAsNotExisting() {
+    // When & Then
+    assertFalse(filtroIds.podriaExistir(null));
+  }
+
+  @Test
+  void shouldAnswerExistsByIdFromFilterAndDatabase() {
+    // When & Then
+    assertEquals(Boolean.TRUE, alumnoRepositoryPort.existsById(1L).block());
+    assertEquals(Boolean.FALSE, alumnoRepositoryPort.existsById(987_654_321L).block());
+  }
+
+  @Test
+  void shouldRegisterIdOnSave() {
+    // Given
+    Alumno alumno = new Alumno(9_009L, "Filtro", "Bloom", Alumno.Estado.INACTIVO, 30);
+
+    // When
+    alumnoRepositoryPort.save(alumno).block();
+
+    // Then
+    assertTrue(filtroIds.podriaExistir(9_009L));
+    assertEquals(Boolean.TRUE, alumnoRepositoryPort.existsById(9_009L).block());
+  }
+
+  @Test
+  void shouldExposeMemoryAndFalsePositiveMetrics() {
+    // When & Then
+    assertTrue(meterRegistry.get("alumnos.filtro.ids.memoria").gauge().value() > 0);
+    assertTrue(meterRegistry.get("alumnos.filtro.ids.fpp").gauge().value() < 0.01);
+    assertNotNull(
+        meterRegistry.get("alumnos.filtro.ids.consultas").tag("resultado", "ausente").counter());
+  }
+}
@@ -0,0 +1,93 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ImportacionAlumnosIntegrationTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void shouldImportCsvInBackgroundAndReportProgress() throws InterruptedException {
+    // Given
+    String csv =
+        """
+        id,nombre,apellido,estado,edad
+        3001,Importado,Uno,ACTIVO,20
+        3002,Importado,Dos,INACTIVO,21
+        1,Juan,Perez,ACTIVO,20
+        3003,,SinNombre,ACTIVO,22
+        """;
+
+    // When - Se inicia la importación
+    Map<?, ?> iniciada =
+        webTestClient
+            .post()
+            .uri("/api/alumnos/importaciones")
+            .contentType(MediaType.parseMediaType("text/csv"))
+            .bodyValue(csv)
+            .exchange()
+            .expectStatus()
+            .isAccepted()
+            .expectBody(Map.class)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(iniciada);
+    assertEquals(4, iniciada.get("totalFilas"));
+    String id = (String) iniciada.get("id");
+
+    // Then - Se consulta hasta que termina
+    Map<?, ?> estado = consultar(id);
+    Instant limite = Instant.now().plus(Duration.ofSeconds(10));
+    while ("EN_CURSO".equals(estado.get("estado")) && Instant.now().isBefore(limite)) {
+      Thread.sleep(50);
+      estado = consultar(id);
+    }
+
+    assertEquals("COMPLETADA", estado.get("estado"));
+    assertEquals(4, estado.get("filasProcesadas"));
+    assertEquals(2, estado.get("creados"));
+    assertEquals(1, estado.get("duplicados"));
+    assertEquals(1, estado.get("invalidos"));
+    assertEquals(100.0, estado.get("progreso"));
+  }
+
+  @Test
+  void shouldReturnNotFoundForUnknownImport() {
+    // When & Then
+    webTestClient
+        .get()
+        .uri("/api/alumnos/importaciones/desconocida")
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+
+  private Map<?, ?> consultar(String id) {
+    Map<?, ?> estado =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/importaciones/" + id)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(Map.class)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(estado);
+    return estado;
+  }
+}
@@ -0,0 +1,172 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rodriguez.ciro.webfluxalumnos.application.port.out.AlumnoRepositoryPort;
+import rodriguez.ciro.webfluxalumnos.infrastructure.adapter.in.rsocket.AlumnoRSocketController;
+
+/**
+ * Compara dentro de la misma JVM el throughput de las rutas RSocket con sus equivalentes REST:
+ * creación por request-response frente a {@code POST /api/alumnos} y request-stream frente a la
+ * exportación NDJSON. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RSocketRestBenchmarkTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(RSocketRestBenchmarkTest.class);
+
+  private static final int CREACIONES = 5_000;
+  private static final int CONCURRENCIA = 64;
+  private static final int EXPORTACIONES = 200;
+  private static final long PRIMER_ID_REST = 1_000_000;
+  private static final long PRIMER_ID_RSOCKET = 2_000_000;
+
+  @Autowired private RSocketRequester.Builder requesterBuilder;
+
+  @Autowired private AlumnoRepositoryPort alumnoRepositoryPort;
+
+  @LocalServerPort private int port;
+
+  @LocalRSocketServerPort private int rsocketPort;
+
+  private RSocketRequester requester;
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    requester = requesterBuilder.tcp("localhost", rsocketPort);
+    webClient = WebClient.builder().baseUrl("http://localhost:" + port).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    requester.dispose();
+  }
+
+  @Test
+  void compareCreationThroughput() {
+    // Given
+    long activosAntes = alumnoRepositoryPort.contarAlumnosActivos().block();
+
+    // When
+    medirCreaciones(
+        "REST",
+        PRIMER_ID_REST,
+        id ->
+            webClient
+                .post()
+                .uri("/api/alumnos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(alumno(id))
+                .retrieve()
+                .toBodilessEntity()
+                .then());
+    medirCreaciones(
+        "RSocket",
+        PRIMER_ID_RSOCKET,
+        id ->
+            requester
+                .route(AlumnoRSocketController.RUTA_CREAR)
+                .data(alumno(id))
+                .retrieveMono(Void.class));
+
+    // Then - Cada transporte creó todos sus alumnos
+    assertEquals(
+        activosAntes + 2L * CREACIONES, alumnoRepositoryPort.contarAlumnosActivos().block());
+  }
+
+  @Test
+  void compareExportThroughput() {
+    // When
+    long porRest =
+        medirExportaciones(
+            "REST",
+            () ->
+                webClient
+                    .get()
+                    .uri("/api/alumnos/activos/stream")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .retrieve()
+                    .bodyToFlux(Map.class)
+                    .count());
+    long porRSocket =
+        medirExportaciones(
+            "RSocket",
+            () ->
+                requester
+                    .route(AlumnoRSocketController.RUTA_ACTIVOS)
+                    .retrieveFlux(Map.class)
+                    .count());
+
+    // Then
+    assertTrue(porRest > 0);
+    assertEquals(porRest, porRSocket);
+  }
+
+  private void medirCreaciones(String transporte, long primerId, LongFunction<Mono<Void>> crear) {
+    // La primera mitad de las creaciones calienta el JIT y no se mide.
+    Flux.range(0, CREACIONES / 2)
+        .flatMap(i -> crear.apply(primerId + i), CONCURRENCIA)
+        .blockLast(Duration.ofMinutes(1));
+    long inicio = System.nanoTime();
+    Flux.range(CREACIONES / 2, CREACIONES / 2)
+        .flatMap(i -> crear.apply(primerId + i), CONCURRENCIA)
+        .blockLast(Duration.ofMinutes(1));
+    double segundos = (System.nanoTime() - inicio) / 1e9;
+    logger.info(
+        "{}, creación con {} en vuelo: {} alumnos/s",
+        transporte,
+        CONCURRENCIA,
+        String.format(Locale.ROOT, "%.0f", (CREACIONES / 2) / segundos));
+  }
+
+  /** Devuelve cuántos alumnos entregó la última exportación. */
+  private long medirExportaciones(String transporte, Supplier<Mono<Long>> exportar) {
+    long ultima = 0;
+    long alumnos = 0;
+    long nanos = 0;
+    for (int i = -EXPORTACIONES; i < EXPORTACIONES; i++) {
+      long inicio = System.nanoTime();
+      Long exportados = exportar.get().block(Duration.ofMinutes(1));
+      assertNotNull(exportados);
+      ultima = exportados;
+      if (i >= 0) {
+        nanos += System.nanoTime() - inicio;
+        alumnos += exportados;
+      }
+    }
+    logger.info(
+        "{}, exportación de activos: {} alumnos/s",
+        transporte,
+        String.format(Locale.ROOT, "%.0f", alumnos / (nanos / 1e9)));
+    return ultima;
+  }
+
+  private static Map<String, Object> alumno(long id) {
+    return Map.of(
+        "id", id, "nombre", "Nombre" + id, "apellido", "Apellido", "estado", "ACTIVO", "edad", 30);
+  }
+}
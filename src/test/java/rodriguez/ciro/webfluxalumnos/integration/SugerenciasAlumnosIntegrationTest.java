@@ -0,0 +1,81 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class SugerenciasAlumnosIntegrationTest {
+
+  private static final ParameterizedTypeReference<List<Map<String, Object>>> SUGERENCIAS =
+      new ParameterizedTypeReference<>() {};
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void shouldSuggestSeededAndNewlyCreatedAlumnos() throws InterruptedException {
+    // Given - El índice se carga en segundo plano al arrancar
+    assertTrue(esperarSugerencia("juan pe", 1));
+
+    // When
+    webTestClient
+        .post()
+        .uri("/api/alumnos")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(
+            """
+            {"id": 6001, "nombre": "Ángela", "apellido": "Núñez", "estado": "ACTIVO", "edad": 21}
+            """)
+        .exchange()
+        .expectStatus()
+        .isCreated();
+
+    // Then - La nueva alumna se encuentra sin acentos ni mayúsculas
+    List<Map<String, Object>> sugerencias = sugerir("NUNEZ an");
+    assertEquals(1, sugerencias.size());
+    assertEquals(6001, ((Number) sugerencias.get(0).get("id")).intValue());
+    assertEquals("Ángela", sugerencias.get(0).get("nombre"));
+  }
+
+  private boolean esperarSugerencia(String texto, long id) throws InterruptedException {
+    Instant limite = Instant.now().plus(Duration.ofSeconds(10));
+    while (Instant.now().isBefore(limite)) {
+      boolean encontrado =
+          sugerir(texto).stream()
+              .anyMatch(sugerencia -> ((Number) sugerencia.get("id")).longValue() == id);
+      if (encontrado) {
+        return true;
+      }
+      Thread.sleep(50);
+    }
+    return false;
+  }
+
+  private List<Map<String, Object>> sugerir(String texto) {
+    List<Map<String, Object>> sugerencias =
+        webTestClient
+            .get()
+            .uri("/api/alumnos/sugerencias?q={q}", texto)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(SUGERENCIAS)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(sugerencias);
+    return sugerencias;
+  }
+}
@@ -0,0 +1,75 @@
+package rodriguez.ciro.webfluxalumnos.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpVersion;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "h2c"})
+class TransporteH2cIntegrationTest {
+
+  private static final int PETICIONES = 20;
+
+  @LocalServerPort private int port;
+
+  @Test
+  void shouldMultiplexConcurrentRequestsOverOneConnection() {
+    // Given
+    Set<String> conexiones = ConcurrentHashMap.newKeySet();
+    Set<HttpVersion> versiones = ConcurrentHashMap.newKeySet();
+    ConnectionProvider unaConexion = ConnectionProvider.builder("h2c").maxConnections(1).build();
+    HttpClient httpClient =
+        HttpClient.create(unaConexion)
+            .protocol(HttpProtocol.H2C)
+            .doOnRequest((peticion, conexion) -> conexiones.add(conexionTcp(conexion.channel())))
+            .doOnResponse((respuesta, conexion) -> versiones.add(respuesta.version()));
+    WebClient webClient =
+        WebClient.builder()
+            .baseUrl("http://localhost:" + port)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+
+    // When
+    List<ResponseEntity<String>> respuestas =
+        Flux.range(1, PETICIONES)
+            .flatMap(
+                pagina ->
+                    webClient
+                        .get()
+                        .uri("/api/alumnos/activos?page={page}&size=1", pagina % 5 + 1)
+                        .retrieve()
+                        .toEntity(String.class),
+                PETICIONES)
+            .collectList()
+            .block();
+
+    // Then
+    assertNotNull(respuestas);
+    assertEquals(PETICIONES, respuestas.size());
+    assertTrue(respuestas.stream().allMatch(r -> r.getStatusCode().is2xxSuccessful()));
+    assertEquals(Set.of(HttpVersion.valueOf("HTTP/2.0")), versiones);
+    assertEquals(1, conexiones.size(), () -> "Conexiones TCP usadas: " + conexiones);
+    unaConexion.disposeLater().block();
+  }
+
+  /** En HTTP/2 cada petición viaja en un canal hijo (stream) de la conexión TCP. */
+  private static String conexionTcp(Channel canal) {
+    Channel tcp = canal.parent() != null ? canal.parent() : canal;
+    return tcp.id().asLongText();
+  }
+}